@@ -0,0 +1,275 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection;
+
+import com.amilesend.client.connection.retry.RetryStrategy;
+import com.amilesend.client.jfr.ExecuteEvent;
+import com.amilesend.client.jfr.RetryAttemptEvent;
+import com.amilesend.client.jfr.RetryDelayEvent;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.amilesend.client.connection.retry.RetryStrategy.NO_RETRY;
+
+/**
+ * Drives a single asynchronous request that is enqueued with the {@link OkHttpClient} dispatcher. Retries are
+ * determined by the configured {@link RetryStrategy} and scheduled on a shared timer so that no thread is parked
+ * while waiting for the next attempt. Cancelling the returned future cancels the in-flight {@link Call} and any
+ * pending retry.
+ *
+ * @param <T> the result type
+ */
+@RequiredArgsConstructor
+@Slf4j
+class AsyncRetriableCall<T> implements Callback {
+    /** The shared timer used to schedule retry and hedge attempts for all asynchronous calls. */
+    static final ScheduledExecutorService TIMER = newTimer();
+
+    /** The connection that provides the client and retry strategy, and notifies the retry listener. */
+    @NonNull
+    private final Connection<?> connection;
+    @NonNull
+    private final Request request;
+    /** Converts the successful response to the result (i.e., parses the body). */
+    @NonNull
+    private final ResponseHandler<T> responseHandler;
+
+    private final CompletableFuture<T> future = new CompletableFuture<>();
+    /** Cancels the in-flight attempt (either a {@link Call} or a {@link HedgedCall}). */
+    private final AtomicReference<Runnable> currentAttemptCanceller = new AtomicReference<>();
+    private final AtomicReference<ScheduledFuture<?>> pendingRetry = new AtomicReference<>();
+    // Attempts are sequential and handed off via the dispatcher or timer, so no additional locking is needed.
+    private final List<Exception> exceptions = new ArrayList<>();
+    private volatile int attempts;
+    private volatile long totalDelayMs;
+    private volatile RetryAttemptEvent attemptEvent;
+    private volatile long attemptStartNanos;
+    private volatile ConcurrencyLimiter.Permit permit;
+    /** The request of the in-flight attempt, as returned by {@link RetryStrategy#beforeAttempt(Request)}. */
+    private volatile Request attemptRequest;
+
+    /**
+     * Starts the call.
+     *
+     * @return the future that completes with the result, or exceptionally with a {@link ConnectionException}
+     */
+    CompletableFuture<T> start() {
+        final ExecuteEvent event = ExecuteEvent.start(request);
+        future.whenComplete((result, ex) -> {
+            event.finish(result instanceof Response ? ((Response) result).code() : 0, attempts, ex == null);
+            if (future.isCancelled()) {
+                cancel();
+            }
+        });
+        enqueue();
+        return future;
+    }
+
+    @Override
+    public void onFailure(@NonNull final Call call, @NonNull final IOException ex) {
+        attemptEvent.finish(0, ex);
+        Connection.releasePermit(permit, 0, ex);
+        if (call.isCanceled()) {
+            connection.getRetryStrategy().onAttemptCanceled(attemptRequest);
+        } else {
+            connection.getRetryStrategy().afterAttempt(attemptRequest, 0, ex, System.nanoTime() - attemptStartNanos);
+        }
+        handleFailure(ex);
+    }
+
+    @Override
+    public void onResponse(@NonNull final Call call, @NonNull final Response received) {
+        attemptEvent.finish(received.code(), null);
+        connection.getRetryStrategy().afterAttempt(
+                attemptRequest, received.code(), null, System.nanoTime() - attemptStartNanos);
+        final Response response = PermitReleasingResponseBody.wrap(received, permit);
+        if (future.isDone()) {
+            // Cancelled while the response was in-flight
+            response.close();
+            return;
+        }
+
+        try {
+            if (!RevalidatingCache.isNotModified(request, response)) {
+                connection.getRetryStrategy().validateResponseCode(response);
+            }
+        } catch (final ConnectionException ex) {
+            response.close();
+            handleFailure(ex);
+            return;
+        }
+
+        connection.notifyComplete(request, attempts, totalDelayMs, null);
+        try {
+            final T result = responseHandler.handle(response);
+            if (!future.complete(result) && result instanceof Response) {
+                // The future was cancelled while the response was in-flight
+                ((Response) result).close();
+            }
+        } catch (final Exception ex) {
+            response.close();
+            future.completeExceptionally(ex);
+        }
+    }
+
+    private void enqueue() {
+        if (future.isDone()) {
+            return;
+        }
+
+        ++attempts;
+        final ConcurrencyLimiter limiter = connection.getConcurrencyLimiter();
+        if (Objects.isNull(limiter)) {
+            startAttempt(null);
+            return;
+        }
+
+        // Wait for the concurrency limit without blocking a thread
+        final CompletableFuture<ConcurrencyLimiter.Permit> permitFuture = limiter.acquire(request.url().host());
+        currentAttemptCanceller.set(() -> permitFuture.cancel(false));
+        permitFuture.whenComplete((acquired, ex) -> {
+            if (Objects.nonNull(ex)) {
+                handleFailure(ex instanceof CompletionException ? (Exception) ex.getCause() : (Exception) ex);
+            } else if (future.isDone()) {
+                acquired.onIgnore();
+            } else {
+                startAttempt(acquired);
+            }
+        });
+    }
+
+    private void startAttempt(final ConcurrencyLimiter.Permit acquired) {
+        // The permit is acquired first so that every attempt admitted by the retry strategy is reported back to it
+        try {
+            attemptRequest = connection.getRetryStrategy().beforeAttempt(request);
+        } catch (final RuntimeException ex) {
+            Connection.releasePermit(acquired, 0, ex);
+            handleFailure(ex);
+            return;
+        }
+
+        permit = acquired;
+        attemptEvent = RetryAttemptEvent.start(request, attempts);
+        attemptStartNanos = System.nanoTime();
+        if (connection.isHedged(attemptRequest)) {
+            final HedgedCall call = new HedgedCall(
+                    connection.getHttpClient(),
+                    attemptRequest,
+                    connection.getHedgingPolicy(),
+                    connection.getConcurrencyLimiter());
+            enqueueAttempt(call::cancel, () -> call.enqueue(this));
+        } else {
+            final Call call = connection.getHttpClient().newCall(attemptRequest);
+            enqueueAttempt(call::cancel, () -> call.enqueue(this));
+        }
+    }
+
+    private void enqueueAttempt(final Runnable canceller, final Runnable enqueuer) {
+        currentAttemptCanceller.set(canceller);
+        if (future.isDone()) {
+            // Cancelled after the prior canceller ran. The attempt is still enqueued so that its failure releases the
+            // permit and is reported to the retry strategy.
+            canceller.run();
+        }
+
+        enqueuer.run();
+    }
+
+    private void handleFailure(final Exception ex) {
+        if (future.isDone()) {
+            return;
+        }
+
+        exceptions.add(ex);
+        final RetryStrategy retryStrategy = connection.getRetryStrategy();
+        final long delay = retryStrategy.isRetriable(ex)
+                ? retryStrategy.nextRetryDelayMs(attempts, ex, totalDelayMs)
+                : NO_RETRY;
+        connection.notifyAttemptFailed(request, attempts, ex, delay);
+        if (delay == NO_RETRY) {
+            connection.notifyComplete(request, attempts, totalDelayMs, ex);
+            future.completeExceptionally(Connection.toConnectionException(exceptions));
+            return;
+        }
+
+        totalDelayMs += delay;
+        log.debug("Delaying next retry by {} ms", delay);
+        final RetryDelayEvent delayEvent = RetryDelayEvent.start(attempts, delay, ex);
+        pendingRetry.set(TIMER.schedule(() -> {
+            delayEvent.finish();
+            enqueue();
+        }, delay, TimeUnit.MILLISECONDS));
+    }
+
+    private void cancel() {
+        final ScheduledFuture<?> retry = pendingRetry.get();
+        if (Objects.nonNull(retry)) {
+            retry.cancel(false);
+        }
+
+        final Runnable attemptCanceller = currentAttemptCanceller.get();
+        if (Objects.nonNull(attemptCanceller)) {
+            attemptCanceller.run();
+        }
+    }
+
+    private static ScheduledExecutorService newTimer() {
+        final ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            final Thread thread = new Thread(runnable, "okhttp-client-extensions-retry-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+
+    /**
+     * Converts a successful response to the result type.
+     *
+     * @param <T> the result type
+     */
+    @FunctionalInterface
+    interface ResponseHandler<T> {
+        /**
+         * Handles the successful response.
+         *
+         * @param response the response
+         * @return the result
+         * @throws ConnectionException if the response could not be handled
+         */
+        T handle(Response response) throws ConnectionException;
+    }
+}
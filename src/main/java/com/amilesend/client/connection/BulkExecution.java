@@ -0,0 +1,150 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection;
+
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Request;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Executes a collection of requests asynchronously while bounding the number of requests that are in-flight at
+ * any given time. A new request is only started as a prior one completes, so no thread is blocked per request.
+ *
+ * @param <T> the POJO resource type
+ */
+@Slf4j
+class BulkExecution<T> {
+    private final List<Request> requests;
+    private final Function<Request, CompletableFuture<T>> executor;
+    private final Consumer<BulkResult<T>> resultConsumer;
+    private final int maxConcurrency;
+
+    private final CompletableFuture<Void> future = new CompletableFuture<>();
+    private final Map<Integer, CompletableFuture<T>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicInteger nextIndex = new AtomicInteger();
+    private final AtomicInteger numRemaining;
+    // Serializes notifications so that consumers do not need to be thread-safe
+    private final ReentrantLock consumerLock = new ReentrantLock();
+
+    /**
+     * Creates a new {@code BulkExecution}.
+     *
+     * @param requests the requests to execute
+     * @param executor executes a single request asynchronously
+     * @param resultConsumer notified of each result in completion order
+     * @param maxConcurrency the maximum number of in-flight requests
+     */
+    BulkExecution(final List<Request> requests,
+                  final Function<Request, CompletableFuture<T>> executor,
+                  final Consumer<BulkResult<T>> resultConsumer,
+                  final int maxConcurrency) {
+        this.requests = requests;
+        this.executor = executor;
+        this.resultConsumer = resultConsumer;
+        this.maxConcurrency = maxConcurrency;
+        this.numRemaining = new AtomicInteger(requests.size());
+    }
+
+    /**
+     * Starts the execution.
+     *
+     * @return the future that completes once all requests have completed. Cancelling the future cancels all
+     *         in-flight requests and prevents new ones from starting.
+     */
+    CompletableFuture<Void> start() {
+        if (requests.isEmpty()) {
+            future.complete(null);
+            return future;
+        }
+
+        future.whenComplete((result, ex) -> {
+            if (future.isCancelled()) {
+                inFlight.values().forEach(f -> f.cancel(true));
+            }
+        });
+
+        final int numInitial = Math.min(maxConcurrency, requests.size());
+        for (int i = 0; i < numInitial; ++i) {
+            startNext();
+        }
+
+        return future;
+    }
+
+    private void startNext() {
+        while (!future.isDone()) {
+            final int index = nextIndex.getAndIncrement();
+            if (index >= requests.size()) {
+                return;
+            }
+
+            final Request request = requests.get(index);
+            CompletableFuture<T> requestFuture;
+            try {
+                requestFuture = executor.apply(request);
+            } catch (final RuntimeException ex) {
+                requestFuture = CompletableFuture.failedFuture(ex);
+            }
+
+            if (requestFuture.isDone()) {
+                // Record synchronously completed requests here instead of recursing via the completion callback
+                requestFuture.whenComplete((result, ex) -> onComplete(index, request, result, ex));
+                continue;
+            }
+
+            inFlight.put(index, requestFuture);
+            requestFuture.whenComplete((result, ex) -> {
+                inFlight.remove(index);
+                onComplete(index, request, result, ex);
+                startNext();
+            });
+            return;
+        }
+    }
+
+    private void onComplete(final int index, final Request request, final T result, final Throwable ex) {
+        final BulkResult<T> bulkResult = BulkResult.<T>builder()
+                .index(index)
+                .request(request)
+                .result(result)
+                .exception(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex)
+                .build();
+
+        consumerLock.lock();
+        try {
+            resultConsumer.accept(bulkResult);
+        } catch (final RuntimeException consumerEx) {
+            log.warn("Bulk result consumer threw an exception for request {}", index, consumerEx);
+        } finally {
+            consumerLock.unlock();
+        }
+
+        if (numRemaining.decrementAndGet() == 0) {
+            future.complete(null);
+        }
+    }
+}
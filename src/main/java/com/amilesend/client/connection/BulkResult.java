@@ -0,0 +1,52 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection;
+
+import lombok.Builder;
+import lombok.Data;
+import okhttp3.Request;
+
+import java.util.Objects;
+
+/**
+ * The outcome of a single request executed as part of a bulk execution.
+ *
+ * @param <T> the POJO resource type
+ * @see Connection#executeAll(java.util.Collection, com.amilesend.client.parse.parser.GsonParser, int)
+ */
+@Builder
+@Data
+public class BulkResult<T> {
+    /** The position of the request within the submitted collection. */
+    private final int index;
+    /** The request. */
+    private final Request request;
+    /** The parsed response if successful. */
+    private final T result;
+    /** The exception that caused the request to fail. */
+    private final Throwable exception;
+
+    /**
+     * Indicates if the request was successful or not.
+     *
+     * @return {@code true} if successful; else, {@code false}
+     */
+    public boolean isSuccess() {
+        return Objects.isNull(exception);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection;
+
+import lombok.Getter;
+
+/**
+ * Defines the exception thrown from {@link Connection} when a request is rejected without being made because the
+ * concurrency limit for the host was reached and the request could not be queued.
+ *
+ * @see ConcurrencyLimiter
+ */
+public class ConcurrencyLimitExceededException extends ConnectionException {
+    /** The host that the request was made to. */
+    @Getter
+    private final String host;
+
+    /**
+     * Creates a new {@code ConcurrencyLimitExceededException}.
+     *
+     * @param msg the exception message
+     * @param host the host that the request was made to
+     */
+    public ConcurrencyLimitExceededException(final String msg, final String host) {
+        super(msg);
+        this.host = host;
+    }
+}
@@ -0,0 +1,499 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection;
+
+import com.amilesend.client.util.Validate;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Limits the number of in-flight requests per host and adapts each limit to the observed round-trip time (RTT) and
+ * drop signals (i.e., timeouts, {@code 429} and {@code 503} responses) with the configured {@link Algorithm}. A
+ * request that exceeds the limit waits in a bounded queue for up to {@code maxQueueTime}, and is rejected with a
+ * {@link ConcurrencyLimitExceededException} if the queue is full or the wait times out. Waiting does not block a
+ * thread for asynchronous requests.
+ * <p>
+ * A request holds its permit until its response body is fully read or closed (or the request fails), so the
+ * in-flight count and the sampled round-trip time include the transfer of the body. A response that is never closed
+ * holds its permit indefinitely. The hedge of a hedged request holds its own permit, and a request is only hedged
+ * while its host is below the limit.
+ * <p>
+ * Example:
+ * <pre>
+ * ConcurrencyLimiter limiter = ConcurrencyLimiter.builder()
+ *         .algorithm(ConcurrencyLimiter.Algorithm.VEGAS)
+ *         .initialLimit(20)
+ *         .maxLimit(200)
+ *         .build();
+ * </pre>
+ *
+ * @see ConnectionBuilder#concurrencyLimiter(ConcurrencyLimiter)
+ */
+@Slf4j
+public class ConcurrencyLimiter {
+    /** The default algorithm. */
+    public static final Algorithm DEFAULT_ALGORITHM = Algorithm.VEGAS;
+    /** The default initial limit per host. */
+    public static final int DEFAULT_INITIAL_LIMIT = 20;
+    /** The default minimum limit per host. */
+    public static final int DEFAULT_MIN_LIMIT = 1;
+    /** The default maximum limit per host. */
+    public static final int DEFAULT_MAX_LIMIT = 200;
+    /** The default maximum number of requests that may wait per host. */
+    public static final int DEFAULT_MAX_QUEUE_SIZE = 100;
+    /** The default maximum time that a request may wait for the limit. */
+    public static final Duration DEFAULT_MAX_QUEUE_TIME = Duration.ofSeconds(1L);
+
+    // The number of samples after which the minimum RTT is reset to follow changes in the backend
+    private static final int MIN_RTT_RESET_INTERVAL = 1000;
+    // The weight of each sample in the smoothed RTT
+    private static final double SMOOTHING_FACTOR = 0.1D;
+
+    private final Algorithm algorithm;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueueSize;
+    private final long maxQueueTimeNanos;
+    private final LongSupplier ticker;
+    private final Map<String, HostLimit> limits = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new {@code ConcurrencyLimiter}.
+     *
+     * @param algorithm the algorithm used to adapt the limit. Default is {@link #DEFAULT_ALGORITHM}.
+     * @param initialLimit the initial limit per host. Default is {@link #DEFAULT_INITIAL_LIMIT}.
+     * @param minLimit the minimum limit per host. Default is {@link #DEFAULT_MIN_LIMIT}.
+     * @param maxLimit the maximum limit per host. Default is {@link #DEFAULT_MAX_LIMIT}.
+     * @param maxQueueSize the maximum number of requests that may wait per host, or {@code 0} to reject requests
+     *                     that exceed the limit immediately. Default is {@link #DEFAULT_MAX_QUEUE_SIZE}.
+     * @param maxQueueTime the maximum time that a request may wait. Default is {@link #DEFAULT_MAX_QUEUE_TIME}.
+     * @param ticker the source of the current time in nanoseconds. Default is {@link System#nanoTime()}.
+     */
+    @Builder
+    private ConcurrencyLimiter(final Algorithm algorithm,
+                               final Integer initialLimit,
+                               final Integer minLimit,
+                               final Integer maxLimit,
+                               final Integer maxQueueSize,
+                               final Duration maxQueueTime,
+                               final LongSupplier ticker) {
+        this.algorithm = Optional.ofNullable(algorithm).orElse(DEFAULT_ALGORITHM);
+        this.minLimit = Optional.ofNullable(minLimit).orElse(DEFAULT_MIN_LIMIT);
+        Validate.isTrue(this.minLimit > 0, "minLimit must be > 0");
+        this.maxLimit = Optional.ofNullable(maxLimit).orElse(Math.max(DEFAULT_MAX_LIMIT, this.minLimit));
+        Validate.isTrue(this.maxLimit >= this.minLimit, "maxLimit must be >= minLimit");
+        this.initialLimit = Optional.ofNullable(initialLimit)
+                .orElse(Math.min(this.maxLimit, Math.max(DEFAULT_INITIAL_LIMIT, this.minLimit)));
+        Validate.isTrue(this.initialLimit >= this.minLimit && this.initialLimit <= this.maxLimit,
+                "initialLimit must be >= minLimit and <= maxLimit");
+        this.maxQueueSize = Optional.ofNullable(maxQueueSize).orElse(DEFAULT_MAX_QUEUE_SIZE);
+        Validate.isTrue(this.maxQueueSize >= 0, "maxQueueSize must be >= 0");
+        final Duration queueTime = Optional.ofNullable(maxQueueTime).orElse(DEFAULT_MAX_QUEUE_TIME);
+        Validate.isTrue(!queueTime.isNegative() && !queueTime.isZero(), "maxQueueTime must be positive");
+        this.maxQueueTimeNanos = queueTime.toNanos();
+        this.ticker = Optional.ofNullable(ticker).orElse(System::nanoTime);
+    }
+
+    /**
+     * Acquires a permit to make a request to the given host. The returned future completes once the request may be
+     * made, or exceptionally with a {@link ConcurrencyLimitExceededException} if it was rejected. Cancelling the
+     * future removes the request from the queue. The permit must be released via one of
+     * {@link Permit#onSuccess()}, {@link Permit#onDropped()}, or {@link Permit#onIgnore()}.
+     *
+     * @param host the host
+     * @return the future permit
+     */
+    public CompletableFuture<Permit> acquire(@NonNull final String host) {
+        return limits.computeIfAbsent(host, HostLimit::new).acquire();
+    }
+
+    /**
+     * Gets the current limit for the given host.
+     *
+     * @param host the host
+     * @return the limit
+     */
+    public int getLimit(final String host) {
+        final HostLimit limit = limits.get(host);
+        return Objects.isNull(limit) ? initialLimit : limit.toStats().getLimit();
+    }
+
+    /**
+     * Gets the statistics for the given host.
+     *
+     * @param host the host
+     * @return the statistics, or empty if no requests were made to the host
+     */
+    public Optional<LimiterStats> getStats(final String host) {
+        return Optional.ofNullable(limits.get(host)).map(HostLimit::toStats);
+    }
+
+    /**
+     * Creates a point-in-time snapshot of the statistics for all hosts.
+     *
+     * @return the statistics by host
+     */
+    public Map<String, LimiterStats> snapshot() {
+        final Map<String, LimiterStats> stats = new HashMap<>(limits.size());
+        limits.forEach((host, limit) -> stats.put(host, limit.toStats()));
+        return Collections.unmodifiableMap(stats);
+    }
+
+    /**
+     * Acquires a permit only if the limit for the given host is not reached, without waiting. Used to make hedge
+     * requests only while the host has spare capacity.
+     *
+     * @param host the host
+     * @return the permit, or {@code null} if the limit is reached
+     */
+    Permit tryAcquire(final String host) {
+        return limits.computeIfAbsent(host, HostLimit::new).tryAcquire();
+    }
+
+    /**
+     * Acquires a permit and waits until it is granted. Used by the blocking request path.
+     *
+     * @param host the host
+     * @return the permit
+     * @throws InterruptedIOException if interrupted while waiting
+     * @throws ConcurrencyLimitExceededException if the request was rejected
+     */
+    Permit acquireBlocking(final String host) throws InterruptedIOException {
+        final CompletableFuture<Permit> future = acquire(host);
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            if (!future.cancel(false) && !future.isCompletedExceptionally()) {
+                future.join().onIgnore();
+            }
+
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the concurrency limit");
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof ConcurrencyLimitExceededException) {
+                throw (ConcurrencyLimitExceededException) ex.getCause();
+            }
+
+            throw new ConnectionException("Unable to acquire concurrency limit permit", ex.getCause());
+        }
+    }
+
+    /** The algorithm used to adapt the limit for a host. */
+    public enum Algorithm {
+        /**
+         * Additive increase, multiplicative decrease. The limit grows by one per round trip's worth of successful
+         * samples while it is being used, and is reduced by 10% on each drop.
+         */
+        AIMD {
+            @Override
+            double update(final double limit,
+                          final long rttNanos,
+                          final long minRttNanos,
+                          final int inFlight,
+                          final boolean isDropped) {
+                if (isDropped) {
+                    return limit * 0.9D;
+                } else if (inFlight * 2 < limit) {
+                    // Not enough demand to tell if a higher limit is sustainable
+                    return limit;
+                }
+
+                return limit + 1D / limit;
+            }
+        },
+        /**
+         * Delay-based limit similar to TCP Vegas. The queue at the host is estimated from how much the RTT exceeds
+         * the minimum observed RTT; the limit grows while the estimated queue is small, shrinks once it is large, and
+         * is reduced on each drop.
+         */
+        VEGAS {
+            @Override
+            double update(final double limit,
+                          final long rttNanos,
+                          final long minRttNanos,
+                          final int inFlight,
+                          final boolean isDropped) {
+                final double step = Math.max(1D, Math.log10(limit));
+                if (isDropped) {
+                    return limit - step;
+                } else if (inFlight * 2 < limit) {
+                    return limit;
+                }
+
+                final double queueSize = limit * (1D - (double) minRttNanos / Math.max(1L, rttNanos));
+                if (queueSize < 3D * step) {
+                    return limit + step;
+                } else if (queueSize > 6D * step) {
+                    return limit - step;
+                }
+
+                return limit;
+            }
+        };
+
+        /**
+         * Calculates the new limit after a sample.
+         *
+         * @param limit the current limit
+         * @param rttNanos the sampled round-trip time in nanoseconds
+         * @param minRttNanos the minimum observed round-trip time in nanoseconds
+         * @param inFlight the number of in-flight requests when the sample completed
+         * @param isDropped {@code true} if the request was dropped; else, {@code false}
+         * @return the new limit
+         */
+        abstract double update(double limit, long rttNanos, long minRttNanos, int inFlight, boolean isDropped);
+    }
+
+    /** A permit to make a single request. Releasing a permit more than once has no effect. */
+    public static class Permit {
+        private final HostLimit hostLimit;
+        private final long startNanos;
+        private final AtomicBoolean isReleased = new AtomicBoolean();
+
+        private Permit(final HostLimit hostLimit, final long startNanos) {
+            this.hostLimit = hostLimit;
+            this.startNanos = startNanos;
+        }
+
+        /** Releases the permit after a successful request and samples its round-trip time. */
+        public void onSuccess() {
+            release(true, false);
+        }
+
+        /** Releases the permit after a request was dropped (e.g., timed out or the host was overloaded). */
+        public void onDropped() {
+            release(true, true);
+        }
+
+        /** Releases the permit without sampling (e.g., the request was cancelled or failed locally). */
+        public void onIgnore() {
+            release(false, false);
+        }
+
+        /**
+         * Releases the permit according to the outcome of an attempt.
+         *
+         * @param statusCode the HTTP response code, or {@code 0} if no response was received
+         * @param thrown the exception thrown by the attempt if no response was received; else, {@code null}
+         */
+        void onComplete(final int statusCode, final Exception thrown) {
+            if (thrown instanceof InterruptedIOException
+                    || statusCode == 429
+                    || statusCode == 503) {
+                onDropped();
+            } else if (Objects.nonNull(thrown)) {
+                onIgnore();
+            } else {
+                onSuccess();
+            }
+        }
+
+        private void release(final boolean isSampled, final boolean isDropped) {
+            if (isReleased.compareAndSet(false, true)) {
+                hostLimit.release(this, isSampled, isDropped);
+            }
+        }
+    }
+
+    /** The statistics for the limit of a host. */
+    @Builder
+    @Value
+    public static class LimiterStats {
+        /** The host. */
+        String host;
+        /** The current limit. */
+        int limit;
+        /** The number of in-flight requests, including responses whose bodies are not yet read or closed. */
+        int inFlightCount;
+        /** The number of waiting requests. */
+        int queuedCount;
+        /** The number of rejected requests. */
+        long rejectedCount;
+        /** The minimum observed round-trip time. */
+        Duration minRtt;
+        /** The smoothed round-trip time. */
+        Duration smoothedRtt;
+    }
+
+    private class HostLimit {
+        private final String host;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Deque<CompletableFuture<Permit>> waiters = new ArrayDeque<>();
+        private final LongAdder numRejected = new LongAdder();
+        private double limit = initialLimit;
+        private int inFlight;
+        private long minRttNanos = Long.MAX_VALUE;
+        private double smoothedRttNanos;
+        private int numSamples;
+
+        HostLimit(final String host) {
+            this.host = host;
+        }
+
+        Permit tryAcquire() {
+            lock.lock();
+            try {
+                if (inFlight < (int) limit) {
+                    ++inFlight;
+                    return new Permit(this, ticker.getAsLong());
+                }
+
+                return null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        CompletableFuture<Permit> acquire() {
+            final CompletableFuture<Permit> waiter;
+            lock.lock();
+            try {
+                if (inFlight < (int) limit) {
+                    ++inFlight;
+                    return CompletableFuture.completedFuture(new Permit(this, ticker.getAsLong()));
+                } else if (waiters.size() >= maxQueueSize) {
+                    numRejected.increment();
+                    return CompletableFuture.failedFuture(newRejectedException("queue is full"));
+                }
+
+                waiter = new CompletableFuture<>();
+                waiters.addLast(waiter);
+            } finally {
+                lock.unlock();
+            }
+
+            AsyncRetriableCall.TIMER.schedule(() -> {
+                // A waiter that was already granted a permit is no longer queued, so removal is a no-op
+                remove(waiter);
+                if (waiter.completeExceptionally(newRejectedException("timed out waiting in queue"))) {
+                    numRejected.increment();
+                }
+            }, maxQueueTimeNanos, TimeUnit.NANOSECONDS);
+            waiter.whenComplete((permit, ex) -> {
+                if (waiter.isCancelled()) {
+                    remove(waiter);
+                }
+            });
+            return waiter;
+        }
+
+        void release(final Permit permit, final boolean isSampled, final boolean isDropped) {
+            final List<CompletableFuture<Permit>> granted = new ArrayList<>();
+            lock.lock();
+            try {
+                if (isSampled) {
+                    sample(ticker.getAsLong() - permit.startNanos, isDropped);
+                }
+
+                --inFlight;
+                while (inFlight < (int) limit && !waiters.isEmpty()) {
+                    final CompletableFuture<Permit> waiter = waiters.pollFirst();
+                    if (!waiter.isDone()) {
+                        ++inFlight;
+                        granted.add(waiter);
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            // Complete outside of the lock as waiters start their requests inline
+            for (final CompletableFuture<Permit> waiter : granted) {
+                final Permit next = new Permit(this, ticker.getAsLong());
+                if (!waiter.complete(next)) {
+                    // Cancelled or timed out concurrently
+                    next.onIgnore();
+                }
+            }
+        }
+
+        LimiterStats toStats() {
+            lock.lock();
+            try {
+                return LimiterStats.builder()
+                        .host(host)
+                        .limit((int) limit)
+                        .inFlightCount(inFlight)
+                        .queuedCount(waiters.size())
+                        .rejectedCount(numRejected.sum())
+                        .minRtt(Duration.ofNanos(minRttNanos == Long.MAX_VALUE ? 0L : minRttNanos))
+                        .smoothedRtt(Duration.ofNanos((long) smoothedRttNanos))
+                        .build();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void sample(final long rttNanos, final boolean isDropped) {
+            if (++numSamples % MIN_RTT_RESET_INTERVAL == 0) {
+                minRttNanos = rttNanos;
+            } else {
+                minRttNanos = Math.min(minRttNanos, rttNanos);
+            }
+
+            smoothedRttNanos = smoothedRttNanos == 0D
+                    ? rttNanos
+                    : smoothedRttNanos + SMOOTHING_FACTOR * (rttNanos - smoothedRttNanos);
+            final double updated = algorithm.update(limit, rttNanos, minRttNanos, inFlight, isDropped);
+            final double clamped = Math.min(maxLimit, Math.max(minLimit, updated));
+            if ((int) clamped != (int) limit) {
+                log.debug("Concurrency limit for host {} changed from {} to {}", host, (int) limit, (int) clamped);
+            }
+
+            limit = clamped;
+        }
+
+        private void remove(final CompletableFuture<Permit> waiter) {
+            lock.lock();
+            try {
+                waiters.remove(waiter);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private ConcurrencyLimitExceededException newRejectedException(final String reason) {
+            return new ConcurrencyLimitExceededException(
+                    "Concurrency limit of " + (int) limit + " reached for host " + host + "; " + reason,
+                    host);
+        }
+    }
+}
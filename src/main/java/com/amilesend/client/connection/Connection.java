@@ -18,33 +18,70 @@
 package com.amilesend.client.connection;
 
 import com.amilesend.client.connection.auth.AuthManager;
+import com.amilesend.client.connection.encoding.ContentDecoder;
+import com.amilesend.client.connection.encoding.ContentDecoders;
+import com.amilesend.client.connection.retry.Retriable;
 import com.amilesend.client.connection.retry.RetriableCallResponse;
+import com.amilesend.client.connection.retry.RetryListener;
 import com.amilesend.client.connection.retry.RetryStrategy;
+import com.amilesend.client.jfr.ExecuteEvent;
+import com.amilesend.client.jfr.ParseEvent;
+import com.amilesend.client.jfr.RetryAttemptEvent;
 import com.amilesend.client.parse.GsonFactoryBase;
 import com.amilesend.client.parse.parser.GsonParser;
+import com.amilesend.client.parse.parser.JsonArrayIterator;
+import com.amilesend.client.parse.parser.StreamingListParser;
+import com.amilesend.client.util.Validate;
 import com.amilesend.client.util.VisibleForTesting;
 import com.google.gson.JsonParseException;
+import lombok.AccessLevel;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.experimental.SuperBuilder;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.HttpUrl;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
+import okhttp3.RequestBody;
 import okhttp3.Response;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
-import java.util.zip.GZIPInputStream;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.amilesend.client.connection.Connection.Headers.ACCEPT;
 import static com.amilesend.client.connection.Connection.Headers.ACCEPT_ENCODING;
 import static com.amilesend.client.connection.Connection.Headers.CONTENT_ENCODING;
 import static com.amilesend.client.connection.Connection.Headers.USER_AGENT;
 
-/** Wraps an {@link OkHttpClient} that manages parsing responses to corresponding POJO types. */
+/**
+ * Wraps an {@link OkHttpClient} that manages parsing responses to corresponding POJO types.
+ * <p>
+ * The blocking {@code execute} methods do not hold any monitors while waiting on I/O or retry delays, so they can
+ * be invoked from virtual threads without pinning the carrier thread. See
+ * {@link com.amilesend.client.connection.http.OkHttpClientBuilder#isVirtualThreadDispatcherEnabled(boolean)} to
+ * also run asynchronous calls on virtual threads.
+ */
 @SuperBuilder
 @Getter
 @Slf4j
@@ -76,9 +113,37 @@ public class Connection<G extends GsonFactoryBase> {
     private final String userAgent;
     /** Flag indicator that the response is GZIP encoded. */
     private final boolean isGzipContentEncodingEnabled;
+    /** The decoders for the response content encodings that are advertised when content encoding is enabled. */
+    @NonNull
+    @Builder.Default
+    private final List<ContentDecoder> contentDecoders = ContentDecoders.defaults();
     /** The retry strategy to use. */
     @NonNull
     private final RetryStrategy retryStrategy;
+    /** The listener notified of retry attempts and outcomes. Note: default is none. */
+    @NonNull
+    @Builder.Default
+    private final RetryListener retryListener = RetryListener.NONE;
+    /** The optional coalescer for identical in-flight idempotent requests. Note: default is none. */
+    private final RequestCoalescer requestCoalescer;
+    /** The optional cache of parsed responses that are revalidated with the server. Note: default is none. */
+    private final RevalidatingCache revalidatingCache;
+    /** The optional cache of parsed results that is consulted before any request is made. Note: default is none. */
+    private final ResultCache resultCache;
+    /** The optional policy to hedge idempotent requests with. Note: default is none. */
+    private final HedgingPolicy hedgingPolicy;
+    /**
+     * The optional limiter of in-flight requests per host. A permit is held until the response body is read or
+     * closed. Note: default is none.
+     */
+    private final ConcurrencyLimiter concurrencyLimiter;
+
+    /** The parsed base URL, resolved once on first use. */
+    @Getter(AccessLevel.NONE)
+    private final AtomicReference<HttpUrl> baseHttpUrl = new AtomicReference<>();
+    /** The immutable set of headers common to all requests, built once on first use. */
+    @Getter(AccessLevel.NONE)
+    private final AtomicReference<okhttp3.Headers> defaultHeaders = new AtomicReference<>();
 
     /**
      * Creates a new {@link Request.Builder} with pre-configured headers for request that expect a JSON-formatted
@@ -87,14 +152,146 @@ public class Connection<G extends GsonFactoryBase> {
      * @return the request builder
      */
     public Request.Builder newRequestBuilder() {
-        final Request.Builder requestBuilder = new Request.Builder()
-                .addHeader(USER_AGENT, userAgent)
-                .addHeader(ACCEPT, JSON_CONTENT_TYPE);
+        return authManager.addAuthentication(new Request.Builder().headers(getDefaultHeaders()));
+    }
+
+    /**
+     * Resolves the base URL host, establishes pooled connections to it, and creates the Gson type adapters for
+     * the given model types so that the first requests are served at steady-state latency. Blocks until complete
+     * or {@link ConnectionWarmer#DEFAULT_TIMEOUT} elapses.
+     *
+     * @param connectionCount the number of connections to establish
+     * @param modelTypes the model types to create Gson type adapters for
+     * @return the result
+     * @see ConnectionWarmer
+     */
+    public ConnectionWarmer.Result warmUp(final int connectionCount, @NonNull final Type... modelTypes) {
+        return ConnectionWarmer.builder()
+                .connectionCount(connectionCount)
+                .modelTypes(List.of(modelTypes))
+                .build()
+                .warmUp(this);
+    }
+
+    /**
+     * Creates a new {@link RequestBody} that serializes the given object with the configured Gson instance
+     * directly into the request as it is sent.
+     *
+     * @param value the object to serialize
+     * @return the request body
+     * @see JsonRequestBody
+     */
+    public RequestBody newJsonRequestBody(@NonNull final Object value) {
+        return newJsonRequestBody(value, value.getClass());
+    }
+
+    /**
+     * Creates a new {@link RequestBody} that serializes the given object with the configured Gson instance
+     * directly into the request as it is sent.
+     *
+     * @param value the object to serialize
+     * @param type the type of the object (e.g., for generic types)
+     * @return the request body
+     * @see JsonRequestBody
+     */
+    public RequestBody newJsonRequestBody(@NonNull final Object value, @NonNull final Type type) {
+        return JsonRequestBody.builder()
+                .gson(gsonFactory.getInstance(this))
+                .value(value)
+                .type(type)
+                .build();
+    }
+
+    /**
+     * Creates a new one-shot {@link RequestBody} that serializes the stream's elements with the configured Gson
+     * instance as they are written to the request. The stream is closed once the body is written.
+     *
+     * @param elements the elements to write
+     * @param format the output format
+     * @return the request body
+     * @param <T> the element type
+     * @see JsonStreamRequestBody
+     */
+    public <T> RequestBody newJsonStreamRequestBody(
+            @NonNull final Stream<? extends T> elements,
+            @NonNull final JsonStreamRequestBody.Format format) {
+        return JsonStreamRequestBody.<T>builder()
+                .gson(gsonFactory.getInstance(this))
+                .stream(elements)
+                .format(format)
+                .build();
+    }
+
+    /**
+     * Creates a new one-shot {@link RequestBody} that serializes the iterator's elements with the configured Gson
+     * instance as they are written to the request.
+     *
+     * @param elements the elements to write
+     * @param format the output format
+     * @return the request body
+     * @param <T> the element type
+     * @see JsonStreamRequestBody
+     */
+    public <T> RequestBody newJsonStreamRequestBody(
+            @NonNull final Iterator<? extends T> elements,
+            @NonNull final JsonStreamRequestBody.Format format) {
+        return JsonStreamRequestBody.<T>builder()
+                .gson(gsonFactory.getInstance(this))
+                .iterator(elements)
+                .format(format)
+                .build();
+    }
+
+    /**
+     * Creates a new {@link RequestTemplate} that resolves the given path template (e.g.,
+     * {@code /items/{id}/children}) against the {@link #getBaseHttpUrl() base URL}. Templates are immutable and
+     * are intended to be created once and reused.
+     *
+     * @param pathTemplate the path template
+     * @return the request template
+     * @see RequestTemplate
+     */
+    public RequestTemplate newRequestTemplate(@NonNull final String pathTemplate) {
+        return new RequestTemplate(this, pathTemplate);
+    }
+
+    /**
+     * Gets the {@link #getBaseUrl() base URL} as a parsed {@link HttpUrl}.
+     *
+     * @return the base URL
+     * @throws IllegalArgumentException if the base URL is not a valid HTTP or HTTPS URL
+     */
+    public HttpUrl getBaseHttpUrl() {
+        final HttpUrl url = baseHttpUrl.get();
+        if (Objects.nonNull(url)) {
+            return url;
+        }
+
+        baseHttpUrl.compareAndSet(null, HttpUrl.get(baseUrl));
+        return baseHttpUrl.get();
+    }
+
+    /**
+     * Gets the headers that are defined for all requests created via {@link #newRequestBuilder()}, excluding
+     * authentication headers.
+     *
+     * @return the default headers
+     */
+    public okhttp3.Headers getDefaultHeaders() {
+        final okhttp3.Headers headers = defaultHeaders.get();
+        if (Objects.nonNull(headers)) {
+            return headers;
+        }
+
+        final okhttp3.Headers.Builder headersBuilder = new okhttp3.Headers.Builder()
+                .add(USER_AGENT, userAgent)
+                .add(ACCEPT, JSON_CONTENT_TYPE);
         if (isGzipContentEncodingEnabled) {
-            requestBuilder.addHeader(ACCEPT_ENCODING, GZIP_ENCODING);
+            headersBuilder.add(ACCEPT_ENCODING, ContentDecoders.toAcceptEncoding(contentDecoders));
         }
 
-        return authManager.addAuthentication(requestBuilder);
+        defaultHeaders.compareAndSet(null, headersBuilder.build());
+        return defaultHeaders.get();
     }
 
     /**
@@ -108,19 +305,16 @@ public class Connection<G extends GsonFactoryBase> {
      */
     public <T> T execute(@NonNull final Request request, @NonNull final GsonParser<T> parser)
             throws ConnectionException {
-        try {
-            try (final Response response = execute(request)) {
-                final InputStream responseBodyInputStream =
-                        "gzip".equals(response.header(CONTENT_ENCODING))
-                                ? new GZIPInputStream(response.body().byteStream())
-                                : response.body().byteStream();
-                return parser.parse(gsonFactory.getInstance(this), responseBodyInputStream);
-            }
-        } catch (final IOException ex) {
-            throw new RequestException("Unable to execute request: " + ex.getMessage(), ex);
-        } catch (final JsonParseException ex) {
-            throw new ResponseParseException("Error parsing response: " + ex.getMessage(), ex);
+        if (Objects.isNull(resultCache)) {
+            return executeCoalesced(request, parser);
         }
+
+        return resultCache.execute(
+                request,
+                parser,
+                () -> executeCoalesced(request, parser),
+                () -> executeAsyncCoalesced(request, parser),
+                gsonFactory.getInstance(this));
     }
 
     /**
@@ -132,26 +326,412 @@ public class Connection<G extends GsonFactoryBase> {
      * @throws ConnectionException if an error occurred during the transaction
      */
     public Response execute(@NonNull final Request request) throws ConnectionException {
-        final RetriableCallResponse response = retryStrategy.invoke(() -> httpClient.newCall(request).execute());
+        final ExecuteEvent event = ExecuteEvent.start(request);
+        final AtomicInteger numAttempts = new AtomicInteger();
+        final AtomicLong totalDelayMs = new AtomicLong();
+        final RetriableCallResponse response = retryStrategy.invoke(new Retriable() {
+            @Override
+            public Response call() throws IOException {
+                return executeAttempt(request, numAttempts.incrementAndGet());
+            }
+
+            @Override
+            public boolean isExpectedResponse(final Response response) {
+                return RevalidatingCache.isNotModified(request, response);
+            }
+
+            @Override
+            public void onRetryDecision(final int attempt, final Exception thrown, final long delayMs) {
+                if (delayMs != RetryStrategy.NO_RETRY) {
+                    totalDelayMs.addAndGet(delayMs);
+                }
+                notifyAttemptFailed(request, attempt, thrown, delayMs);
+            }
+        });
+        event.finish(
+                response.isSuccess() ? response.getResponse().code() : 0,
+                response.getAttempts(),
+                response.isSuccess());
+        final List<Exception> exceptions = response.getExceptions();
+        notifyComplete(
+                request,
+                response.getAttempts(),
+                totalDelayMs.get(),
+                response.isSuccess() || exceptions.isEmpty() ? null : exceptions.get(exceptions.size() - 1));
         if (response.isSuccess()) {
             return response.getResponse();
         }
 
-        final List<Exception> thrownExceptions = response.getExceptions();
+        throw toConnectionException(exceptions);
+    }
+
+    /**
+     * Releases the concurrency limiter permit (if any) according to the outcome of an attempt.
+     *
+     * @param permit the permit, or {@code null} if no limiter is configured
+     * @param statusCode the HTTP response code, or {@code 0} if no response was received
+     * @param thrown the exception thrown by the attempt if no response was received; else, {@code null}
+     */
+    static void releasePermit(final ConcurrencyLimiter.Permit permit, final int statusCode, final Exception thrown) {
+        if (Objects.nonNull(permit)) {
+            permit.onComplete(statusCode, thrown);
+        }
+    }
+
+    /**
+     * Indicates if attempts of the given request are hedged.
+     *
+     * @param request the request
+     * @return {@code true} if a hedging policy is configured and the request is hedgeable; else, {@code false}
+     */
+    boolean isHedged(final Request request) {
+        return Objects.nonNull(hedgingPolicy) && hedgingPolicy.isHedgeable(request);
+    }
+
+    /**
+     * Notifies the {@link RetryListener} that an attempt failed. Listener exceptions are logged and ignored.
+     *
+     * @param request the request
+     * @param attempt the number of the failed attempt
+     * @param thrown the exception thrown by the attempt
+     * @param delayMs the delay before the next attempt, or {@link RetryStrategy#NO_RETRY}
+     */
+    void notifyAttemptFailed(final Request request, final int attempt, final Exception thrown, final long delayMs) {
+        try {
+            retryListener.onAttemptFailed(request, attempt, thrown, delayMs);
+        } catch (final RuntimeException ex) {
+            log.warn("Retry listener threw an exception on a failed attempt", ex);
+        }
+    }
+
+    /**
+     * Notifies the {@link RetryListener} that a request completed. Listener exceptions are logged and ignored.
+     *
+     * @param request the request
+     * @param attempts the number of attempts made
+     * @param totalDelayMs the total delay between attempts
+     * @param thrown the exception thrown by the last attempt if failed; else, {@code null}
+     */
+    void notifyComplete(final Request request, final int attempts, final long totalDelayMs, final Exception thrown) {
+        try {
+            retryListener.onComplete(request, attempts, totalDelayMs, thrown);
+        } catch (final RuntimeException ex) {
+            log.warn("Retry listener threw an exception on completion", ex);
+        }
+    }
+
+    private Response executeAttempt(final Request request, final int attempt) throws IOException {
+        // The permit is acquired first so that every attempt admitted by the retry strategy is reported back to it
+        final ConcurrencyLimiter.Permit permit = Objects.nonNull(concurrencyLimiter)
+                ? concurrencyLimiter.acquireBlocking(request.url().host())
+                : null;
+        final Request attemptRequest;
+        try {
+            attemptRequest = retryStrategy.beforeAttempt(request);
+        } catch (final RuntimeException ex) {
+            releasePermit(permit, 0, ex);
+            throw ex;
+        }
+        final RetryAttemptEvent event = RetryAttemptEvent.start(request, attempt);
+        final long startNanos = System.nanoTime();
+        final HedgedCall hedgedCall = isHedged(attemptRequest)
+                ? new HedgedCall(httpClient, attemptRequest, hedgingPolicy, concurrencyLimiter)
+                : null;
+        final Call call = Objects.isNull(hedgedCall) ? httpClient.newCall(attemptRequest) : null;
+        try {
+            final Response response = Objects.nonNull(hedgedCall) ? hedgedCall.execute() : call.execute();
+            event.finish(response.code(), null);
+            retryStrategy.afterAttempt(attemptRequest, response.code(), null, System.nanoTime() - startNanos);
+            return PermitReleasingResponseBody.wrap(response, permit);
+        } catch (final IOException | RuntimeException ex) {
+            event.finish(0, ex);
+            releasePermit(permit, 0, ex);
+            if (Objects.nonNull(hedgedCall) ? hedgedCall.isCanceled() : call.isCanceled()) {
+                retryStrategy.onAttemptCanceled(attemptRequest);
+            } else {
+                retryStrategy.afterAttempt(attemptRequest, 0, ex, System.nanoTime() - startNanos);
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Asynchronously executes the given {@link Request} and parses the JSON-formatted response with the given
+     * {@link GsonParser}. The request is enqueued with the {@link OkHttpClient} dispatcher, and retries are
+     * scheduled according to {@link RetryStrategy#nextRetryDelayMs(int, Exception, long)} without blocking a
+     * thread. Cancelling the returned future cancels the underlying call.
+     *
+     * @param request the request
+     * @param parser the parser to decode the response body
+     * @return the future that completes with the response as a POJO resource type, or exceptionally with a
+     *         {@link ConnectionException} if an error occurred during the transaction
+     * @param <T> the POJO resource type
+     */
+    public <T> CompletableFuture<T> executeAsync(@NonNull final Request request, @NonNull final GsonParser<T> parser) {
+        if (Objects.isNull(resultCache)) {
+            return executeAsyncCoalesced(request, parser);
+        }
+
+        return resultCache.executeAsync(
+                request,
+                parser,
+                () -> executeAsyncCoalesced(request, parser),
+                gsonFactory.getInstance(this));
+    }
+
+    /**
+     * Asynchronously executes the given {@link Request}. The response must be closed by the caller.
+     *
+     * @param request the request
+     * @return the future that completes with the HTTP response, or exceptionally with a {@link ConnectionException}
+     *         if an error occurred during the transaction
+     * @see #executeAsync(Request, GsonParser)
+     */
+    public CompletableFuture<Response> executeAsync(@NonNull final Request request) {
+        return new AsyncRetriableCall<Response>(this, request, response -> response).start();
+    }
+
+    /**
+     * Executes all of the given requests while limiting the number of requests that are in-flight at a time, and
+     * returns the outcome of each in the same order as the given collection. Requests are executed asynchronously
+     * via {@link #executeAsync(Request, GsonParser)} (i.e., queued with the {@link okhttp3.Dispatcher} and retried
+     * with the configured {@link RetryStrategy}), and the calling thread blocks until all have completed. Note
+     * that the client's dispatcher limits (e.g., max requests per host) still apply.
+     *
+     * @param requests the requests to execute
+     * @param parser the parser to decode each response body
+     * @param maxConcurrency the maximum number of requests that are in-flight at a time
+     * @return the outcome of each request, in order
+     * @param <T> the POJO resource type
+     */
+    public <T> List<BulkResult<T>> executeAll(@NonNull final Collection<Request> requests,
+                                              @NonNull final GsonParser<T> parser,
+                                              final int maxConcurrency) {
+        final List<BulkResult<T>> results = new ArrayList<>(Collections.nCopies(requests.size(), null));
+        executeAll(requests, parser, maxConcurrency, result -> results.set(result.getIndex(), result)).join();
+        return results;
+    }
+
+    /**
+     * Executes all of the given requests while limiting the number of requests that are in-flight at a time, and
+     * notifies the given consumer of each outcome in the order that they complete. The consumer is not invoked
+     * concurrently.
+     *
+     * @param requests the requests to execute
+     * @param parser the parser to decode each response body
+     * @param maxConcurrency the maximum number of requests that are in-flight at a time
+     * @param resultConsumer the consumer that is notified as each request completes
+     * @return the future that completes once all requests have completed. Cancelling the future cancels all
+     *         in-flight requests and prevents the remaining ones from starting.
+     * @param <T> the POJO resource type
+     * @see #executeAll(Collection, GsonParser, int)
+     */
+    public <T> CompletableFuture<Void> executeAll(@NonNull final Collection<Request> requests,
+                                                  @NonNull final GsonParser<T> parser,
+                                                  final int maxConcurrency,
+                                                  @NonNull final Consumer<BulkResult<T>> resultConsumer) {
+        Validate.isTrue(maxConcurrency > 0, "maxConcurrency must be > 0");
+
+        return new BulkExecution<T>(
+                List.copyOf(requests),
+                request -> executeAsync(request, parser),
+                resultConsumer,
+                maxConcurrency)
+                .start();
+    }
+
+    private <T> T executeCoalesced(final Request request, final GsonParser<T> parser) {
+        if (Objects.isNull(requestCoalescer)) {
+            return executeAndParse(request, parser);
+        }
+
+        return requestCoalescer.execute(request, parser, () -> executeAndParse(request, parser));
+    }
+
+    private <T> CompletableFuture<T> executeAsyncCoalesced(final Request request, final GsonParser<T> parser) {
+        if (Objects.isNull(requestCoalescer)) {
+            return executeAndParseAsync(request, parser);
+        }
+
+        return requestCoalescer.executeAsync(request, parser, () -> executeAndParseAsync(request, parser));
+    }
+
+    private <T> T executeAndParse(final Request request, final GsonParser<T> parser) {
+        if (Objects.isNull(revalidatingCache)) {
+            return parse(execute(request), parser);
+        }
+
+        return revalidatingCache.execute(request, parser, this::execute, response -> parse(response, parser));
+    }
+
+    private <T> CompletableFuture<T> executeAndParseAsync(final Request request, final GsonParser<T> parser) {
+        if (Objects.isNull(revalidatingCache)) {
+            return new AsyncRetriableCall<T>(this, request, response -> parse(response, parser))
+                    .start();
+        }
+
+        return revalidatingCache.executeAsync(
+                request,
+                parser,
+                this::executeAsync,
+                response -> parse(response, parser));
+    }
+
+    /**
+     * Parses the JSON-formatted body of the given {@link Response} with the given {@link GsonParser} and closes
+     * the response.
+     *
+     * @param response the response
+     * @param parser the parser to decode the response body
+     * @return the response as a POJO resource type
+     * @param <T> the POJO resource type
+     * @throws ConnectionException if an error occurred while reading or parsing the response body
+     */
+    protected <T> T parse(final Response response, final GsonParser<T> parser) throws ConnectionException {
+        final ParseEvent event = ParseEvent.start(parser);
+        CountingInputStream countingBody = null;
+        boolean isParsed = false;
+        try {
+            try (response) {
+                final InputStream body = decodeBody(response);
+                if (event.isEnabled()) {
+                    countingBody = new CountingInputStream(body);
+                }
+                final T parsed = parser.parse(
+                        gsonFactory.getInstance(this),
+                        Objects.nonNull(countingBody) ? countingBody : body);
+                isParsed = true;
+                return parsed;
+            }
+        } catch (final IOException ex) {
+            throw new RequestException("Unable to execute request: " + ex.getMessage(), ex);
+        } catch (final JsonParseException ex) {
+            throw new ResponseParseException("Error parsing response: " + ex.getMessage(), ex);
+        } finally {
+            event.finish(Objects.nonNull(countingBody) ? countingBody.getByteCount() : 0L, isParsed);
+        }
+    }
+
+    /**
+     * Executes the given {@link Request} and lazily decodes the JSON array in the response body one element at a
+     * time with the given {@link StreamingListParser}. The returned stream holds the underlying response open and
+     * must be closed by the caller (i.e., with a try-with-resources block).
+     *
+     * @param request the request
+     * @param parser the parser to decode each element of the response body
+     * @return the stream of decoded elements
+     * @param <T> the POJO element type
+     * @throws ConnectionException if an error occurred during the transaction or while decoding an element
+     */
+    public <T> Stream<T> executeStreaming(@NonNull final Request request,
+                                          @NonNull final StreamingListParser<T> parser)
+            throws ConnectionException {
+        final Response response = execute(request);
+        final JsonArrayIterator<T> iterator = parseStreaming(response, parser);
+        final Iterator<T> exceptionMappingIterator = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                try {
+                    return iterator.hasNext();
+                } catch (final JsonParseException ex) {
+                    throw new ResponseParseException("Error parsing response: " + ex.getMessage(), ex);
+                }
+            }
+
+            @Override
+            public T next() {
+                try {
+                    return iterator.next();
+                } catch (final JsonParseException ex) {
+                    throw new ResponseParseException("Error parsing response: " + ex.getMessage(), ex);
+                }
+            }
+        };
+
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(exceptionMappingIterator, Spliterator.ORDERED), false)
+                .onClose(response::close);
+    }
+
+    /**
+     * Executes the given {@link Request} and decodes the JSON array in the response body one element at a time
+     * with the given {@link StreamingListParser}, passing each element to the given consumer as it is decoded.
+     *
+     * @param request the request
+     * @param parser the parser to decode each element of the response body
+     * @param consumer the consumer of each decoded element
+     * @return the number of elements consumed
+     * @param <T> the POJO element type
+     * @throws ConnectionException if an error occurred during the transaction or while decoding an element
+     */
+    public <T> long executeStreaming(@NonNull final Request request,
+                                     @NonNull final StreamingListParser<T> parser,
+                                     @NonNull final Consumer<? super T> consumer)
+            throws ConnectionException {
+        long numConsumed = 0L;
+        try (final Response response = execute(request);
+             final JsonArrayIterator<T> iterator = parseStreaming(response, parser)) {
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                ++numConsumed;
+            }
+
+            return numConsumed;
+        } catch (final IOException ex) {
+            throw new RequestException("Unable to execute request: " + ex.getMessage(), ex);
+        } catch (final JsonParseException ex) {
+            throw new ResponseParseException("Error parsing response: " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Returns the response body as a stream, decoding the contents according to the {@code Content-Encoding}
+     * header with the configured {@link #getContentDecoders() content decoders}. Content with an unsupported
+     * encoding is returned as-is.
+     *
+     * @param response the response
+     * @return the decoded response body stream
+     * @throws IOException if an error occurred while reading the response body
+     */
+    protected InputStream decodeBody(final Response response) throws IOException {
+        return ContentDecoders.decode(response.body().source(), response.header(CONTENT_ENCODING), contentDecoders)
+                .inputStream();
+    }
+
+    private <T> JsonArrayIterator<T> parseStreaming(final Response response, final StreamingListParser<T> parser) {
+        try {
+            return parser.parse(gsonFactory.getInstance(this), decodeBody(response));
+        } catch (final IOException ex) {
+            response.close();
+            throw new RequestException("Unable to execute request: " + ex.getMessage(), ex);
+        } catch (final JsonParseException ex) {
+            response.close();
+            throw new ResponseParseException("Error parsing response: " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Converts the exceptions thrown across all attempts of a failed request to the {@link ConnectionException}
+     * to surface to the caller.
+     *
+     * @param thrownExceptions the exceptions thrown across all attempts
+     * @return the exception to throw
+     */
+    static ConnectionException toConnectionException(final List<Exception> thrownExceptions) {
         if (thrownExceptions.isEmpty()) {
-            throw new ConnectionException("Error executing request (no exception provided)");
+            return new ConnectionException("Error executing request (no exception provided)");
         }
 
-        final Exception lastThrownException = response.getExceptions().get(response.getExceptions().size() - 1);
+        final Exception lastThrownException = thrownExceptions.get(thrownExceptions.size() - 1);
         if (IOException.class.isInstance(lastThrownException)) {
-            throw new RequestException(
+            return new RequestException(
                     "Unable to execute request: " + lastThrownException.getMessage(),
                     lastThrownException);
         } else if (ConnectionException.class.isInstance(lastThrownException)) {
-            throw (ConnectionException) lastThrownException;
+            return (ConnectionException) lastThrownException;
         }
 
-        throw new ConnectionException("Error executing request: " + lastThrownException.getCause(), lastThrownException);
+        return new ConnectionException("Error executing request: " + lastThrownException.getCause(), lastThrownException);
     }
 
     /**
@@ -184,7 +764,47 @@ public class Connection<G extends GsonFactoryBase> {
         public static final String ACCEPT_ENCODING = "Accept-Encoding";
         public static final String AUTHORIZATION = "Authorization";
         public static final String CONTENT_ENCODING = "Content-Encoding";
+        public static final String CONTENT_LENGTH = "Content-Length";
         public static final String CONTENT_TYPE = "Content-Type";
+        public static final String ETAG = "ETag";
+        public static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+        public static final String IF_NONE_MATCH = "If-None-Match";
+        public static final String LAST_MODIFIED = "Last-Modified";
         public static final String USER_AGENT = "User-Agent";
     }
+
+    /** Counts the bytes read from a response body for {@link ParseEvent flight recorder events}. */
+    private static class CountingInputStream extends FilterInputStream {
+        @Getter
+        private long byteCount;
+
+        CountingInputStream(final InputStream delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int value = super.read();
+            if (value != -1) {
+                ++byteCount;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final int numRead = super.read(b, off, len);
+            if (numRead > 0) {
+                byteCount += numRead;
+            }
+            return numRead;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            final long numSkipped = super.skip(n);
+            byteCount += numSkipped;
+            return numSkipped;
+        }
+    }
 }
@@ -18,7 +18,10 @@
 package com.amilesend.client.connection;
 
 import com.amilesend.client.connection.auth.AuthManager;
+import com.amilesend.client.connection.encoding.ContentDecoder;
+import com.amilesend.client.connection.encoding.ContentDecoders;
 import com.amilesend.client.connection.retry.NoRetryStrategy;
+import com.amilesend.client.connection.retry.RetryListener;
 import com.amilesend.client.connection.retry.RetryStrategy;
 import com.amilesend.client.parse.GsonFactoryBase;
 import com.amilesend.client.util.Validate;
@@ -26,6 +29,8 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import okhttp3.OkHttpClient;
 
+import java.util.List;
+
 /**
  * Builder to construct new default instances of a {@link Connection}.
  *
@@ -48,8 +53,22 @@ public abstract class ConnectionBuilder<B extends ConnectionBuilder, G extends G
     private String userAgent;
     /** Flag indicator to expect Gzip encoded responses. */
     private boolean isGzipContentEncodingEnabled;
+    /** The decoders for the supported response content encodings. Note: default is gzip and deflate. */
+    private List<ContentDecoder> contentDecoders = ContentDecoders.defaults();
     /** The configured retry strategy to use. Note: default is none. */
     private RetryStrategy retryStrategy = new NoRetryStrategy();
+    /** The listener notified of retry attempts and outcomes. Note: default is none. */
+    private RetryListener retryListener = RetryListener.NONE;
+    /** The optional coalescer for identical in-flight idempotent requests. Note: default is none. */
+    private RequestCoalescer requestCoalescer;
+    /** The optional cache of parsed responses that are revalidated with the server. Note: default is none. */
+    private RevalidatingCache revalidatingCache;
+    /** The optional cache of parsed results that is consulted before any request is made. Note: default is none. */
+    private ResultCache resultCache;
+    /** The optional policy to hedge idempotent requests with. Note: default is none. */
+    private HedgingPolicy hedgingPolicy;
+    /** The optional limiter of in-flight requests per host. Note: default is none. */
+    private ConcurrencyLimiter concurrencyLimiter;
 
     public B httpClient(final OkHttpClient httpClient) {
         this.httpClient = httpClient;
@@ -81,11 +100,46 @@ public abstract class ConnectionBuilder<B extends ConnectionBuilder, G extends G
         return (B) this;
     }
 
+    public B contentDecoders(final List<ContentDecoder> contentDecoders) {
+        this.contentDecoders = contentDecoders;
+        return (B) this;
+    }
+
     public B retryStrategy(final RetryStrategy retryStrategy) {
         this.retryStrategy = retryStrategy;
         return (B) this;
     }
 
+    public B retryListener(final RetryListener retryListener) {
+        this.retryListener = retryListener;
+        return (B) this;
+    }
+
+    public B requestCoalescer(final RequestCoalescer requestCoalescer) {
+        this.requestCoalescer = requestCoalescer;
+        return (B) this;
+    }
+
+    public B revalidatingCache(final RevalidatingCache revalidatingCache) {
+        this.revalidatingCache = revalidatingCache;
+        return (B) this;
+    }
+
+    public B resultCache(final ResultCache resultCache) {
+        this.resultCache = resultCache;
+        return (B) this;
+    }
+
+    public B hedgingPolicy(final HedgingPolicy hedgingPolicy) {
+        this.hedgingPolicy = hedgingPolicy;
+        return (B) this;
+    }
+
+    public B concurrencyLimiter(final ConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = concurrencyLimiter;
+        return (B) this;
+    }
+
     public abstract C build();
 
     protected void validateAttributes() {
@@ -96,6 +150,8 @@ public abstract class ConnectionBuilder<B extends ConnectionBuilder, G extends G
         Validate.isTrue(baseUrl.length() < MAX_BASE_URL_STR_LENGTH,
                 "baseUrl length must be less than " + MAX_BASE_URL_STR_LENGTH);
         Validate.notBlank(userAgent, "userAgent must not be blank");
+        Validate.notEmpty(contentDecoders, "contentDecoders must not be empty");
         Validate.notNull(retryStrategy, "retryStrategy most not be null");
+        Validate.notNull(retryListener, "retryListener must not be null");
     }
 }
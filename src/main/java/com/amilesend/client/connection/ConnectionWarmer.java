@@ -0,0 +1,198 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection;
+
+import com.amilesend.client.util.Validate;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Prepares a {@link Connection} to serve requests at steady-state latency (e.g., before a service reports that it
+ * is ready) by:
+ * <ol>
+ *     <li>Resolving the base URL host with the client's DNS</li>
+ *     <li>Concurrently sending {@code HEAD} requests to the base URL to establish pooled connections, including
+ *     the TLS handshake. The response status is ignored.</li>
+ *     <li>Creating the Gson instance and the type adapters for the given model types</li>
+ * </ol>
+ * Warming is best-effort: failures are logged and reported in the {@link Result} instead of thrown.
+ * <p>
+ * Note: the number of established connections is bounded by the client's dispatcher max requests per host and
+ * connection pool max idle connections. HTTP/2 hosts multiplex requests over a single connection.
+ *
+ * @see Connection#warmUp(int, Type...)
+ */
+@Slf4j
+public class ConnectionWarmer {
+    /** The default number of connections to establish. */
+    public static final int DEFAULT_CONNECTION_COUNT = 4;
+    /** The default time to wait for the connections to be established. */
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10L);
+
+    /** The number of connections to establish. */
+    private final int connectionCount;
+    /** The max time to wait for the connections to be established. */
+    private final Duration timeout;
+    /** The model types to create Gson type adapters for. */
+    private final List<Type> modelTypes;
+
+    /**
+     * Creates a new {@code ConnectionWarmer}.
+     *
+     * @param connectionCount the number of connections to establish. Default is {@link #DEFAULT_CONNECTION_COUNT}.
+     * @param timeout the max time to wait for the connections to be established. Default is
+     *                {@link #DEFAULT_TIMEOUT}.
+     * @param modelTypes the model types to create Gson type adapters for. Default is none.
+     */
+    @Builder
+    private ConnectionWarmer(final Integer connectionCount, final Duration timeout, final List<Type> modelTypes) {
+        this.connectionCount = Optional.ofNullable(connectionCount).orElse(DEFAULT_CONNECTION_COUNT);
+        Validate.isTrue(this.connectionCount >= 0, "connectionCount must be >= 0");
+        this.timeout = Optional.ofNullable(timeout).orElse(DEFAULT_TIMEOUT);
+        Validate.isTrue(!this.timeout.isNegative(), "timeout must not be negative");
+        this.modelTypes = Optional.ofNullable(modelTypes).map(List::copyOf).orElse(Collections.emptyList());
+    }
+
+    /**
+     * Warms the given connection and blocks until complete or the {@link #timeout} elapses.
+     *
+     * @param connection the connection to warm
+     * @return the result
+     */
+    public Result warmUp(@NonNull final Connection<?> connection) {
+        final long startNanos = System.nanoTime();
+        final HttpUrl baseUrl = connection.getBaseHttpUrl();
+        final OkHttpClient client = connection.getHttpClient();
+
+        final List<InetAddress> addresses = resolve(client, baseUrl.host());
+        final int numWarmedTypes = warmTypeAdapters(connection);
+        final int numFailedConnections = addresses.isEmpty()
+                ? connectionCount
+                : connect(client, connection.newRequestBuilder().url(baseUrl).head().build());
+
+        final Result result = Result.builder()
+                .addresses(addresses)
+                .connectionCount(connectionCount - numFailedConnections)
+                .failedConnectionCount(numFailedConnections)
+                .typeAdapterCount(numWarmedTypes)
+                .elapsed(Duration.ofNanos(System.nanoTime() - startNanos))
+                .build();
+        log.debug("Warmed connection to {}: {}", baseUrl.host(), result);
+        return result;
+    }
+
+    private static List<InetAddress> resolve(final OkHttpClient client, final String host) {
+        try {
+            return List.copyOf(client.dns().lookup(host));
+        } catch (final IOException ex) {
+            log.warn("Unable to resolve {} while warming connection: {}", host, ex.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    private int warmTypeAdapters(final Connection<?> connection) {
+        final Gson gson = connection.getGsonFactory().getInstance(connection);
+        for (final Type type : modelTypes) {
+            gson.getAdapter(TypeToken.get(type));
+        }
+
+        return modelTypes.size();
+    }
+
+    private int connect(final OkHttpClient client, final Request request) {
+        final CountDownLatch latch = new CountDownLatch(connectionCount);
+        final AtomicInteger numFailures = new AtomicInteger();
+        final Callback callback = new Callback() {
+            @Override
+            public void onFailure(final Call call, final IOException ex) {
+                log.warn("Unable to establish connection to {}: {}", request.url().host(), ex.getMessage());
+                numFailures.incrementAndGet();
+                latch.countDown();
+            }
+
+            @Override
+            public void onResponse(final Call call, final Response response) {
+                response.close();
+                latch.countDown();
+            }
+        };
+
+        // Enqueue all calls before any completes so that each one requires its own connection
+        for (int i = 0; i < connectionCount; ++i) {
+            client.newCall(request).enqueue(callback);
+        }
+
+        try {
+            if (!latch.await(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Timed out after {} while warming connections to {}", timeout, request.url().host());
+                return numFailures.get() + (int) latch.getCount();
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return numFailures.get() + (int) latch.getCount();
+        }
+
+        return numFailures.get();
+    }
+
+    /** Describes the outcome of warming a connection. */
+    @Builder
+    @Value
+    public static class Result {
+        /** The resolved addresses of the base URL host. */
+        List<InetAddress> addresses;
+        /** The number of requests that completed over an established connection. */
+        int connectionCount;
+        /** The number of requests that failed or did not complete before the timeout. */
+        int failedConnectionCount;
+        /** The number of model types that Gson type adapters were created for. */
+        int typeAdapterCount;
+        /** The time spent warming. */
+        Duration elapsed;
+
+        /**
+         * Indicates if the host was resolved and all connections were established.
+         *
+         * @return {@code true} if successful; else, {@code false}
+         */
+        public boolean isSuccess() {
+            return !addresses.isEmpty() && failedConnectionCount == 0;
+        }
+    }
+}
@@ -38,7 +38,14 @@ public class DefaultConnectionBuilder
                 .baseUrl(getBaseUrl())
                 .userAgent(getUserAgent())
                 .isGzipContentEncodingEnabled(isGzipContentEncodingEnabled())
+                .contentDecoders(getContentDecoders())
                 .retryStrategy(getRetryStrategy())
+                .retryListener(getRetryListener())
+                .requestCoalescer(getRequestCoalescer())
+                .revalidatingCache(getRevalidatingCache())
+                .resultCache(getResultCache())
+                .hedgingPolicy(getHedgingPolicy())
+                .concurrencyLimiter(getConcurrencyLimiter())
                 .build();
     }
 }
@@ -0,0 +1,111 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection;
+
+import com.amilesend.client.util.VisibleForTesting;
+
+/**
+ * A count-min sketch that estimates how frequently keys have been accessed, with counters that saturate at
+ * {@value #MAX_COUNT} and are halved periodically so that the estimates favor recent popularity (i.e., the
+ * TinyLFU admission policy). Not thread-safe; callers must guard access.
+ */
+class FrequencySketch {
+    private static final int NUM_ROWS = 4;
+    private static final int MAX_COUNT = 15;
+    private static final int SAMPLE_SIZE_MULTIPLIER = 10;
+    // Bounds the counters to 64 MiB (i.e., NUM_ROWS x MAX_WIDTH bytes) regardless of the expected number of keys
+    private static final int MAX_WIDTH = 1 << 24;
+    private static final int[] SEEDS = {0x97CB3127, 0xB2C97F61, 0x5BD1E995, 0x27D4EB2F};
+
+    private final byte[][] counters;
+    private final int mask;
+    private final int sampleSize;
+    private int numIncrements;
+
+    /**
+     * Creates a new {@code FrequencySketch}.
+     *
+     * @param expectedKeys the expected number of distinct keys to track. The width of the sketch is the next power of
+     *                     two, up to {@value #MAX_WIDTH}.
+     */
+    FrequencySketch(final int expectedKeys) {
+        final int width = expectedKeys >= MAX_WIDTH
+                ? MAX_WIDTH
+                : Integer.highestOneBit(Math.max(expectedKeys, 16) - 1) << 1;
+        counters = new byte[NUM_ROWS][width];
+        mask = width - 1;
+        sampleSize = width * SAMPLE_SIZE_MULTIPLIER;
+    }
+
+    /**
+     * Records an access of the given key.
+     *
+     * @param key the key
+     */
+    void increment(final Object key) {
+        final int hash = key.hashCode();
+        boolean isIncremented = false;
+        for (int row = 0; row < NUM_ROWS; ++row) {
+            final int index = indexOf(hash, row);
+            if (counters[row][index] < MAX_COUNT) {
+                ++counters[row][index];
+                isIncremented = true;
+            }
+        }
+
+        if (isIncremented && ++numIncrements >= sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * Estimates the number of recent accesses of the given key.
+     *
+     * @param key the key
+     * @return the estimated frequency
+     */
+    int frequency(final Object key) {
+        final int hash = key.hashCode();
+        int frequency = MAX_COUNT;
+        for (int row = 0; row < NUM_ROWS; ++row) {
+            frequency = Math.min(frequency, counters[row][indexOf(hash, row)]);
+        }
+
+        return frequency;
+    }
+
+    @VisibleForTesting
+    int getWidth() {
+        return mask + 1;
+    }
+
+    private int indexOf(final int hash, final int row) {
+        int h = (hash ^ SEEDS[row]) * 0x9E3779B9;
+        h ^= h >>> 16;
+        return h & mask;
+    }
+
+    private void reset() {
+        for (final byte[] row : counters) {
+            for (int i = 0; i < row.length; ++i) {
+                row[i] >>>= 1;
+            }
+        }
+        numIncrements /= 2;
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A single attempt of an idempotent request that is hedged according to a {@link HedgingPolicy}. The original call
+ * is enqueued with the {@link OkHttpClient} dispatcher and, if it has not responded once the hedge delay elapses, an
+ * identical hedge call is enqueued. The first response is used and the other call is cancelled. If a call fails
+ * while the other is in-flight, the outcome of the other is used. The latency recorded with the policy is measured
+ * from when the original call was sent so that hedge wins do not bias the observed latency. If a
+ * {@link ConcurrencyLimiter} is configured, the hedge call is only made if a permit is available without waiting. The
+ * hedge's own permit is released once it responds or fails; the winning response is then covered by the caller's
+ * permit, which is held until the response body is released.
+ */
+@Slf4j
+class HedgedCall {
+    private final OkHttpClient httpClient;
+    private final Request request;
+    private final HedgingPolicy policy;
+    private final ConcurrencyLimiter limiter;
+
+    private final List<Call> calls = new CopyOnWriteArrayList<>();
+    /** Set once a call responds, all calls fail, or the hedged call is cancelled; no further calls are started. */
+    private final AtomicBoolean isDone = new AtomicBoolean();
+    private final AtomicBoolean isNotified = new AtomicBoolean();
+    private volatile boolean isCanceled;
+    private final AtomicInteger numPending = new AtomicInteger();
+    private final AtomicReference<IOException> firstFailure = new AtomicReference<>();
+    private volatile ScheduledFuture<?> hedgeTimer;
+    private volatile Callback callback;
+    private volatile long startNanos;
+
+    /**
+     * Creates a new {@code HedgedCall}.
+     *
+     * @param httpClient the client
+     * @param request the request
+     * @param policy the hedging policy
+     * @param limiter the limiter that hedge calls acquire permits from, or {@code null} if no limiter is configured
+     */
+    HedgedCall(@NonNull final OkHttpClient httpClient,
+               @NonNull final Request request,
+               @NonNull final HedgingPolicy policy,
+               final ConcurrencyLimiter limiter) {
+        this.httpClient = httpClient;
+        this.request = request;
+        this.policy = policy;
+        this.limiter = limiter;
+    }
+
+    /**
+     * Executes the call and blocks until the first response arrives or all calls fail.
+     *
+     * @return the response
+     * @throws IOException if all calls failed or the thread was interrupted
+     */
+    Response execute() throws IOException {
+        final CompletableFuture<Response> future = new CompletableFuture<>();
+        enqueue(new Callback() {
+            @Override
+            public void onResponse(@NonNull final Call call, @NonNull final Response response) {
+                future.complete(response);
+            }
+
+            @Override
+            public void onFailure(@NonNull final Call call, @NonNull final IOException ex) {
+                future.completeExceptionally(ex);
+            }
+        });
+
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            cancel();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for hedged call");
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof IOException) {
+                throw (IOException) ex.getCause();
+            }
+
+            throw new IOException("Hedged call failed", ex.getCause());
+        }
+    }
+
+    /**
+     * Enqueues the call. The callback is notified exactly once with the first response, or the first failure once all
+     * calls failed (including when cancelled).
+     *
+     * @param callback the callback
+     */
+    void enqueue(@NonNull final Callback callback) {
+        this.callback = callback;
+        this.startNanos = System.nanoTime();
+        policy.onRequest();
+        startCall(false, null);
+        hedgeTimer = AsyncRetriableCall.TIMER.schedule(this::hedge, policy.getDelayNanos(), TimeUnit.NANOSECONDS);
+        if (isDone.get()) {
+            hedgeTimer.cancel(false);
+        }
+    }
+
+    /** Cancels all in-flight calls and any pending hedge. */
+    void cancel() {
+        isCanceled = true;
+        if (isDone.compareAndSet(false, true)) {
+            cancelOthers(null);
+        }
+    }
+
+    /**
+     * Indicates if the call was cancelled.
+     *
+     * @return {@code true} if cancelled; else, {@code false}
+     */
+    boolean isCanceled() {
+        return isCanceled;
+    }
+
+    private void hedge() {
+        if (isDone.get()) {
+            return;
+        }
+
+        final String host = request.url().host();
+        final ConcurrencyLimiter.Permit permit = Objects.nonNull(limiter) ? limiter.tryAcquire(host) : null;
+        if (Objects.nonNull(limiter) && Objects.isNull(permit)) {
+            log.debug("Not hedging request to {} as the concurrency limit is reached", host);
+            return;
+        } else if (!policy.tryAcquireHedge()) {
+            if (Objects.nonNull(permit)) {
+                permit.onIgnore();
+            }
+            return;
+        }
+
+        log.debug("Hedging request to {}", host);
+        startCall(true, permit);
+    }
+
+    private void startCall(final boolean isHedge, final ConcurrencyLimiter.Permit permit) {
+        final Call call = httpClient.newCall(request);
+        numPending.incrementAndGet();
+        calls.add(call);
+        if (isDone.get()) {
+            // Completed or cancelled while starting the hedge
+            call.cancel();
+        }
+
+        call.enqueue(new Callback() {
+            @Override
+            public void onResponse(@NonNull final Call call, @NonNull final Response response) throws IOException {
+                // The caller's permit covers the response body if this call wins
+                Connection.releasePermit(permit, response.code(), null);
+                if (isDone.compareAndSet(false, true)) {
+                    isNotified.set(true);
+                    cancelOthers(call);
+                    policy.onResponse(System.nanoTime() - startNanos, isHedge);
+                    callback.onResponse(call, response);
+                    return;
+                }
+
+                // Lost to the other call, or responded after being cancelled
+                response.close();
+                onCallFailed(call, new IOException("Canceled"));
+            }
+
+            @Override
+            public void onFailure(@NonNull final Call call, @NonNull final IOException ex) {
+                Connection.releasePermit(permit, 0, ex);
+                onCallFailed(call, ex);
+            }
+        });
+    }
+
+    private void onCallFailed(final Call call, final IOException ex) {
+        firstFailure.compareAndSet(null, ex);
+        // A winning call is never counted down, so no calls remain pending only if none responded
+        if (numPending.decrementAndGet() == 0 && isNotified.compareAndSet(false, true)) {
+            isDone.set(true);
+            cancelOthers(call);
+            callback.onFailure(call, firstFailure.get());
+        }
+    }
+
+    private void cancelOthers(final Call winner) {
+        final ScheduledFuture<?> timer = hedgeTimer;
+        if (Objects.nonNull(timer)) {
+            timer.cancel(false);
+        }
+
+        calls.stream()
+                .filter(call -> call != winner)
+                .forEach(Call::cancel);
+    }
+}
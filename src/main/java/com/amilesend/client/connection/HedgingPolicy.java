@@ -0,0 +1,196 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection;
+
+import com.amilesend.client.connection.retry.RetryBudget;
+import com.amilesend.client.util.LatencyHistogram;
+import com.amilesend.client.util.Validate;
+import lombok.Builder;
+import lombok.NonNull;
+import okhttp3.Request;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Defines when a {@link Connection} hedges an idempotent request. If no response to a {@code GET} or {@code HEAD}
+ * request has arrived after the hedge delay, a second identical request is sent and whichever responds first is
+ * used while the other is cancelled. The hedge delay is either fixed, or tracks a percentile of the observed response
+ * latency (e.g., hedge the slowest 5% of requests with the 95th percentile). Hedges draw from a {@link RetryBudget}
+ * that each request replenishes by {@code maxHedgeRatio} so that hedges stay a small fraction of the traffic.
+ * <p>
+ * Example:
+ * <pre>
+ * HedgingPolicy policy = HedgingPolicy.builder()
+ *         .percentile(95D)
+ *         .delay(Duration.ofMillis(50L))
+ *         .maxHedgeRatio(0.05D)
+ *         .build();
+ * </pre>
+ *
+ * @see ConnectionBuilder#hedgingPolicy(HedgingPolicy)
+ */
+public class HedgingPolicy {
+    /** The default delay before hedging, or before enough latencies are observed to track a percentile. */
+    public static final Duration DEFAULT_DELAY = Duration.ofMillis(100L);
+    /** The default minimum delay before hedging when tracking a percentile. */
+    public static final Duration DEFAULT_MIN_DELAY = Duration.ofMillis(1L);
+    /** The default maximum ratio of hedged requests to requests. */
+    public static final double DEFAULT_MAX_HEDGE_RATIO = 0.05D;
+    /** The default number of observed latencies required before the percentile is used. */
+    public static final int DEFAULT_MIN_SAMPLES = 100;
+
+    // How often (in recorded latencies) the percentile-based delay is recalculated
+    private static final int RECALCULATE_INTERVAL = 64;
+
+    private final long delayNanos;
+    private final Double percentile;
+    private final long minDelayNanos;
+    private final int minSamples;
+    private final RetryBudget budget;
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final LongAdder numHedges = new LongAdder();
+    private final LongAdder numHedgeWins = new LongAdder();
+    private volatile long percentileDelayNanos = -1L;
+
+    /**
+     * Creates a new {@code HedgingPolicy}.
+     *
+     * @param delay the fixed delay before hedging, also used until {@code minSamples} latencies are observed when
+     *              tracking a percentile. Default is {@link #DEFAULT_DELAY}.
+     * @param percentile the percentile (between 0 and 100, exclusive) of the observed latency to use as the delay.
+     *                   Default is none (i.e., the fixed delay is used).
+     * @param minDelay the minimum delay when tracking a percentile. Default is {@link #DEFAULT_MIN_DELAY}.
+     * @param minSamples the number of observed latencies required before the percentile is used.
+     *                   Default is {@link #DEFAULT_MIN_SAMPLES}.
+     * @param maxHedgeRatio the maximum ratio of hedged requests to requests. Ignored if a {@code budget} is given.
+     *                      Default is {@link #DEFAULT_MAX_HEDGE_RATIO}.
+     * @param budget the budget that hedges draw from. Default is a budget that each request replenishes by
+     *               {@code maxHedgeRatio}.
+     */
+    @Builder
+    private HedgingPolicy(final Duration delay,
+                          final Double percentile,
+                          final Duration minDelay,
+                          final Integer minSamples,
+                          final Double maxHedgeRatio,
+                          final RetryBudget budget) {
+        final Duration fixedDelay = Optional.ofNullable(delay).orElse(DEFAULT_DELAY);
+        Validate.isTrue(!fixedDelay.isNegative(), "delay must not be negative");
+        this.delayNanos = fixedDelay.toNanos();
+        Validate.isTrue(Objects.isNull(percentile) || (percentile > 0D && percentile < 100D),
+                "percentile must be > 0 and < 100");
+        this.percentile = percentile;
+        final Duration min = Optional.ofNullable(minDelay).orElse(DEFAULT_MIN_DELAY);
+        Validate.isTrue(!min.isNegative(), "minDelay must not be negative");
+        this.minDelayNanos = min.toNanos();
+        this.minSamples = Optional.ofNullable(minSamples).orElse(DEFAULT_MIN_SAMPLES);
+        Validate.isTrue(this.minSamples > 0, "minSamples must be > 0");
+        this.budget = Optional.ofNullable(budget).orElseGet(() -> RetryBudget.builder()
+                .depositRatio(Optional.ofNullable(maxHedgeRatio).orElse(DEFAULT_MAX_HEDGE_RATIO))
+                .build());
+    }
+
+    /**
+     * Indicates if the given request may be hedged (i.e., it is a {@code GET} or {@code HEAD} request).
+     *
+     * @param request the request
+     * @return {@code true} if the request may be hedged; else, {@code false}
+     */
+    public boolean isHedgeable(@NonNull final Request request) {
+        final String method = request.method();
+        return "GET".equals(method) || "HEAD".equals(method);
+    }
+
+    /**
+     * Gets the current delay before hedging a request.
+     *
+     * @return the delay
+     */
+    public Duration getDelay() {
+        return Duration.ofNanos(getDelayNanos());
+    }
+
+    /**
+     * Gets the number of hedged requests that were sent.
+     *
+     * @return the number of hedges
+     */
+    public long getHedgeCount() {
+        return numHedges.sum();
+    }
+
+    /**
+     * Gets the number of hedged requests that responded before the original request.
+     *
+     * @return the number of hedges that won
+     */
+    public long getHedgeWinCount() {
+        return numHedgeWins.sum();
+    }
+
+    long getDelayNanos() {
+        final long current = percentileDelayNanos;
+        return current < 0L ? delayNanos : current;
+    }
+
+    /** Records that a request was sent, which replenishes the budget for hedges. */
+    void onRequest() {
+        budget.onSuccess();
+    }
+
+    /**
+     * Attempts to acquire permission to send a hedge.
+     *
+     * @return {@code true} if a hedge may be sent; else, {@code false}
+     */
+    boolean tryAcquireHedge() {
+        if (!budget.tryAcquire()) {
+            return false;
+        }
+
+        numHedges.increment();
+        return true;
+    }
+
+    /**
+     * Records the latency of a request whose first response was received.
+     *
+     * @param elapsedNanos the time in nanoseconds from sending the original call to receiving the first response
+     *                     headers, regardless of which call responded
+     * @param isHedge {@code true} if the call was a hedge; else, {@code false}
+     */
+    void onResponse(final long elapsedNanos, final boolean isHedge) {
+        if (isHedge) {
+            numHedgeWins.increment();
+        }
+
+        if (Objects.isNull(percentile)) {
+            return;
+        }
+
+        latencies.record(elapsedNanos);
+        final long count = latencies.getCount();
+        if (count >= minSamples && (percentileDelayNanos < 0L || count % RECALCULATE_INTERVAL == 0L)) {
+            final long value = latencies.snapshot().getValueAtPercentile(percentile).toNanos();
+            percentileDelayNanos = Math.max(minDelayNanos, value);
+        }
+    }
+}
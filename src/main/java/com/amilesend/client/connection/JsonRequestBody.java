@@ -0,0 +1,108 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection;
+
+import com.amilesend.client.connection.file.CountingSink;
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.stream.JsonWriter;
+import lombok.Builder;
+import lombok.NonNull;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import okio.Okio;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.amilesend.client.connection.Connection.JSON_MEDIA_TYPE;
+
+/**
+ * A {@link RequestBody} that serializes an object with Gson directly into the request sink, instead of first
+ * serializing it to an intermediate {@code String}. The body can be written multiple times (e.g., for retries).
+ * <p>
+ * By default, the content length is unknown and the body is sent with chunked transfer encoding. Enable
+ * {@link #isContentLengthComputed} to compute the content length with an additional serialization pass that
+ * discards its output.
+ *
+ * @see Connection#newJsonRequestBody(Object)
+ */
+@Builder
+public class JsonRequestBody extends RequestBody {
+    private static final long UNCOMPUTED_LENGTH = -2L;
+    private static final long UNKNOWN_LENGTH = -1L;
+
+    /** The configured Gson instance. */
+    @NonNull
+    private final Gson gson;
+    /** The object to serialize. */
+    @NonNull
+    private final Object value;
+    /** The type of the object to serialize (e.g., for generic types). Default is the object's class. */
+    private final Type type;
+    /** Flag indicator to compute the content length. Default is {@code false}. */
+    private final boolean isContentLengthComputed;
+    private final AtomicLong contentLength = new AtomicLong(UNCOMPUTED_LENGTH);
+
+    @Override
+    public MediaType contentType() {
+        return JSON_MEDIA_TYPE;
+    }
+
+    @Override
+    public long contentLength() throws IOException {
+        if (!isContentLengthComputed) {
+            return UNKNOWN_LENGTH;
+        }
+
+        final long length = contentLength.get();
+        if (length != UNCOMPUTED_LENGTH) {
+            return length;
+        }
+
+        final CountingSink countingSink = new CountingSink(Okio.blackhole());
+        try (final BufferedSink sink = Okio.buffer(countingSink)) {
+            writeTo(sink);
+        }
+
+        contentLength.set(countingSink.getByteCount());
+        return countingSink.getByteCount();
+    }
+
+    @Override
+    public void writeTo(@NonNull final BufferedSink sink) throws IOException {
+        // The writer is flushed but not closed, as the sink is owned by the caller
+        final JsonWriter writer =
+                gson.newJsonWriter(new OutputStreamWriter(sink.outputStream(), StandardCharsets.UTF_8));
+        try {
+            gson.toJson(value, Objects.isNull(type) ? value.getClass() : type, writer);
+            writer.flush();
+        } catch (final JsonIOException ex) {
+            if (ex.getCause() instanceof IOException) {
+                throw (IOException) ex.getCause();
+            }
+
+            throw new IOException("Unable to serialize request body: " + ex.getMessage(), ex);
+        }
+    }
+}
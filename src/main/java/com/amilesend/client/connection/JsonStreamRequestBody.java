@@ -0,0 +1,207 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection;
+
+import com.amilesend.client.connection.file.CountingSink;
+import com.amilesend.client.connection.file.TransferProgressCallback;
+import com.amilesend.client.util.Validate;
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.stream.JsonWriter;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.Okio;
+import okio.Sink;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static com.amilesend.client.connection.Connection.JSON_MEDIA_TYPE;
+
+/**
+ * A one-shot {@link RequestBody} that serializes the elements of an {@link Iterator} or {@link Stream} with Gson as
+ * they are written to the request sink, so that memory use is independent of the number of elements. Elements are
+ * written as either a JSON array or newline-delimited JSON (see {@link Format}).
+ * <p>
+ * As the body can only be written once, requests with this body should not be executed with a retry strategy.
+ * The content length is unknown, so progress updates report a total of {@code -1}.
+ *
+ * @param <T> the element type
+ * @see Connection#newJsonStreamRequestBody(Stream, Format)
+ */
+public class JsonStreamRequestBody<T> extends RequestBody {
+    /** The NDJSON media type. */
+    public static final MediaType NDJSON_MEDIA_TYPE = MediaType.get("application/x-ndjson; charset=utf-8");
+
+    private final Gson gson;
+    private final Iterator<? extends T> elements;
+    private final Type type;
+    /** The output format. */
+    @Getter
+    private final Format format;
+    private final Optional<TransferProgressCallback> callback;
+    private final Optional<Stream<? extends T>> stream;
+    private final AtomicBoolean isWritten = new AtomicBoolean();
+
+    /**
+     * Creates a new {@code JsonStreamRequestBody}. Exactly one of {@code iterator} or {@code stream} must be
+     * defined; streams are closed once the body is written.
+     *
+     * @param gson the configured Gson instance
+     * @param iterator the elements to write
+     * @param stream the elements to write
+     * @param type the element type (e.g., for generic types). Default is each element's class.
+     * @param format the output format. Default is {@link Format#JSON_ARRAY}.
+     * @param callback the optional callback to notify of the number of bytes written
+     */
+    @Builder
+    private JsonStreamRequestBody(
+            @NonNull final Gson gson,
+            final Iterator<? extends T> iterator,
+            final Stream<? extends T> stream,
+            final Type type,
+            final Format format,
+            final TransferProgressCallback callback) {
+        Validate.isTrue(Objects.isNull(iterator) ^ Objects.isNull(stream),
+                "Exactly one of iterator or stream must be defined");
+        this.gson = gson;
+        this.elements = Objects.nonNull(iterator) ? iterator : stream.iterator();
+        this.stream = Optional.ofNullable(stream);
+        this.type = type;
+        this.format = Optional.ofNullable(format).orElse(Format.JSON_ARRAY);
+        this.callback = Optional.ofNullable(callback);
+    }
+
+    @Override
+    public MediaType contentType() {
+        return format.getMediaType();
+    }
+
+    @Override
+    public long contentLength() {
+        return -1L;
+    }
+
+    @Override
+    public boolean isOneShot() {
+        return true;
+    }
+
+    @Override
+    public void writeTo(@NonNull final BufferedSink sink) throws IOException {
+        if (!isWritten.compareAndSet(false, true)) {
+            throw new IllegalStateException("The request body has already been written");
+        }
+
+        final ProgressSink progressSink = new ProgressSink(sink);
+        try {
+            final BufferedSink bufferedSink = Okio.buffer(progressSink);
+            // The writer is flushed but not closed, as the sink is owned by the caller
+            final Writer writer = new OutputStreamWriter(bufferedSink.outputStream(), StandardCharsets.UTF_8);
+            if (format == Format.NDJSON) {
+                writeNdjson(writer);
+            } else {
+                writeArray(writer);
+            }
+            writer.flush();
+            bufferedSink.flush();
+            callback.ifPresent(c -> c.onComplete(progressSink.getByteCount()));
+        } catch (final IOException | RuntimeException ex) {
+            callback.ifPresent(c -> c.onFailure(ex));
+            throw ex;
+        } finally {
+            stream.ifPresent(Stream::close);
+        }
+    }
+
+    private void writeArray(final Writer writer) throws IOException {
+        final JsonWriter jsonWriter = gson.newJsonWriter(writer);
+        jsonWriter.beginArray();
+        while (elements.hasNext()) {
+            writeElement(elements.next(), jsonWriter);
+        }
+        jsonWriter.endArray();
+        jsonWriter.flush();
+    }
+
+    private void writeNdjson(final Writer writer) throws IOException {
+        while (elements.hasNext()) {
+            final JsonWriter jsonWriter = gson.newJsonWriter(writer);
+            // Each record must be on a single line regardless of the Gson pretty-printing configuration
+            jsonWriter.setIndent("");
+            writeElement(elements.next(), jsonWriter);
+            writer.write('\n');
+        }
+    }
+
+    private void writeElement(final T element, final JsonWriter jsonWriter) throws IOException {
+        try {
+            if (Objects.isNull(element)) {
+                jsonWriter.nullValue();
+                return;
+            }
+
+            gson.toJson(element, Objects.isNull(type) ? element.getClass() : type, jsonWriter);
+        } catch (final JsonIOException ex) {
+            if (ex.getCause() instanceof IOException) {
+                throw (IOException) ex.getCause();
+            }
+
+            throw new IOException("Unable to serialize request body element: " + ex.getMessage(), ex);
+        }
+    }
+
+    /** The output format. */
+    @RequiredArgsConstructor
+    public enum Format {
+        /** Writes the elements as a single JSON array. */
+        JSON_ARRAY(JSON_MEDIA_TYPE),
+        /** Writes each element as a JSON document on its own line (i.e., newline-delimited JSON). */
+        NDJSON(NDJSON_MEDIA_TYPE);
+
+        /** The content type for the format. */
+        @Getter
+        private final MediaType mediaType;
+    }
+
+    private class ProgressSink extends CountingSink {
+        ProgressSink(final Sink delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public void write(@NonNull final Buffer source, final long byteCount) throws IOException {
+            super.write(source, byteCount);
+            callback.ifPresent(c -> c.onUpdate(getByteCount(), -1L));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection;
+
+import lombok.NonNull;
+import okhttp3.MediaType;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * A response body that releases the {@link ConcurrencyLimiter.Permit} of its request once the body is fully read,
+ * fails to be read, or is closed. This keeps the permit held while the body is transferred.
+ */
+class PermitReleasingResponseBody extends ResponseBody {
+    private final ResponseBody delegate;
+    private final BufferedSource source;
+
+    private PermitReleasingResponseBody(final ResponseBody delegate,
+                                        final ConcurrencyLimiter.Permit permit,
+                                        final int statusCode) {
+        this.delegate = delegate;
+        this.source = Okio.buffer(new ForwardingSource(delegate.source()) {
+            @Override
+            public long read(@NonNull final Buffer sink, final long byteCount) throws IOException {
+                try {
+                    final long numRead = super.read(sink, byteCount);
+                    if (numRead == -1L) {
+                        permit.onComplete(statusCode, null);
+                    }
+                    return numRead;
+                } catch (final IOException ex) {
+                    permit.onComplete(statusCode, ex);
+                    throw ex;
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    permit.onComplete(statusCode, null);
+                }
+            }
+        });
+    }
+
+    /**
+     * Wraps the body of the given response to release the permit once the body is consumed or closed.
+     *
+     * @param response the response
+     * @param permit the permit, or {@code null} if no limiter is configured
+     * @return the response with the wrapped body, or the given response if there is no permit
+     */
+    static Response wrap(final Response response, final ConcurrencyLimiter.Permit permit) {
+        if (Objects.isNull(permit)) {
+            return response;
+        }
+
+        return response.newBuilder()
+                .body(new PermitReleasingResponseBody(response.body(), permit, response.code()))
+                .build();
+    }
+
+    @Override
+    public MediaType contentType() {
+        return delegate.contentType();
+    }
+
+    @Override
+    public long contentLength() {
+        return delegate.contentLength();
+    }
+
+    @Override
+    public BufferedSource source() {
+        return source;
+    }
+}
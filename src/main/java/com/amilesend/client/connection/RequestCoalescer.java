@@ -0,0 +1,195 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection;
+
+import com.amilesend.client.parse.parser.GsonParser;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+import okhttp3.Request;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.amilesend.client.connection.Connection.Headers.AUTHORIZATION;
+
+/**
+ * Coalesces identical idempotent requests (i.e., {@code GET} and {@code HEAD}) that are executed while an
+ * equivalent request is already in-flight (a.k.a. "single-flight"). Callers of a coalesced request wait on the
+ * in-flight call and share its parsed result or exception instead of issuing their own call, so parsed results
+ * should be treated as immutable.
+ * <p>
+ * Requests are equivalent when they produce the same {@link #keyFunction key} and are parsed with equal
+ * {@link GsonParser}s. Only parsed requests are coalesced; requests that return the raw {@code Response} are
+ * always executed.
+ *
+ * @see ConnectionBuilder#requestCoalescer(RequestCoalescer)
+ */
+@Builder
+public class RequestCoalescer {
+    private static final Set<String> COALESCABLE_METHODS = Set.of("GET", "HEAD");
+
+    /**
+     * Determines the key for requests that may be coalesced. Default is the method, URL, and
+     * {@code Authorization} header (i.e., the auth principal).
+     */
+    @NonNull
+    @Builder.Default
+    private final Function<Request, Object> keyFunction = RequestCoalescer::defaultKey;
+    private final Map<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder numCoalesced = new LongAdder();
+
+    /**
+     * Gets the number of requests that were coalesced with an in-flight request.
+     *
+     * @return the number of coalesced requests
+     */
+    public long getCoalescedCount() {
+        return numCoalesced.sum();
+    }
+
+    /**
+     * Gets the number of distinct requests that are currently in-flight.
+     *
+     * @return the number of in-flight requests
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Executes the given call, or waits on the equivalent in-flight call.
+     *
+     * @param request the request
+     * @param parser the parser used to decode the response
+     * @param call executes the request and parses the response
+     * @return the parsed response
+     * @param <T> the POJO resource type
+     * @throws ConnectionException if an error occurred during the transaction
+     */
+    <T> T execute(final Request request, final GsonParser<T> parser, final Supplier<T> call) {
+        if (!isCoalescable(request)) {
+            return call.get();
+        }
+
+        final Key key = new Key(keyFunction.apply(request), parser);
+        final CompletableFuture<Object> future = new CompletableFuture<>();
+        final CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+        if (Objects.nonNull(existing)) {
+            numCoalesced.increment();
+            return (T) await(existing);
+        }
+
+        try {
+            final T result = call.get();
+            future.complete(result);
+            return result;
+        } catch (final RuntimeException ex) {
+            future.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * Executes the given asynchronous call, or returns a future for the equivalent in-flight call. Cancelling the
+     * returned future does not cancel the shared call.
+     *
+     * @param request the request
+     * @param parser the parser used to decode the response
+     * @param call executes the request and parses the response asynchronously
+     * @return the future that completes with the parsed response
+     * @param <T> the POJO resource type
+     */
+    <T> CompletableFuture<T> executeAsync(final Request request,
+                                          final GsonParser<T> parser,
+                                          final Supplier<CompletableFuture<T>> call) {
+        if (!isCoalescable(request)) {
+            return call.get();
+        }
+
+        final Key key = new Key(keyFunction.apply(request), parser);
+        final CompletableFuture<Object> future = new CompletableFuture<>();
+        final CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+        if (Objects.nonNull(existing)) {
+            numCoalesced.increment();
+            return existing.thenApply(result -> (T) result);
+        }
+
+        try {
+            call.get().whenComplete((result, ex) -> {
+                inFlight.remove(key, future);
+                if (Objects.nonNull(ex)) {
+                    future.completeExceptionally(ex);
+                } else {
+                    future.complete(result);
+                }
+            });
+        } catch (final RuntimeException ex) {
+            inFlight.remove(key, future);
+            future.completeExceptionally(ex);
+        }
+
+        return future.thenApply(result -> (T) result);
+    }
+
+    private static boolean isCoalescable(final Request request) {
+        return COALESCABLE_METHODS.contains(request.method()) && Objects.isNull(request.body());
+    }
+
+    private static Object await(final CompletableFuture<Object> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RequestException("Interrupted while waiting on in-flight request", ex);
+        } catch (final CancellationException ex) {
+            throw new RequestException("In-flight request was cancelled", ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+
+            throw new ConnectionException("Error executing request: " + ex.getCause(), ex.getCause());
+        }
+    }
+
+    private static Object defaultKey(final Request request) {
+        return new StringBuilder(request.method())
+                .append(' ')
+                .append(request.url())
+                .append(' ')
+                .append(Objects.toString(request.header(AUTHORIZATION), ""))
+                .toString();
+    }
+
+    @Value
+    private static class Key {
+        Object requestKey;
+        GsonParser<?> parser;
+    }
+}
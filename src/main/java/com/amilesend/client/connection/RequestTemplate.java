@@ -0,0 +1,160 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection;
+
+import com.amilesend.client.util.Validate;
+import lombok.Getter;
+import lombok.NonNull;
+import okhttp3.HttpUrl;
+import okhttp3.Request;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A reusable template for requests whose URL path is relative to a {@link Connection}'s base URL. The path
+ * template is parsed once, and each literal segment is percent-encoded once, so creating a request only adds the
+ * encoded variable values to the pre-parsed base URL.
+ * <p>
+ * Variables are whole path segments enclosed in braces (e.g., {@code /items/{id}/children}) and are encoded as
+ * path segments when filled:
+ * <pre>
+ * private final RequestTemplate childrenTemplate = connection.newRequestTemplate("/items/{id}/children");
+ * ...
+ * final Request request = childrenTemplate.newRequestBuilder(itemId).build();
+ * </pre>
+ *
+ * @see Connection#newRequestTemplate(String)
+ */
+public class RequestTemplate {
+    private final Connection<?> connection;
+    /** The path template. */
+    @Getter
+    private final String pathTemplate;
+    /** The encoded literal segments; {@code null} entries denote variables. */
+    private final String[] encodedSegments;
+    /** The variable names in the order that they appear. */
+    @Getter
+    private final List<String> variableNames;
+
+    RequestTemplate(@NonNull final Connection<?> connection, @NonNull final String pathTemplate) {
+        this.connection = connection;
+        this.pathTemplate = pathTemplate;
+
+        final List<String> segments = new ArrayList<>();
+        final List<String> names = new ArrayList<>();
+        for (final String segment : pathTemplate.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+
+            if (segment.length() > 2 && segment.charAt(0) == '{' && segment.charAt(segment.length() - 1) == '}') {
+                final String name = segment.substring(1, segment.length() - 1);
+                Validate.isTrue(name.indexOf('{') < 0 && name.indexOf('}') < 0,
+                        "Invalid variable in path template: " + pathTemplate);
+                segments.add(null);
+                names.add(name);
+                continue;
+            }
+
+            Validate.isTrue(segment.indexOf('{') < 0 && segment.indexOf('}') < 0,
+                    "Variables must be whole path segments: " + pathTemplate);
+            segments.add(encodeLiteral(segment));
+        }
+
+        this.encodedSegments = segments.toArray(new String[0]);
+        this.variableNames = List.copyOf(names);
+    }
+
+    /**
+     * Resolves the URL with the given variable values in the order that they appear in the template.
+     *
+     * @param values the variable values
+     * @return the URL
+     */
+    public HttpUrl url(final Object... values) {
+        return newUrlBuilder(values).build();
+    }
+
+    /**
+     * Resolves the URL with the given variable values in the order that they appear in the template, returning a
+     * builder to add query parameters.
+     *
+     * @param values the variable values
+     * @return the URL builder
+     */
+    public HttpUrl.Builder newUrlBuilder(@NonNull final Object... values) {
+        Validate.isTrue(values.length == variableNames.size(),
+                "Expected " + variableNames.size() + " values for path template: " + pathTemplate);
+
+        final HttpUrl.Builder urlBuilder = connection.getBaseHttpUrl().newBuilder();
+        int valueIndex = 0;
+        for (final String encodedSegment : encodedSegments) {
+            if (Objects.nonNull(encodedSegment)) {
+                urlBuilder.addEncodedPathSegment(encodedSegment);
+                continue;
+            }
+
+            final Object value = values[valueIndex];
+            Validate.notNull(value, "value for " + variableNames.get(valueIndex) + " must not be null");
+            urlBuilder.addPathSegment(value.toString());
+            ++valueIndex;
+        }
+
+        return urlBuilder;
+    }
+
+    /**
+     * Resolves the URL with the given named variable values.
+     *
+     * @param values the variable values keyed by name
+     * @return the URL
+     */
+    public HttpUrl url(@NonNull final Map<String, ?> values) {
+        final Object[] orderedValues = new Object[variableNames.size()];
+        for (int i = 0; i < orderedValues.length; ++i) {
+            orderedValues[i] = values.get(variableNames.get(i));
+        }
+
+        return url(orderedValues);
+    }
+
+    /**
+     * Creates a new {@link Request.Builder} with the connection's default and authentication headers for the URL
+     * resolved with the given variable values.
+     *
+     * @param values the variable values in the order that they appear in the template
+     * @return the request builder
+     * @see Connection#newRequestBuilder()
+     */
+    public Request.Builder newRequestBuilder(final Object... values) {
+        return connection.newRequestBuilder().url(url(values));
+    }
+
+    private static String encodeLiteral(final String segment) {
+        return new HttpUrl.Builder()
+                .scheme("http")
+                .host("localhost")
+                .addPathSegment(segment)
+                .build()
+                .encodedPathSegments()
+                .get(0);
+    }
+}
@@ -0,0 +1,487 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection;
+
+import com.amilesend.client.parse.parser.GsonParser;
+import com.amilesend.client.util.Validate;
+import com.amilesend.client.util.VisibleForTesting;
+import com.google.gson.Gson;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Request;
+
+import java.io.Writer;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+import static com.amilesend.client.connection.Connection.Headers.AUTHORIZATION;
+
+/**
+ * An application-level cache of parsed results for {@code GET} requests that is consulted before any request is
+ * made. Each entry is fresh for a per-request {@link #ttlFunction TTL}, after which it may still be served for the
+ * {@link #staleWhileRevalidate} duration while a single background refresh replaces it. Cached objects are shared
+ * between callers and should be treated as immutable.
+ * <p>
+ * The cache is bounded by the total weight of its entries. When full, a new entry is only admitted if it has been
+ * requested more frequently than the least-recently-used entries that it would evict (i.e., the TinyLFU admission
+ * policy), so that one-off requests do not flush popular entries. By default, each entry weighs {@code 1} (i.e., the
+ * cache is bounded by its number of entries). Weighing each entry by the length of its JSON serialization is
+ * enabled with the {@code isJsonWeighed} builder option, at the cost of serializing each cached result.
+ *
+ * @see ConnectionBuilder#resultCache(ResultCache)
+ */
+@Slf4j
+public class ResultCache {
+    /** The default time that entries are fresh. */
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(1L);
+    /** The default maximum total weight of all entries (i.e., the number of entries with the default weigher). */
+    public static final long DEFAULT_MAX_WEIGHT = 10_000L;
+
+    private static final int EXPECTED_WEIGHED_ENTRY_WEIGHT = 1024;
+
+    /** The maximum total weight of all entries. */
+    private final long maxWeight;
+    /** Determines the time that the result for a request is fresh. A zero or negative TTL disables caching. */
+    private final Function<Request, Duration> ttlFunction;
+    /** The time after an entry's TTL that it may be served while it is refreshed in the background. */
+    private final Duration staleWhileRevalidate;
+    /** Determines the cache key for a request. */
+    private final Function<Request, Object> keyFunction;
+    /** Estimates the weight of a result, or {@code null} to use the default weight. */
+    private final ToLongFunction<Object> weigher;
+    /** Indicates if results are weighed by the length of their JSON serialization when no weigher is defined. */
+    private final boolean isJsonWeighed;
+    private final LongSupplier ticker;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75F, true);
+    private final FrequencySketch sketch;
+    private long totalWeight;
+    private final LongAdder numHits = new LongAdder();
+    private final LongAdder numStaleHits = new LongAdder();
+    private final LongAdder numMisses = new LongAdder();
+    private final LongAdder numRefreshes = new LongAdder();
+    private final LongAdder numEvictions = new LongAdder();
+    private final LongAdder numRejections = new LongAdder();
+
+    /**
+     * Creates a new {@code ResultCache}.
+     *
+     * @param maxWeight the maximum total weight of all entries. Default is {@link #DEFAULT_MAX_WEIGHT}.
+     * @param ttl the time that entries are fresh when {@code ttlFunction} is not defined. Default is
+     *            {@link #DEFAULT_TTL}.
+     * @param ttlFunction determines the time that the result for a request is fresh (e.g., per endpoint)
+     * @param staleWhileRevalidate the time after the TTL that an entry may be served while it is refreshed.
+     *                             Default is {@link Duration#ZERO} (i.e., disabled).
+     * @param keyFunction determines the cache key for a request. Default is the URL and {@code Authorization}
+     *                    header (i.e., the auth principal).
+     * @param weigher estimates the weight of a result. Default is {@code 1} per result.
+     * @param isJsonWeighed if {@code true}, weighs each result by the length of its JSON serialization with the
+     *                      connection's Gson instance when no {@code weigher} is defined. Default is {@code false}.
+     * @param ticker the source of the current time in nanoseconds. Default is {@link System#nanoTime()}.
+     */
+    @Builder
+    private ResultCache(final Long maxWeight,
+                        final Duration ttl,
+                        final Function<Request, Duration> ttlFunction,
+                        final Duration staleWhileRevalidate,
+                        final Function<Request, Object> keyFunction,
+                        final ToLongFunction<Object> weigher,
+                        final Boolean isJsonWeighed,
+                        final LongSupplier ticker) {
+        this.maxWeight = Optional.ofNullable(maxWeight).orElse(DEFAULT_MAX_WEIGHT);
+        Validate.isTrue(this.maxWeight > 0L, "maxWeight must be > 0");
+        final Duration defaultTtl = Optional.ofNullable(ttl).orElse(DEFAULT_TTL);
+        this.ttlFunction = Optional.ofNullable(ttlFunction).orElse(request -> defaultTtl);
+        this.staleWhileRevalidate = Optional.ofNullable(staleWhileRevalidate).orElse(Duration.ZERO);
+        Validate.isTrue(!this.staleWhileRevalidate.isNegative(), "staleWhileRevalidate must not be negative");
+        this.keyFunction = Optional.ofNullable(keyFunction).orElse(ResultCache::defaultKey);
+        this.weigher = weigher;
+        this.isJsonWeighed = Optional.ofNullable(isJsonWeighed).orElse(Boolean.FALSE);
+        Validate.isTrue(Objects.isNull(weigher) || !this.isJsonWeighed, "weigher and isJsonWeighed are exclusive");
+        this.ticker = Optional.ofNullable(ticker).orElse(System::nanoTime);
+        final long expectedEntryWeight = Objects.isNull(weigher) && !this.isJsonWeighed
+                ? 1L
+                : EXPECTED_WEIGHED_ENTRY_WEIGHT;
+        this.sketch = new FrequencySketch((int) Math.min(Integer.MAX_VALUE, this.maxWeight / expectedEntryWeight));
+    }
+
+    /**
+     * Gets the number of requests served with a fresh entry.
+     *
+     * @return the number of hits
+     */
+    public long getHitCount() {
+        return numHits.sum();
+    }
+
+    /**
+     * Gets the number of requests served with a stale entry while it was refreshed.
+     *
+     * @return the number of stale hits
+     */
+    public long getStaleHitCount() {
+        return numStaleHits.sum();
+    }
+
+    /**
+     * Gets the number of cacheable requests that had no usable entry.
+     *
+     * @return the number of misses
+     */
+    public long getMissCount() {
+        return numMisses.sum();
+    }
+
+    /**
+     * Gets the number of background refreshes started for stale entries.
+     *
+     * @return the number of refreshes
+     */
+    public long getRefreshCount() {
+        return numRefreshes.sum();
+    }
+
+    /**
+     * Gets the number of entries evicted to stay within the {@link #maxWeight} bound.
+     *
+     * @return the number of evictions
+     */
+    public long getEvictionCount() {
+        return numEvictions.sum();
+    }
+
+    /**
+     * Gets the number of results that were not admitted because they were requested less frequently than the
+     * entries that they would have evicted, or were heavier than {@link #maxWeight}.
+     *
+     * @return the number of rejections
+     */
+    public long getRejectionCount() {
+        return numRejections.sum();
+    }
+
+    /**
+     * Gets the total estimated weight of all entries.
+     *
+     * @return the total weight
+     */
+    public long getWeight() {
+        lock.lock();
+        try {
+            return totalWeight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of entries.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Removes all entries. */
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            entries.clear();
+            totalWeight = 0L;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the cached result for the request, or loads and caches it.
+     *
+     * @param request the request
+     * @param parser the parser used to decode the response
+     * @param loader executes the request and parses the response
+     * @param asyncLoader asynchronously executes the request and parses the response (i.e., for refreshes)
+     * @param gson the connection's Gson instance used to estimate weights if results are JSON weighed
+     * @return the result
+     * @param <T> the POJO resource type
+     * @throws ConnectionException if an error occurred during the transaction
+     */
+    <T> T execute(final Request request,
+                  final GsonParser<T> parser,
+                  final Supplier<T> loader,
+                  final Supplier<CompletableFuture<T>> asyncLoader,
+                  final Gson gson) {
+        final Duration ttl = ttlFunction.apply(request);
+        if (!isCacheable(request, ttl)) {
+            return loader.get();
+        }
+
+        final Key key = new Key(keyFunction.apply(request), parser);
+        final Entry cached = lookup(key, asyncLoader, ttl, gson);
+        if (Objects.nonNull(cached)) {
+            return (T) cached.getValue();
+        }
+
+        final T result = loader.get();
+        put(key, result, ttl, gson);
+        return result;
+    }
+
+    /**
+     * Returns a future for the cached result for the request, or asynchronously loads and caches it.
+     *
+     * @param request the request
+     * @param parser the parser used to decode the response
+     * @param asyncLoader asynchronously executes the request and parses the response
+     * @param gson the connection's Gson instance used to estimate weights if results are JSON weighed
+     * @return the future that completes with the result
+     * @param <T> the POJO resource type
+     */
+    <T> CompletableFuture<T> executeAsync(final Request request,
+                                          final GsonParser<T> parser,
+                                          final Supplier<CompletableFuture<T>> asyncLoader,
+                                          final Gson gson) {
+        final Duration ttl = ttlFunction.apply(request);
+        if (!isCacheable(request, ttl)) {
+            return asyncLoader.get();
+        }
+
+        final Key key = new Key(keyFunction.apply(request), parser);
+        final Entry cached = lookup(key, asyncLoader, ttl, gson);
+        if (Objects.nonNull(cached)) {
+            return CompletableFuture.completedFuture((T) cached.getValue());
+        }
+
+        return asyncLoader.get().thenApply(result -> {
+            put(key, result, ttl, gson);
+            return result;
+        });
+    }
+
+    private <T> Entry lookup(final Key key,
+                             final Supplier<CompletableFuture<T>> asyncLoader,
+                             final Duration ttl,
+                             final Gson gson) {
+        final long now = ticker.getAsLong();
+        final Entry cached;
+        lock.lock();
+        try {
+            sketch.increment(key);
+            cached = entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+
+        if (Objects.isNull(cached) || now - cached.getStaleUntilNanos() >= 0L) {
+            numMisses.increment();
+            return null;
+        }
+
+        if (now - cached.getFreshUntilNanos() < 0L) {
+            numHits.increment();
+            return cached;
+        }
+
+        numStaleHits.increment();
+        if (cached.getIsRefreshing().compareAndSet(false, true)) {
+            refresh(key, cached, asyncLoader, ttl, gson);
+        }
+
+        return cached;
+    }
+
+    private <T> void refresh(final Key key,
+                             final Entry stale,
+                             final Supplier<CompletableFuture<T>> asyncLoader,
+                             final Duration ttl,
+                             final Gson gson) {
+        numRefreshes.increment();
+        try {
+            asyncLoader.get().whenComplete((result, ex) -> {
+                if (Objects.isNull(ex)) {
+                    put(key, result, ttl, gson);
+                } else {
+                    log.debug("Unable to refresh stale cache entry: {}", ex.getMessage());
+                    stale.getIsRefreshing().set(false);
+                }
+            });
+        } catch (final RuntimeException ex) {
+            log.debug("Unable to refresh stale cache entry: {}", ex.getMessage());
+            stale.getIsRefreshing().set(false);
+        }
+    }
+
+    private void put(final Key key, final Object result, final Duration ttl, final Gson gson) {
+        if (Objects.isNull(result)) {
+            return;
+        }
+
+        final long weight = Math.max(1L, weigh(result, gson));
+        if (weight > maxWeight) {
+            numRejections.increment();
+            return;
+        }
+
+        final long now = ticker.getAsLong();
+        final long freshUntilNanos = now + ttl.toNanos();
+        final Entry entry = new Entry(
+                result,
+                weight,
+                freshUntilNanos,
+                freshUntilNanos + staleWhileRevalidate.toNanos(),
+                new AtomicBoolean());
+        lock.lock();
+        try {
+            final Entry previous = entries.remove(key);
+            if (Objects.nonNull(previous)) {
+                totalWeight -= previous.getWeight();
+            } else if (!isAdmitted(key, weight)) {
+                numRejections.increment();
+                return;
+            }
+
+            evict(weight);
+            entries.put(key, entry);
+            totalWeight += weight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Determines if the candidate is accessed more frequently than the entries that it would evict. */
+    private boolean isAdmitted(final Key candidate, final long weight) {
+        long weightToFree = totalWeight + weight - maxWeight;
+        if (weightToFree <= 0L) {
+            return true;
+        }
+
+        final int candidateFrequency = sketch.frequency(candidate);
+        final Iterator<Map.Entry<Key, Entry>> victims = entries.entrySet().iterator();
+        while (weightToFree > 0L && victims.hasNext()) {
+            final Map.Entry<Key, Entry> victim = victims.next();
+            if (sketch.frequency(victim.getKey()) >= candidateFrequency) {
+                return false;
+            }
+            weightToFree -= victim.getValue().getWeight();
+        }
+
+        return true;
+    }
+
+    private void evict(final long weight) {
+        final Iterator<Entry> eldest = entries.values().iterator();
+        while (totalWeight + weight > maxWeight && eldest.hasNext()) {
+            totalWeight -= eldest.next().getWeight();
+            eldest.remove();
+            numEvictions.increment();
+        }
+    }
+
+    private static boolean isCacheable(final Request request, final Duration ttl) {
+        return "GET".equals(request.method())
+                && Objects.isNull(request.body())
+                && Objects.nonNull(ttl)
+                && !ttl.isNegative()
+                && !ttl.isZero();
+    }
+
+    private long weigh(final Object result, final Gson gson) {
+        if (Objects.nonNull(weigher)) {
+            return weigher.applyAsLong(result);
+        }
+
+        return isJsonWeighed ? estimateJsonWeight(gson, result) : 1L;
+    }
+
+    @VisibleForTesting
+    static long estimateJsonWeight(final Gson gson, final Object result) {
+        final CountingWriter writer = new CountingWriter();
+        gson.toJson(result, writer);
+        return writer.count;
+    }
+
+    private static Object defaultKey(final Request request) {
+        return new StringBuilder(request.url().toString())
+                .append(' ')
+                .append(Objects.toString(request.header(AUTHORIZATION), ""))
+                .toString();
+    }
+
+    @Value
+    private static class Key {
+        Object requestKey;
+        GsonParser<?> parser;
+    }
+
+    @Value
+    private static class Entry {
+        Object value;
+        long weight;
+        long freshUntilNanos;
+        long staleUntilNanos;
+        AtomicBoolean isRefreshing;
+    }
+
+    private static class CountingWriter extends Writer {
+        private long count;
+
+        @Override
+        public void write(final char[] chars, final int offset, final int length) {
+            count += length;
+        }
+
+        @Override
+        public void write(final int c) {
+            ++count;
+        }
+
+        @Override
+        public void write(final String str, final int offset, final int length) {
+            count += length;
+        }
+
+        @Override
+        public void flush() {
+            // no-op
+        }
+
+        @Override
+        public void close() {
+            // no-op
+        }
+    }
+}
@@ -0,0 +1,312 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection;
+
+import com.amilesend.client.parse.parser.GsonParser;
+import com.amilesend.client.util.StringUtils;
+import com.amilesend.client.util.Validate;
+import lombok.Builder;
+import lombok.Value;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import static com.amilesend.client.connection.Connection.Headers.AUTHORIZATION;
+import static com.amilesend.client.connection.Connection.Headers.ETAG;
+import static com.amilesend.client.connection.Connection.Headers.IF_MODIFIED_SINCE;
+import static com.amilesend.client.connection.Connection.Headers.IF_NONE_MATCH;
+import static com.amilesend.client.connection.Connection.Headers.LAST_MODIFIED;
+
+/**
+ * A size-bounded, least-recently-used cache of parsed responses for {@code GET} requests that are revalidated with
+ * the server. The {@code ETag} and {@code Last-Modified} validators of each response are stored along with the
+ * parsed object; subsequent requests are sent with the {@code If-None-Match} and {@code If-Modified-Since}
+ * conditional headers, and a {@code 304 Not Modified} response returns the cached object without reading or
+ * parsing a body. Cached objects are shared between callers and should be treated as immutable.
+ * <p>
+ * Requests are cached by the {@link #keyFunction key} and the {@link GsonParser} used to parse the response.
+ * Requests that already define conditional headers are not cached.
+ *
+ * @see ConnectionBuilder#revalidatingCache(RevalidatingCache)
+ */
+public class RevalidatingCache {
+    /** The default maximum number of cached entries. */
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+    /** The not modified HTTP response code returned for conditional requests. */
+    public static final int NOT_MODIFIED_RESPONSE_CODE = 304;
+
+    /** The maximum number of cached entries. */
+    private final int maxEntries;
+    /** Determines the cache key for a request. */
+    private final Function<Request, Object> keyFunction;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75F, true);
+    private final LongAdder numHits = new LongAdder();
+    private final LongAdder numMisses = new LongAdder();
+    private final LongAdder numRevalidations = new LongAdder();
+    private final LongAdder numEvictions = new LongAdder();
+
+    /**
+     * Creates a new {@code RevalidatingCache}.
+     *
+     * @param maxEntries the maximum number of cached entries. Default is {@link #DEFAULT_MAX_ENTRIES}.
+     * @param keyFunction determines the cache key for a request. Default is the URL and {@code Authorization}
+     *                    header (i.e., the auth principal).
+     */
+    @Builder
+    private RevalidatingCache(final Integer maxEntries, final Function<Request, Object> keyFunction) {
+        this.maxEntries = Optional.ofNullable(maxEntries).orElse(DEFAULT_MAX_ENTRIES);
+        Validate.isTrue(this.maxEntries > 0, "maxEntries must be > 0");
+        this.keyFunction = Optional.ofNullable(keyFunction).orElse(RevalidatingCache::defaultKey);
+    }
+
+    /**
+     * Gets the number of conditional requests that were answered with {@code 304 Not Modified} from the cache.
+     *
+     * @return the number of hits
+     */
+    public long getHitCount() {
+        return numHits.sum();
+    }
+
+    /**
+     * Gets the number of cacheable requests that had no cached entry.
+     *
+     * @return the number of misses
+     */
+    public long getMissCount() {
+        return numMisses.sum();
+    }
+
+    /**
+     * Gets the number of conditional requests sent to revalidate a cached entry.
+     *
+     * @return the number of revalidations
+     */
+    public long getRevalidationCount() {
+        return numRevalidations.sum();
+    }
+
+    /**
+     * Gets the number of entries evicted to stay within the {@link #maxEntries} bound.
+     *
+     * @return the number of evictions
+     */
+    public long getEvictionCount() {
+        return numEvictions.sum();
+    }
+
+    /**
+     * Gets the number of cached entries.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Removes all cached entries. */
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Executes the request, conditionally if a cached entry exists.
+     *
+     * @param request the request
+     * @param parser the parser used to decode the response
+     * @param executor executes a request and returns the validated response
+     * @param responseParser parses and closes a response
+     * @return the parsed response
+     * @param <T> the POJO resource type
+     * @throws ConnectionException if an error occurred during the transaction
+     */
+    <T> T execute(final Request request,
+                  final GsonParser<T> parser,
+                  final Function<Request, Response> executor,
+                  final Function<Response, T> responseParser) {
+        if (!isCacheable(request)) {
+            return responseParser.apply(executor.apply(request));
+        }
+
+        final Key key = new Key(keyFunction.apply(request), parser);
+        final Entry cached = get(key);
+        return onResponse(key, cached, executor.apply(toConditionalRequest(request, cached)), responseParser);
+    }
+
+    /**
+     * Asynchronously executes the request, conditionally if a cached entry exists.
+     *
+     * @param request the request
+     * @param parser the parser used to decode the response
+     * @param executor executes a request and returns the future for the validated response
+     * @param responseParser parses and closes a response
+     * @return the future that completes with the parsed response
+     * @param <T> the POJO resource type
+     */
+    <T> CompletableFuture<T> executeAsync(final Request request,
+                                          final GsonParser<T> parser,
+                                          final Function<Request, CompletableFuture<Response>> executor,
+                                          final Function<Response, T> responseParser) {
+        if (!isCacheable(request)) {
+            return executor.apply(request).thenApply(responseParser);
+        }
+
+        final Key key = new Key(keyFunction.apply(request), parser);
+        final Entry cached = get(key);
+        return executor.apply(toConditionalRequest(request, cached))
+                .thenApply(response -> onResponse(key, cached, response, responseParser));
+    }
+
+    /**
+     * Indicates if the response is a {@code 304 Not Modified} response to a conditional request issued by a cache.
+     * Such a response is expected and is not treated as an unsuccessful response.
+     *
+     * @param request the request
+     * @param response the response
+     * @return {@code true} if the response is not modified for a conditional request; else, {@code false}
+     */
+    static boolean isNotModified(final Request request, final Response response) {
+        return response.code() == NOT_MODIFIED_RESPONSE_CODE && Objects.nonNull(request.tag(Entry.class));
+    }
+
+    private Request toConditionalRequest(final Request request, final Entry cached) {
+        if (Objects.isNull(cached)) {
+            numMisses.increment();
+            return request;
+        }
+
+        numRevalidations.increment();
+        final Request.Builder conditionalRequestBuilder = request.newBuilder().tag(Entry.class, cached);
+        if (Objects.nonNull(cached.getETag())) {
+            conditionalRequestBuilder.header(IF_NONE_MATCH, cached.getETag());
+        }
+        if (Objects.nonNull(cached.getLastModified())) {
+            conditionalRequestBuilder.header(IF_MODIFIED_SINCE, cached.getLastModified());
+        }
+
+        return conditionalRequestBuilder.build();
+    }
+
+    private <T> T onResponse(final Key key,
+                             final Entry cached,
+                             final Response response,
+                             final Function<Response, T> responseParser) {
+        if (response.code() == NOT_MODIFIED_RESPONSE_CODE && Objects.nonNull(cached)) {
+            response.close();
+            numHits.increment();
+            return (T) cached.getValue();
+        }
+
+        final String eTag = response.header(ETAG);
+        final String lastModified = response.header(LAST_MODIFIED);
+        final boolean isSuccessful = response.isSuccessful();
+        final T value = responseParser.apply(response);
+        final boolean hasValidator = StringUtils.isNotBlank(eTag) || StringUtils.isNotBlank(lastModified);
+        if (isSuccessful && hasValidator && Objects.nonNull(value)) {
+            put(key, new Entry(
+                    StringUtils.isNotBlank(eTag) ? eTag : null,
+                    StringUtils.isNotBlank(lastModified) ? lastModified : null,
+                    value));
+        } else {
+            remove(key);
+        }
+
+        return value;
+    }
+
+    private Entry get(final Key key) {
+        lock.lock();
+        try {
+            return entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void put(final Key key, final Entry entry) {
+        lock.lock();
+        try {
+            entries.put(key, entry);
+            while (entries.size() > maxEntries) {
+                final Iterator<Key> eldest = entries.keySet().iterator();
+                eldest.next();
+                eldest.remove();
+                numEvictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(final Key key) {
+        lock.lock();
+        try {
+            entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static boolean isCacheable(final Request request) {
+        return "GET".equals(request.method())
+                && Objects.isNull(request.body())
+                && Objects.isNull(request.header(IF_NONE_MATCH))
+                && Objects.isNull(request.header(IF_MODIFIED_SINCE));
+    }
+
+    private static Object defaultKey(final Request request) {
+        return new StringBuilder(request.url().toString())
+                .append(' ')
+                .append(Objects.toString(request.header(AUTHORIZATION), ""))
+                .toString();
+    }
+
+    @Value
+    private static class Key {
+        Object requestKey;
+        GsonParser<?> parser;
+    }
+
+    @Value
+    private static class Entry {
+        String eTag;
+        String lastModified;
+        Object value;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection.encoding;
+
+import okio.BufferedSource;
+import okio.Source;
+
+import java.io.IOException;
+
+/**
+ * Defines a decoder for a response body {@code Content-Encoding} (e.g., {@code gzip}). Decoders for additional
+ * encodings such as {@code br} or {@code zstd} can be provided with {@link StreamContentDecoder} to adapt the
+ * {@code InputStream}-based implementations of optional codec libraries.
+ *
+ * @see ContentDecoders
+ */
+public interface ContentDecoder {
+    /**
+     * Gets the content-coding name as advertised in the {@code Accept-Encoding} header (e.g., {@code gzip}).
+     *
+     * @return the encoding name
+     */
+    String getEncoding();
+
+    /**
+     * Wraps the given encoded source with a source that decodes its contents.
+     *
+     * @param source the encoded source
+     * @return the decoded source
+     * @throws IOException if an error occurred while reading the source
+     */
+    Source decode(BufferedSource source) throws IOException;
+}
@@ -0,0 +1,127 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection.encoding;
+
+import com.amilesend.client.util.StringUtils;
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+import okio.BufferedSource;
+import okio.Okio;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/** Utility methods to apply {@link ContentDecoder}s to response bodies. */
+@UtilityClass
+public class ContentDecoders {
+    /** The identity (i.e., no encoding) content-coding name. */
+    public static final String IDENTITY_ENCODING = "identity";
+    /** The gzip decoder. */
+    public static final ContentDecoder GZIP = new GzipContentDecoder();
+    /** The deflate decoder. */
+    public static final ContentDecoder DEFLATE = new DeflateContentDecoder();
+
+    /**
+     * Gets the default decoders that are supported without any additional dependencies.
+     *
+     * @return the default decoders
+     */
+    public static List<ContentDecoder> defaults() {
+        return List.of(GZIP, DEFLATE);
+    }
+
+    /**
+     * Formats the {@code Accept-Encoding} header value that advertises the given decoders' encodings.
+     *
+     * @param decoders the supported decoders
+     * @return the header value (e.g., {@code gzip, deflate})
+     */
+    public static String toAcceptEncoding(@NonNull final List<ContentDecoder> decoders) {
+        return decoders.stream()
+                .map(ContentDecoder::getEncoding)
+                .distinct()
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Indicates if all encodings listed in the given {@code Content-Encoding} header value are supported.
+     *
+     * @param contentEncoding the {@code Content-Encoding} header value
+     * @param decoders the supported decoders
+     * @return {@code true} if the content can be decoded; else, {@code false}
+     */
+    public static boolean isSupported(final String contentEncoding, @NonNull final List<ContentDecoder> decoders) {
+        if (StringUtils.isBlank(contentEncoding)) {
+            return true;
+        }
+
+        for (final String encoding : contentEncoding.split(",")) {
+            if (!isIdentity(encoding) && Objects.isNull(find(encoding, decoders))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Decodes the given source according to the {@code Content-Encoding} header value. Multiple encodings are
+     * decoded in the reverse order that they were applied. Content with an unsupported encoding is returned as-is.
+     *
+     * @param source the encoded source
+     * @param contentEncoding the {@code Content-Encoding} header value
+     * @param decoders the supported decoders
+     * @return the decoded source
+     * @throws IOException if an error occurred while reading the source
+     */
+    public static BufferedSource decode(@NonNull final BufferedSource source,
+                                        final String contentEncoding,
+                                        @NonNull final List<ContentDecoder> decoders) throws IOException {
+        if (StringUtils.isBlank(contentEncoding) || !isSupported(contentEncoding, decoders)) {
+            return source;
+        }
+
+        final String[] encodings = contentEncoding.split(",");
+        BufferedSource decoded = source;
+        for (int i = encodings.length - 1; i >= 0; --i) {
+            if (!isIdentity(encodings[i])) {
+                decoded = Okio.buffer(find(encodings[i], decoders).decode(decoded));
+            }
+        }
+
+        return decoded;
+    }
+
+    private static ContentDecoder find(final String encoding, final List<ContentDecoder> decoders) {
+        final String normalized = encoding.trim().toLowerCase(Locale.ROOT);
+        for (final ContentDecoder decoder : decoders) {
+            if (decoder.getEncoding().equalsIgnoreCase(normalized)) {
+                return decoder;
+            }
+        }
+
+        return null;
+    }
+
+    private static boolean isIdentity(final String encoding) {
+        return IDENTITY_ENCODING.equalsIgnoreCase(encoding.trim());
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection.encoding;
+
+import lombok.NonNull;
+import okio.BufferedSource;
+import okio.InflaterSource;
+import okio.Source;
+
+import java.io.IOException;
+import java.util.zip.Inflater;
+
+/**
+ * Decodes {@code deflate} encoded content with Okio's {@link InflaterSource}. Per RFC 9110, {@code deflate} content
+ * is zlib-wrapped, though some servers send a raw deflate stream instead; the format is detected from the zlib
+ * header.
+ *
+ * @see ContentDecoder
+ */
+public class DeflateContentDecoder implements ContentDecoder {
+    /** The deflate content-coding name. */
+    public static final String ENCODING = "deflate";
+
+    private static final int ZLIB_HEADER_SIZE = 2;
+    private static final int ZLIB_DEFLATE_METHOD = 8;
+    private static final int ZLIB_HEADER_CHECKSUM_DIVISOR = 31;
+
+    @Override
+    public String getEncoding() {
+        return ENCODING;
+    }
+
+    @Override
+    public Source decode(@NonNull final BufferedSource source) throws IOException {
+        return new InflaterSource(source, new Inflater(!isZlibWrapped(source)));
+    }
+
+    private static boolean isZlibWrapped(final BufferedSource source) throws IOException {
+        if (!source.request(ZLIB_HEADER_SIZE)) {
+            return true;
+        }
+
+        final int cmf = source.getBuffer().getByte(0L) & 0xFF;
+        final int flg = source.getBuffer().getByte(1L) & 0xFF;
+        return (cmf & 0x0F) == ZLIB_DEFLATE_METHOD && ((cmf << 8) | flg) % ZLIB_HEADER_CHECKSUM_DIVISOR == 0;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection.encoding;
+
+import lombok.NonNull;
+import okio.BufferedSource;
+import okio.GzipSource;
+import okio.Source;
+
+/**
+ * Decodes {@code gzip} encoded content with Okio's {@link GzipSource}.
+ *
+ * @see ContentDecoder
+ */
+public class GzipContentDecoder implements ContentDecoder {
+    /** The gzip content-coding name. */
+    public static final String ENCODING = "gzip";
+
+    @Override
+    public String getEncoding() {
+        return ENCODING;
+    }
+
+    @Override
+    public Source decode(@NonNull final BufferedSource source) {
+        return new GzipSource(source);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection.encoding;
+
+import com.amilesend.client.util.Validate;
+import lombok.NonNull;
+import okio.BufferedSource;
+import okio.Okio;
+import okio.Source;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Adapts an {@link InputStream}-based codec to a {@link ContentDecoder}. This is intended for encodings that require
+ * an optional codec library, such as {@code br} (e.g., {@code org.brotli:dec}) or {@code zstd}
+ * (e.g., {@code com.github.luben:zstd-jni}):
+ * <pre>
+ * new StreamContentDecoder("br", BrotliInputStream::new);
+ * new StreamContentDecoder("zstd", ZstdInputStream::new);
+ * </pre>
+ *
+ * @see ContentDecoder
+ */
+public class StreamContentDecoder implements ContentDecoder {
+    private final String encoding;
+    private final StreamDecoder streamDecoder;
+
+    /**
+     * Creates a new {@code StreamContentDecoder}.
+     *
+     * @param encoding the content-coding name (e.g., {@code br})
+     * @param streamDecoder wraps the encoded stream with a stream that decodes its contents
+     */
+    public StreamContentDecoder(final String encoding, @NonNull final StreamDecoder streamDecoder) {
+        Validate.notBlank(encoding, "encoding must not be blank");
+        this.encoding = encoding;
+        this.streamDecoder = streamDecoder;
+    }
+
+    @Override
+    public String getEncoding() {
+        return encoding;
+    }
+
+    @Override
+    public Source decode(@NonNull final BufferedSource source) throws IOException {
+        return Okio.source(streamDecoder.decode(source.inputStream()));
+    }
+
+    /** Wraps an encoded stream with a stream that decodes its contents. */
+    @FunctionalInterface
+    public interface StreamDecoder {
+        /**
+         * Wraps the encoded stream.
+         *
+         * @param encoded the encoded stream
+         * @return the decoded stream
+         * @throws IOException if an error occurred while reading the stream
+         */
+        InputStream decode(InputStream encoded) throws IOException;
+    }
+}
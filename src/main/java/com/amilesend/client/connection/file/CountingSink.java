@@ -0,0 +1,58 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection.file;
+
+import lombok.NonNull;
+import okio.Buffer;
+import okio.ForwardingSink;
+import okio.Sink;
+
+import java.io.IOException;
+
+/**
+ * Sink that counts the number of bytes written to its delegate. Wrap {@link okio.Okio#blackhole()} to measure the
+ * size of content without retaining it.
+ */
+public class CountingSink extends ForwardingSink {
+    /** The number of bytes written. */
+    private long byteCount;
+
+    /**
+     * Creates a new {@code CountingSink} instance.
+     *
+     * @param delegate the sink to count bytes written to
+     */
+    public CountingSink(@NonNull final Sink delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public void write(@NonNull final Buffer source, final long byteCount) throws IOException {
+        super.write(source, byteCount);
+        this.byteCount += byteCount;
+    }
+
+    /**
+     * Gets the number of bytes written.
+     *
+     * @return the number of bytes
+     */
+    public long getByteCount() {
+        return byteCount;
+    }
+}
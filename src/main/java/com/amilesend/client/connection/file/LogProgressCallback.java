@@ -105,6 +105,14 @@ public class LogProgressCallback implements TransferProgressCallback {
                 return;
             }
 
+            if (totalBytes <= 0L) {
+                // The total is unknown for streamed content, so only the transferred byte count is logged
+                log.atLevel(loggingLevel)
+                        .log("{}{} Status: {} bytes", prefix, transferType.getLogPrefix(), currentBytes);
+                lastUpdateTimestamp.set(Instant.now());
+                return;
+            }
+
             final int currentProgressPercent = (int) Math.floor(((double) currentBytes / (double) totalBytes) * 100D);
             if (currentProgressPercent == lastUpdateProgressValue.get()) {
                 return;
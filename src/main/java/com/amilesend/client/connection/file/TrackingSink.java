@@ -17,6 +17,7 @@
  */
 package com.amilesend.client.connection.file;
 
+import com.amilesend.client.jfr.TransferEvent;
 import com.amilesend.client.util.Validate;
 import com.amilesend.client.util.VisibleForTesting;
 import lombok.NonNull;
@@ -25,6 +26,7 @@ import okio.ForwardingSink;
 import okio.Sink;
 
 import java.io.IOException;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicLong;
 
 /** Tracking sink to monitor the amount of bytes transferred. */
@@ -39,6 +41,9 @@ public class TrackingSink extends ForwardingSink {
     private final TransferProgressCallback callback;
     /** The total number of bytes to transfer. */
     private final long totalBytes;
+    /** The flight recorder event for the transfer, started on the first write and finished once. */
+    private TransferEvent event;
+    private boolean isEventFinished;
 
     /**
      * Creates a new {@code TrackingSink} instance.
@@ -58,6 +63,10 @@ public class TrackingSink extends ForwardingSink {
 
     @Override
     public void write(final Buffer source, final long byteCount) throws IOException {
+        if (Objects.isNull(event)) {
+            event = startEvent();
+        }
+
         try {
             superWrite(source, byteCount);
             final long processedBytes = bytesTransferred.addAndGet(byteCount);
@@ -67,15 +76,29 @@ public class TrackingSink extends ForwardingSink {
 
             if (processedBytes >= totalBytes) {
                 callback.onComplete(processedBytes);
+                finishEvent(processedBytes, true);
             }
         } catch (final IOException ex) {
+            finishEvent(bytesTransferred.get(), false);
             callback.onFailure(ex);
             throw ex;
         }
     }
 
+    @VisibleForTesting
+    TransferEvent startEvent() {
+        return TransferEvent.start(TransferEvent.Direction.UPLOAD, totalBytes);
+    }
+
     @VisibleForTesting
     void superWrite(final Buffer source, final long byteCount) throws IOException {
         super.write(source, byteCount);
     }
+
+    private void finishEvent(final long bytes, final boolean success) {
+        if (!isEventFinished) {
+            isEventFinished = true;
+            event.finish(bytes, success);
+        }
+    }
 }
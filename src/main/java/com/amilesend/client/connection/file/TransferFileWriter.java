@@ -17,6 +17,7 @@
  */
 package com.amilesend.client.connection.file;
 
+import com.amilesend.client.jfr.TransferEvent;
 import com.amilesend.client.util.Validate;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import lombok.Builder;
@@ -57,9 +58,10 @@ public class TransferFileWriter {
     public long write(@NonNull final BufferedSource source, final long size) throws IOException {
         Validate.isTrue(size >= 0L, "Size should be >= 0");
 
+        final TransferEvent event = TransferEvent.start(TransferEvent.Direction.DOWNLOAD, size);
+        long processedBytes = 0L;
         try {
             try (final BufferedSink outSink = Okio.buffer(Okio.sink(output))) {
-                long processedBytes = 0L;
                 long readBytes;
 
                 while ((readBytes = source.read(outSink.getBuffer(), TRANSFER_CHUNK_SIZE)) != -1L) {
@@ -68,9 +70,11 @@ public class TransferFileWriter {
                 }
                 outSink.flush();
                 callback.onComplete(processedBytes);
+                event.finish(processedBytes, true);
                 return processedBytes;
             }
         } catch (final IOException ex) {
+            event.finish(processedBytes, false);
             callback.onFailure(ex);
             throw ex;
         }
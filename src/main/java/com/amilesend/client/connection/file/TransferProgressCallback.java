@@ -27,7 +27,7 @@ public interface TransferProgressCallback {
      * Callback to notify consumers of the current amount of bytes that have transferred.
      *
      * @param currentBytes the current amount of accumulative bytes transferred thus far
-     * @param totalBytes the total amount of bytes for the transfer
+     * @param totalBytes the total amount of bytes for the transfer, or {@code -1} if unknown
      */
     void onUpdate(long currentBytes, long totalBytes);
 
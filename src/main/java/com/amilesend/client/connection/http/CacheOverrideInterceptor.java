@@ -0,0 +1,90 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection.http;
+
+import com.amilesend.client.util.Validate;
+import lombok.NonNull;
+import lombok.Value;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * A network interceptor that marks successful {@code GET} responses for matching requests as cacheable for a fixed
+ * duration when the server does not define any caching headers (i.e., {@code Cache-Control} or {@code Expires}).
+ * This allows the client's {@link okhttp3.Cache} to store content that is known to be immutable.
+ *
+ * @see OkHttpClientBuilder#forceCache(Predicate, Duration)
+ */
+public class CacheOverrideInterceptor implements Interceptor {
+    private static final String CACHE_CONTROL = "Cache-Control";
+    private static final String EXPIRES = "Expires";
+    private static final String PRAGMA = "Pragma";
+
+    private final List<Rule> rules;
+
+    /**
+     * Creates a new {@code CacheOverrideInterceptor}.
+     *
+     * @param rules the rules that define the requests to cache and for how long
+     */
+    public CacheOverrideInterceptor(@NonNull final List<Rule> rules) {
+        Validate.notEmpty(rules, "rules must not be empty");
+        this.rules = List.copyOf(rules);
+    }
+
+    @Override
+    public Response intercept(@NonNull final Chain chain) throws IOException {
+        final Request request = chain.request();
+        final Response response = chain.proceed(request);
+        if (!"GET".equals(request.method())
+                || !response.isSuccessful()
+                || Objects.nonNull(response.header(CACHE_CONTROL))
+                || Objects.nonNull(response.header(EXPIRES))) {
+            return response;
+        }
+
+        for (final Rule rule : rules) {
+            if (rule.getRequestMatcher().test(request)) {
+                return response.newBuilder()
+                        .removeHeader(PRAGMA)
+                        .header(CACHE_CONTROL, "public, max-age=" + rule.getMaxAge().getSeconds())
+                        .build();
+            }
+        }
+
+        return response;
+    }
+
+    /** Defines the requests to cache and for how long. */
+    @Value
+    public static class Rule {
+        /** Determines the requests that the rule applies to. */
+        @NonNull
+        Predicate<Request> requestMatcher;
+        /** The time to cache the response. */
+        @NonNull
+        Duration maxAge;
+    }
+}
@@ -0,0 +1,396 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection.http;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.client.util.VisibleForTesting;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Dns;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * A {@link Dns} that caches resolved addresses to avoid blocking the calling thread on every connection:
+ * <ul>
+ *     <li>Entries are cached for the TTL provided by the {@link #ttlFunction}, bounded by the {@link #minTtl} and
+ *     {@link #maxTtl}.</li>
+ *     <li>Popular hosts (i.e., looked up at least {@link #refreshHitThreshold} times) are refreshed in the background
+ *     once the majority of their TTL elapses so that they do not expire while in use.</li>
+ *     <li>Expired entries are kept for the {@link #maxStale} duration. If the resolver fails or does not respond
+ *     within the {@link #staleTimeout}, the stale addresses are returned instead.</li>
+ *     <li>Concurrent lookups of the same host share a single resolution.</li>
+ * </ul>
+ * Resolution counts and latencies are exposed as metrics.
+ *
+ * @see OkHttpClientBuilder#dns(Dns)
+ */
+@Slf4j
+public class CachingDns implements Dns {
+    /** The default TTL of resolved addresses. */
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(1L);
+    /** The default minimum TTL of resolved addresses. */
+    public static final Duration DEFAULT_MIN_TTL = Duration.ofSeconds(5L);
+    /** The default maximum TTL of resolved addresses. */
+    public static final Duration DEFAULT_MAX_TTL = Duration.ofMinutes(10L);
+    /** The default duration that expired addresses may be served. */
+    public static final Duration DEFAULT_MAX_STALE = Duration.ofHours(1L);
+    /** The default time to wait for the resolver before serving expired addresses. */
+    public static final Duration DEFAULT_STALE_TIMEOUT = Duration.ofMillis(250L);
+    /** The default number of lookups after which a host is refreshed in the background. */
+    public static final int DEFAULT_REFRESH_HIT_THRESHOLD = 2;
+
+    // Popular hosts are refreshed once 80% of their TTL elapses
+    private static final double REFRESH_AHEAD_RATIO = 0.8D;
+    private static final ExecutorService DEFAULT_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable, "okhttp-client-extensions-dns");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** The resolver to delegate to. */
+    private final Dns delegate;
+    /** Determines the TTL for a host. */
+    private final Function<String, Duration> ttlFunction;
+    /** The minimum TTL of resolved addresses. */
+    private final Duration minTtl;
+    /** The maximum TTL of resolved addresses. */
+    private final Duration maxTtl;
+    /** The duration after expiration that addresses may be served when the resolver is slow or fails. */
+    private final Duration maxStale;
+    /** The time to wait for the resolver before serving expired addresses. */
+    private final Duration staleTimeout;
+    /** The number of lookups of a cached host after which it is refreshed in the background. */
+    private final int refreshHitThreshold;
+    /** Executes resolutions. */
+    private final Executor executor;
+    /** The source of the current time in nanoseconds. */
+    private final LongSupplier ticker;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Entry>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder numHits = new LongAdder();
+    private final LongAdder numMisses = new LongAdder();
+    private final LongAdder numStaleHits = new LongAdder();
+    private final LongAdder numRefreshes = new LongAdder();
+    private final LongAdder numFailures = new LongAdder();
+    private final LongAdder numResolutions = new LongAdder();
+    private final LongAdder totalResolutionNanos = new LongAdder();
+    private final LongAccumulator maxResolutionNanos = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * Creates a new {@code CachingDns}.
+     *
+     * @param delegate the resolver to delegate to. Default is {@link Dns#SYSTEM}.
+     * @param ttlFunction determines the TTL for a host. Default is {@link #DEFAULT_TTL} for all hosts.
+     * @param minTtl the minimum TTL of resolved addresses. Default is {@link #DEFAULT_MIN_TTL}.
+     * @param maxTtl the maximum TTL of resolved addresses. Default is {@link #DEFAULT_MAX_TTL}.
+     * @param maxStale the duration after expiration that addresses may be served when the resolver is slow or
+     *                 fails. Default is {@link #DEFAULT_MAX_STALE}.
+     * @param staleTimeout the time to wait for the resolver before serving expired addresses. Default is
+     *                     {@link #DEFAULT_STALE_TIMEOUT}.
+     * @param refreshHitThreshold the number of lookups of a cached host after which it is refreshed in the
+     *                            background. Default is {@link #DEFAULT_REFRESH_HIT_THRESHOLD}.
+     * @param executor executes resolutions. Default is a shared pool of daemon threads.
+     * @param ticker the source of the current time in nanoseconds. Default is {@link System#nanoTime()}.
+     */
+    @Builder
+    private CachingDns(final Dns delegate,
+                       final Function<String, Duration> ttlFunction,
+                       final Duration minTtl,
+                       final Duration maxTtl,
+                       final Duration maxStale,
+                       final Duration staleTimeout,
+                       final Integer refreshHitThreshold,
+                       final Executor executor,
+                       final LongSupplier ticker) {
+        this.delegate = Optional.ofNullable(delegate).orElse(Dns.SYSTEM);
+        this.ttlFunction = Optional.ofNullable(ttlFunction).orElse(host -> DEFAULT_TTL);
+        this.minTtl = Optional.ofNullable(minTtl).orElse(DEFAULT_MIN_TTL);
+        this.maxTtl = Optional.ofNullable(maxTtl).orElse(DEFAULT_MAX_TTL);
+        Validate.isTrue(!this.minTtl.isNegative(), "minTtl must not be negative");
+        Validate.isTrue(this.maxTtl.compareTo(this.minTtl) >= 0, "maxTtl must be >= minTtl");
+        this.maxStale = Optional.ofNullable(maxStale).orElse(DEFAULT_MAX_STALE);
+        Validate.isTrue(!this.maxStale.isNegative(), "maxStale must not be negative");
+        this.staleTimeout = Optional.ofNullable(staleTimeout).orElse(DEFAULT_STALE_TIMEOUT);
+        Validate.isTrue(!this.staleTimeout.isNegative(), "staleTimeout must not be negative");
+        this.refreshHitThreshold = Optional.ofNullable(refreshHitThreshold).orElse(DEFAULT_REFRESH_HIT_THRESHOLD);
+        Validate.isTrue(this.refreshHitThreshold > 0, "refreshHitThreshold must be > 0");
+        this.executor = Optional.ofNullable(executor).orElse(DEFAULT_EXECUTOR);
+        this.ticker = Optional.ofNullable(ticker).orElse(System::nanoTime);
+    }
+
+    @Override
+    public List<InetAddress> lookup(@NonNull final String hostname) throws UnknownHostException {
+        final long now = ticker.getAsLong();
+        final Entry entry = entries.get(hostname);
+        if (Objects.nonNull(entry) && now - entry.expiresAtNanos < 0L) {
+            numHits.increment();
+            entry.hits.increment();
+            if (now - entry.refreshAtNanos >= 0L && entry.hits.sum() >= refreshHitThreshold) {
+                resolveAsync(hostname, true);
+            }
+            return entry.addresses;
+        }
+
+        final CompletableFuture<Entry> resolution = resolveAsync(hostname, false);
+        if (Objects.nonNull(entry) && now - entry.staleUntilNanos < 0L) {
+            return resolveOrServeStale(hostname, resolution, entry);
+        }
+
+        numMisses.increment();
+        try {
+            return resolution.get().addresses;
+        } catch (final ExecutionException ex) {
+            throw toUnknownHostException(hostname, ex.getCause());
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw toUnknownHostException(hostname, ex);
+        }
+    }
+
+    /**
+     * Removes all cached addresses.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * Gets the number of lookups served from unexpired cached addresses.
+     *
+     * @return the number of hits
+     */
+    public long getHitCount() {
+        return numHits.sum();
+    }
+
+    /**
+     * Gets the number of lookups that had no cached addresses and waited for the resolver.
+     *
+     * @return the number of misses
+     */
+    public long getMissCount() {
+        return numMisses.sum();
+    }
+
+    /**
+     * Gets the number of lookups served from expired addresses because the resolver was slow or failed.
+     *
+     * @return the number of stale hits
+     */
+    public long getStaleHitCount() {
+        return numStaleHits.sum();
+    }
+
+    /**
+     * Gets the number of background refreshes of popular hosts.
+     *
+     * @return the number of refreshes
+     */
+    public long getRefreshCount() {
+        return numRefreshes.sum();
+    }
+
+    /**
+     * Gets the number of resolutions that failed.
+     *
+     * @return the number of failures
+     */
+    public long getFailureCount() {
+        return numFailures.sum();
+    }
+
+    /**
+     * Gets the number of resolutions made with the delegate resolver, including failures.
+     *
+     * @return the number of resolutions
+     */
+    public long getResolutionCount() {
+        return numResolutions.sum();
+    }
+
+    /**
+     * Gets the mean latency of the delegate resolver.
+     *
+     * @return the mean resolution time
+     */
+    public Duration getMeanResolutionTime() {
+        final long count = numResolutions.sum();
+        return count == 0L ? Duration.ZERO : Duration.ofNanos(totalResolutionNanos.sum() / count);
+    }
+
+    /**
+     * Gets the max latency of the delegate resolver.
+     *
+     * @return the max resolution time
+     */
+    public Duration getMaxResolutionTime() {
+        return Duration.ofNanos(maxResolutionNanos.get());
+    }
+
+    /**
+     * Gets the number of cached hosts, including those with expired addresses.
+     *
+     * @return the number of cached hosts
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the in-flight resolution of the given host.
+     *
+     * @param hostname the host
+     * @return the resolution, or {@code null} if none is in-flight
+     */
+    @VisibleForTesting
+    CompletableFuture<?> getResolution(final String hostname) {
+        return inFlight.get(hostname);
+    }
+
+    private List<InetAddress> resolveOrServeStale(final String hostname,
+                                                  final CompletableFuture<Entry> resolution,
+                                                  final Entry staleEntry) throws UnknownHostException {
+        try {
+            final List<InetAddress> addresses =
+                    resolution.get(staleTimeout.toNanos(), TimeUnit.NANOSECONDS).addresses;
+            numMisses.increment();
+            return addresses;
+        } catch (final TimeoutException | ExecutionException ex) {
+            log.debug("Serving stale addresses for {}: {}", hostname, ex.toString());
+            numStaleHits.increment();
+            return staleEntry.addresses;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw toUnknownHostException(hostname, ex);
+        }
+    }
+
+    private CompletableFuture<Entry> resolveAsync(final String hostname, final boolean isRefresh) {
+        final CompletableFuture<Entry> resolution = new CompletableFuture<>();
+        final CompletableFuture<Entry> existing = inFlight.putIfAbsent(hostname, resolution);
+        if (Objects.nonNull(existing)) {
+            return existing;
+        }
+
+        if (isRefresh) {
+            numRefreshes.increment();
+        }
+
+        try {
+            executor.execute(() -> {
+                // Remove before completing so that a completed resolution is never shared with later lookups
+                try {
+                    final Entry entry = resolve(hostname);
+                    inFlight.remove(hostname, resolution);
+                    resolution.complete(entry);
+                } catch (final UnknownHostException | RuntimeException ex) {
+                    inFlight.remove(hostname, resolution);
+                    resolution.completeExceptionally(ex);
+                }
+            });
+        } catch (final RuntimeException ex) {
+            inFlight.remove(hostname, resolution);
+            resolution.completeExceptionally(ex);
+        }
+
+        return resolution;
+    }
+
+    private Entry resolve(final String hostname) throws UnknownHostException {
+        final long startNanos = ticker.getAsLong();
+        try {
+            final List<InetAddress> addresses = List.copyOf(delegate.lookup(hostname));
+            final long now = ticker.getAsLong();
+            recordResolution(now - startNanos);
+            final Entry entry = new Entry(addresses, now, boundTtl(ttlFunction.apply(hostname)), maxStale);
+            entries.put(hostname, entry);
+            return entry;
+        } catch (final UnknownHostException | RuntimeException ex) {
+            recordResolution(ticker.getAsLong() - startNanos);
+            numFailures.increment();
+            throw ex;
+        }
+    }
+
+    private void recordResolution(final long elapsedNanos) {
+        numResolutions.increment();
+        totalResolutionNanos.add(elapsedNanos);
+        maxResolutionNanos.accumulate(elapsedNanos);
+    }
+
+    private Duration boundTtl(final Duration ttl) {
+        if (Objects.isNull(ttl) || ttl.compareTo(minTtl) < 0) {
+            return minTtl;
+        }
+
+        return ttl.compareTo(maxTtl) > 0 ? maxTtl : ttl;
+    }
+
+    private static UnknownHostException toUnknownHostException(final String hostname, final Throwable cause) {
+        final Throwable unwrapped = cause instanceof CompletionException && Objects.nonNull(cause.getCause())
+                ? cause.getCause()
+                : cause;
+        if (unwrapped instanceof UnknownHostException) {
+            return (UnknownHostException) unwrapped;
+        }
+
+        final UnknownHostException ex = new UnknownHostException("Unable to resolve " + hostname);
+        ex.initCause(unwrapped);
+        return ex;
+    }
+
+    private static class Entry {
+        private final List<InetAddress> addresses;
+        private final long refreshAtNanos;
+        private final long expiresAtNanos;
+        private final long staleUntilNanos;
+        private final LongAdder hits = new LongAdder();
+
+        Entry(final List<InetAddress> addresses,
+              final long resolvedAtNanos,
+              final Duration ttl,
+              final Duration maxStale) {
+            this.addresses = addresses;
+            this.refreshAtNanos = resolvedAtNanos + (long) (ttl.toNanos() * REFRESH_AHEAD_RATIO);
+            this.expiresAtNanos = resolvedAtNanos + ttl.toNanos();
+            this.staleUntilNanos = expiresAtNanos + maxStale.toNanos();
+        }
+    }
+}
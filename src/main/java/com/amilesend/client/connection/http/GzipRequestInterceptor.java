@@ -0,0 +1,183 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection.http;
+
+import com.amilesend.client.connection.encoding.GzipContentDecoder;
+import com.amilesend.client.connection.file.CountingSink;
+import com.amilesend.client.util.VisibleForTesting;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okio.BufferedSink;
+import okio.GzipSink;
+import okio.Okio;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import static com.amilesend.client.connection.Connection.Headers.CONTENT_ENCODING;
+import static com.amilesend.client.connection.Connection.Headers.CONTENT_LENGTH;
+
+/**
+ * An interceptor that gzip-compresses outbound request bodies for services that accept
+ * {@code Content-Encoding: gzip} requests. The body is compressed as it is written to the connection, so it is never
+ * buffered in full; as a result, compressed requests are sent with chunked transfer encoding.
+ * <p>
+ * Only bodies with a text, JSON, or form media type that are at least {@link #minSizeBytes} in length are
+ * compressed. Bodies of unknown length are compressed unless {@link #isUnknownLengthCompressed} is disabled.
+ * Requests that already define a {@code Content-Encoding} header are left unchanged.
+ *
+ * @see CompressionListener
+ */
+@Builder
+@Slf4j
+public class GzipRequestInterceptor implements Interceptor {
+    /** The default minimum body size to compress. */
+    public static final long DEFAULT_MIN_SIZE_BYTES = 1024L;
+
+    /** The minimum body size in bytes to compress. Default is {@link #DEFAULT_MIN_SIZE_BYTES}. */
+    @Builder.Default
+    private final long minSizeBytes = DEFAULT_MIN_SIZE_BYTES;
+    /** Flag indicator to compress bodies that do not declare a content length. Default is {@code true}. */
+    @Builder.Default
+    private final boolean isUnknownLengthCompressed = true;
+    /** The listener notified of the outcome of each compressed request body. Default logs at the debug level. */
+    @NonNull
+    @Builder.Default
+    private final CompressionListener listener = GzipRequestInterceptor::logCompression;
+
+    @Override
+    public Response intercept(@NonNull final Chain chain) throws IOException {
+        final Request request = chain.request();
+        if (!isCompressible(request)) {
+            return chain.proceed(request);
+        }
+
+        return chain.proceed(request.newBuilder()
+                .header(CONTENT_ENCODING, GzipContentDecoder.ENCODING)
+                .removeHeader(CONTENT_LENGTH)
+                .method(request.method(), new GzipRequestBody(request, request.body(), listener))
+                .build());
+    }
+
+    @VisibleForTesting
+    boolean isCompressible(final Request request) throws IOException {
+        final RequestBody body = request.body();
+        if (Objects.isNull(body) || Objects.nonNull(request.header(CONTENT_ENCODING)) || body.isDuplex()) {
+            return false;
+        }
+
+        if (!isCompressibleMediaType(body.contentType())) {
+            return false;
+        }
+
+        final long contentLength = body.contentLength();
+        return contentLength < 0L ? isUnknownLengthCompressed : contentLength >= minSizeBytes;
+    }
+
+    private static boolean isCompressibleMediaType(final MediaType mediaType) {
+        if (Objects.isNull(mediaType)) {
+            return false;
+        }
+
+        final String type = mediaType.type();
+        final String subtype = mediaType.subtype();
+        return "text".equals(type)
+                || ("application".equals(type)
+                        && ("json".equals(subtype)
+                                || subtype.endsWith("+json")
+                                || "x-ndjson".equals(subtype)
+                                || "x-www-form-urlencoded".equals(subtype)));
+    }
+
+    private static void logCompression(final Request request, final long uncompressedBytes, final long compressedBytes) {
+        if (log.isDebugEnabled()) {
+            log.debug("Compressed {} {} request body from {} to {} bytes (ratio: {})",
+                    request.method(),
+                    request.url().encodedPath(),
+                    uncompressedBytes,
+                    compressedBytes,
+                    String.format("%.2f", CompressionListener.ratio(uncompressedBytes, compressedBytes)));
+        }
+    }
+
+    /** Notified of the compressed size of each request body once it has been fully written. */
+    @FunctionalInterface
+    public interface CompressionListener {
+        /**
+         * Invoked after a request body is compressed.
+         *
+         * @param request the original request
+         * @param uncompressedBytes the number of bytes written by the original body
+         * @param compressedBytes the number of bytes sent
+         */
+        void onCompressed(Request request, long uncompressedBytes, long compressedBytes);
+
+        /**
+         * Calculates the compression ratio (i.e., uncompressed size / compressed size).
+         *
+         * @param uncompressedBytes the uncompressed size
+         * @param compressedBytes the compressed size
+         * @return the compression ratio
+         */
+        static double ratio(final long uncompressedBytes, final long compressedBytes) {
+            return compressedBytes <= 0L ? 0.0D : (double) uncompressedBytes / compressedBytes;
+        }
+    }
+
+    /** Wraps a request body to compress its contents as they are written. */
+    @RequiredArgsConstructor
+    @VisibleForTesting
+    static class GzipRequestBody extends RequestBody {
+        private final Request request;
+        private final RequestBody delegate;
+        private final CompressionListener listener;
+
+        @Override
+        public MediaType contentType() {
+            return delegate.contentType();
+        }
+
+        @Override
+        public long contentLength() {
+            return -1L;
+        }
+
+        @Override
+        public boolean isOneShot() {
+            return delegate.isOneShot();
+        }
+
+        @Override
+        public void writeTo(@NonNull final BufferedSink sink) throws IOException {
+            final CountingSink compressedSink = new CountingSink(sink);
+            final CountingSink uncompressedSink = new CountingSink(new GzipSink(compressedSink));
+            try (final BufferedSink gzipSink = Okio.buffer(uncompressedSink)) {
+                delegate.writeTo(gzipSink);
+            }
+
+            listener.onCompressed(request, uncompressedSink.getByteCount(), compressedSink.getByteCount());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection.http;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+import okhttp3.Cache;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.amilesend.client.connection.Connection.Headers.IF_MODIFIED_SINCE;
+import static com.amilesend.client.connection.Connection.Headers.IF_NONE_MATCH;
+import static com.amilesend.client.connection.RevalidatingCache.NOT_MODIFIED_RESPONSE_CODE;
+
+/**
+ * A snapshot of the usage statistics of an {@link OkHttpClient}'s disk {@link Cache}.
+ *
+ * @see OkHttpClientBuilder#cache(java.nio.file.Path, long)
+ */
+@Builder
+@Value
+public class HttpCacheStats {
+    /** The number of HTTP requests issued through the cache. */
+    long requestCount;
+    /** The number of requests served by the cache, including those that were conditionally validated. */
+    long hitCount;
+    /** The number of requests that required a network call. */
+    long networkCount;
+    /** The number of network calls that were conditional requests to validate a cached response. */
+    long conditionalCount;
+    /** The number of conditional requests that returned {@code 304 Not Modified}. */
+    long conditionalHitCount;
+
+    /**
+     * Gets the current statistics for the given client.
+     *
+     * @param client the client
+     * @return the statistics, or empty if the client does not have a cache
+     */
+    public static Optional<HttpCacheStats> of(@NonNull final OkHttpClient client) {
+        final Cache cache = client.cache();
+        if (Objects.isNull(cache)) {
+            return Optional.empty();
+        }
+
+        final Optional<ConditionalRequestCounter> counter = client.networkInterceptors().stream()
+                .filter(ConditionalRequestCounter.class::isInstance)
+                .map(ConditionalRequestCounter.class::cast)
+                .findFirst();
+        return Optional.of(HttpCacheStats.builder()
+                .requestCount(cache.requestCount())
+                .hitCount(cache.hitCount())
+                .networkCount(cache.networkCount())
+                .conditionalCount(counter.map(c -> c.numConditional.sum()).orElse(0L))
+                .conditionalHitCount(counter.map(c -> c.numNotModified.sum()).orElse(0L))
+                .build());
+    }
+
+    /** Network interceptor that counts conditional requests and their not modified responses. */
+    static class ConditionalRequestCounter implements Interceptor {
+        private final LongAdder numConditional = new LongAdder();
+        private final LongAdder numNotModified = new LongAdder();
+
+        @Override
+        public Response intercept(@NonNull final Chain chain) throws IOException {
+            final Request request = chain.request();
+            final boolean isConditional = Objects.nonNull(request.header(IF_NONE_MATCH))
+                    || Objects.nonNull(request.header(IF_MODIFIED_SINCE));
+            final Response response = chain.proceed(request);
+            if (isConditional) {
+                numConditional.increment();
+                if (response.code() == NOT_MODIFIED_RESPONSE_CODE) {
+                    numNotModified.increment();
+                }
+            }
+
+            return response;
+        }
+    }
+}
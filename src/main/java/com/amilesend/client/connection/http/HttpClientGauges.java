@@ -0,0 +1,79 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection.http;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import okhttp3.OkHttpClient;
+
+/**
+ * Live gauges of an {@link OkHttpClient}'s connection pool and dispatcher. Each value is read from the client
+ * when requested so that the gauges can be registered directly with a metrics library (e.g.,
+ * {@code registry.gauge("http.pool.idle", gauges, HttpClientGauges::getIdleConnectionCount)}).
+ */
+@RequiredArgsConstructor
+public class HttpClientGauges {
+    @NonNull
+    private final OkHttpClient client;
+
+    /**
+     * Gets the number of open connections in the pool, both idle and in use.
+     *
+     * @return the number of connections
+     */
+    public int getConnectionCount() {
+        return client.connectionPool().connectionCount();
+    }
+
+    /**
+     * Gets the number of idle connections in the pool.
+     *
+     * @return the number of idle connections
+     */
+    public int getIdleConnectionCount() {
+        return client.connectionPool().idleConnectionCount();
+    }
+
+    /**
+     * Gets the number of connections in the pool that are in use.
+     *
+     * @return the number of active connections
+     */
+    public int getActiveConnectionCount() {
+        return Math.max(0, getConnectionCount() - getIdleConnectionCount());
+    }
+
+    /**
+     * Gets the number of calls that are currently executing, both synchronous and asynchronous.
+     *
+     * @return the number of running calls
+     */
+    public int getRunningCallCount() {
+        return client.dispatcher().runningCallsCount();
+    }
+
+    /**
+     * Gets the number of asynchronous calls waiting for the dispatcher to execute them (i.e., due to the max
+     * requests or max requests per host limits).
+     *
+     * @return the number of queued calls
+     */
+    public int getQueuedCallCount() {
+        return client.dispatcher().queuedCallsCount();
+    }
+}
@@ -17,7 +17,9 @@
  */
 package com.amilesend.client.connection.http;
 
+import com.amilesend.client.connection.encoding.ContentDecoders;
 import com.amilesend.client.util.Pair;
+import com.amilesend.client.util.StringUtils;
 import com.amilesend.client.util.VisibleForTesting;
 import com.google.gson.Gson;
 import com.google.gson.JsonParser;
@@ -34,8 +36,6 @@ import okhttp3.Response;
 import okhttp3.ResponseBody;
 import okio.Buffer;
 import okio.BufferedSource;
-import okio.GzipSource;
-import okio.Okio;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.event.Level;
@@ -56,7 +56,6 @@ import static com.amilesend.client.connection.Connection.Headers.CONTENT_ENCODIN
 public class HttpJsonLoggingInterceptor implements Interceptor {
     private static final String REDACTED = " **********";
     private static final String REDACTED_QUERY_PARAM_VALUE = "REDACTED";
-    private static final String GZIP_ENCODING = "gzip";
 
     /** The set of HTTP headers to redact in the logging statements. */
     @Singular
@@ -170,8 +169,13 @@ public class HttpJsonLoggingInterceptor implements Interceptor {
             return Pair.of("[Unsupported content type: " + mediaType + "]", response);
         }
 
-        if (GZIP_ENCODING.equals(response.header(CONTENT_ENCODING))) {
-            final String bodyContent = newBufferedSource(body).readUtf8();
+        final String contentEncoding = response.header(CONTENT_ENCODING);
+        if (StringUtils.isNotBlank(contentEncoding)) {
+            if (!ContentDecoders.isSupported(contentEncoding, ContentDecoders.defaults())) {
+                return Pair.of("[Unsupported content encoding: " + contentEncoding + "]", response);
+            }
+
+            final String bodyContent = newBufferedSource(body, contentEncoding).readUtf8();
             final Response wrappedResponse = response.newBuilder()
                     .removeHeader(CONTENT_ENCODING)
                     .body(ResponseBody.create(bodyContent, mediaType))
@@ -189,8 +193,8 @@ public class HttpJsonLoggingInterceptor implements Interceptor {
     }
 
     @VisibleForTesting
-    BufferedSource newBufferedSource(final ResponseBody body) {
-        return Okio.buffer(new GzipSource(body.source()));
+    BufferedSource newBufferedSource(final ResponseBody body, final String contentEncoding) throws IOException {
+        return ContentDecoders.decode(body.source(), contentEncoding, ContentDecoders.defaults());
     }
 
     @VisibleForTesting
@@ -17,43 +17,94 @@
  */
 package com.amilesend.client.connection.http;
 
-import com.amilesend.client.connection.ConnectionException;
 import com.amilesend.client.util.StringUtils;
+import com.amilesend.client.util.Validate;
+import com.amilesend.client.util.VirtualThreads;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import okhttp3.Authenticator;
+import okhttp3.Cache;
+import okhttp3.CipherSuite;
+import okhttp3.ConnectionPool;
 import okhttp3.ConnectionSpec;
 import okhttp3.Credentials;
+import okhttp3.Dispatcher;
+import okhttp3.Dns;
+import okhttp3.EventListener;
 import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.Route;
+import okhttp3.TlsVersion;
 import org.jetbrains.annotations.Nullable;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
-import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
 import java.net.Proxy;
-import java.security.KeyManagementException;
-import java.security.NoSuchAlgorithmException;
-import java.security.SecureRandom;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 /**
  * Utility to configure and build a {@link OkHttpClient} with the option of default configuration for this client.
  * This supports configuring a client that:
  * <ul>
- *     <li>Customizes the SSL trust manager and hostname verifier</li>
+ *     <li>Customizes the SSL trust manager and hostname verifier. When a trust manager or TLS session setting is
+ *     defined, one {@link SSLContext} is shared per trust configuration so that TLS sessions can be resumed across
+ *     clients. Otherwise, the platform TLS defaults are used.</li>
+ *     <li>Customizes the TLS connection spec (see {@link #TLS_1_3_FIRST}) and TLS session cache</li>
  *     <li>Configures a proxy with username and password</li>
  *     <li>Configures support to follow redirects</li>
  *     <li>Configures connection and read/write timeouts (default is disabled)</li>
+ *     <li>Configures the dispatcher to execute asynchronous calls on virtual threads (Java 21+)</li>
+ *     <li>Configures a disk cache with optional forced caching of specific requests</li>
+ *     <li>Configures the DNS resolver (see {@link CachingDns})</li>
+ *     <li>Configures call event listeners (see {@link PhaseLatencyListener})</li>
+ *     <li>Configures the connection pool, dispatcher limits, HTTP/2 ping interval, and call timeout (see
+ *     {@link #highThroughputPreset()})</li>
+ *     <li>Derives from a shared {@link #rootClient(OkHttpClient) root client} to share its connection pool,
+ *     dispatcher, and cache</li>
  * </ul>
  */
+@Slf4j
 public class OkHttpClientBuilder {
+    /** The max number of concurrent requests for the {@link #highThroughputPreset() high throughput preset}. */
+    public static final int HIGH_THROUGHPUT_MAX_REQUESTS = 256;
+    /** The max number of concurrent requests per host for the high throughput preset. */
+    public static final int HIGH_THROUGHPUT_MAX_REQUESTS_PER_HOST = 64;
+    /** The max number of idle pooled connections for the high throughput preset. */
+    public static final int HIGH_THROUGHPUT_MAX_IDLE_CONNECTIONS = 64;
+    /** The keep-alive duration of idle pooled connections for the high throughput preset. */
+    public static final Duration HIGH_THROUGHPUT_KEEP_ALIVE = Duration.ofMinutes(5L);
+    /** The HTTP/2 ping interval for the high throughput preset. */
+    public static final Duration HIGH_THROUGHPUT_PING_INTERVAL = Duration.ofSeconds(30L);
+    /**
+     * A connection spec that prefers TLS 1.3 and falls back to TLS 1.2, limited to forward-secret AEAD cipher
+     * suites ordered by preference.
+     */
+    public static final ConnectionSpec TLS_1_3_FIRST = new ConnectionSpec.Builder(true)
+            .tlsVersions(TlsVersion.TLS_1_3, TlsVersion.TLS_1_2)
+            .cipherSuites(
+                    CipherSuite.TLS_AES_128_GCM_SHA256,
+                    CipherSuite.TLS_CHACHA20_POLY1305_SHA256,
+                    CipherSuite.TLS_AES_256_GCM_SHA384,
+                    CipherSuite.TLS_ECDHE_ECDSA_WITH_AES_128_GCM_SHA256,
+                    CipherSuite.TLS_ECDHE_RSA_WITH_AES_128_GCM_SHA256,
+                    CipherSuite.TLS_ECDHE_ECDSA_WITH_CHACHA20_POLY1305_SHA256,
+                    CipherSuite.TLS_ECDHE_RSA_WITH_CHACHA20_POLY1305_SHA256,
+                    CipherSuite.TLS_ECDHE_ECDSA_WITH_AES_256_GCM_SHA384,
+                    CipherSuite.TLS_ECDHE_RSA_WITH_AES_256_GCM_SHA384)
+            .build();
+
+    private OkHttpClient rootClient;
     private X509TrustManager trustManager;
     private HostnameVerifier hostnameVerifier;
     private Proxy proxy;
@@ -62,10 +113,44 @@ public class OkHttpClientBuilder {
     private Authenticator proxyAuthenticator;
     private boolean isRedirectsAllowed = true;
     private boolean isForTest;
+    private boolean isVirtualThreadDispatcherEnabled;
     private Duration connectTimeout = Duration.ofMillis(10000L);
     private Duration readTimeout = Duration.ofMillis(10000L);
     private Duration writeTimeout = Duration.ofMillis(10000L);
     private List<Interceptor> interceptors = new ArrayList<>();
+    private Path cacheDirectory;
+    private long cacheMaxSizeBytes;
+    private List<CacheOverrideInterceptor.Rule> cacheOverrideRules = new ArrayList<>();
+    private Dns dns;
+    private EventListener.Factory eventListenerFactory;
+    private ConnectionSpec tlsConnectionSpec = ConnectionSpec.MODERN_TLS;
+    private Integer sslSessionCacheSize;
+    private Duration sslSessionTimeout;
+    private Integer maxIdleConnections;
+    private Duration keepAliveDuration;
+    private Integer maxRequests;
+    private Integer maxRequestsPerHost;
+    private Duration pingInterval;
+    private Duration callTimeout;
+
+    /**
+     * Sets the root client to derive the built client from via {@link OkHttpClient#newBuilder()}. The built client
+     * shares the root client's connection pool, dispatcher (and its threads), cache, DNS resolver, and interceptors,
+     * while the timeouts, interceptors, and TLS settings of this builder apply only to the built client. This allows
+     * many connections (e.g., per API or tenant) to be served by a single pool and set of threads.
+     * <p>
+     * Note: explicitly configuring the dispatcher, connection pool, cache, or DNS resolver on this builder replaces
+     * the shared instance for the built client. The root client's trust manager and SSL socket factory are kept unless a
+     * trust manager or TLS session setting is configured on this builder. Connections are only reused between clients with the same trust
+     * manager, hostname verifier, proxy, and connection specs.
+     *
+     * @param rootClient the client to derive from
+     * @return the builder instance
+     */
+    public OkHttpClientBuilder rootClient(final OkHttpClient rootClient) {
+        this.rootClient = rootClient;
+        return this;
+    }
 
     /**
      * Sets the SSL/TLS trust manager to use with the HTTP client.
@@ -177,6 +262,198 @@ public class OkHttpClientBuilder {
         return this;
     }
 
+    /**
+     * Sets the flag to execute asynchronous calls (i.e., {@code Call.enqueue}) on virtual threads instead of the
+     * dispatcher's default platform thread pool. This requires a Java 21+ runtime; otherwise, the default
+     * dispatcher is used. Note: The dispatcher's max requests and max requests per host limits still apply.
+     *
+     * @param isVirtualThreadDispatcherEnabled If {@code true}, then the dispatcher uses virtual threads;
+     *                                         else, {@code false}
+     * @return the builder instance
+     */
+    public OkHttpClientBuilder isVirtualThreadDispatcherEnabled(final boolean isVirtualThreadDispatcherEnabled) {
+        this.isVirtualThreadDispatcherEnabled = isVirtualThreadDispatcherEnabled;
+        return this;
+    }
+
+    /**
+     * Sets the TLS versions and cipher suites to negotiate (default is {@link ConnectionSpec#MODERN_TLS}).
+     *
+     * @param tlsConnectionSpec the TLS connection spec (e.g., {@link #TLS_1_3_FIRST})
+     * @return the builder instance
+     */
+    public OkHttpClientBuilder tlsConnectionSpec(@NonNull final ConnectionSpec tlsConnectionSpec) {
+        Validate.isTrue(tlsConnectionSpec.isTls(), "tlsConnectionSpec must be a TLS connection spec");
+        this.tlsConnectionSpec = tlsConnectionSpec;
+        return this;
+    }
+
+    /**
+     * Sets the max number of TLS client sessions cached for resumption (default is the provider default). Clients
+     * built with the same trust manager and session settings share one {@link SSLContext} and its session cache.
+     *
+     * @param sslSessionCacheSize the max number of cached sessions, or {@code 0} for no limit
+     * @return the builder instance
+     */
+    public OkHttpClientBuilder sslSessionCacheSize(final int sslSessionCacheSize) {
+        Validate.isTrue(sslSessionCacheSize >= 0, "sslSessionCacheSize must be >= 0");
+        this.sslSessionCacheSize = sslSessionCacheSize;
+        return this;
+    }
+
+    /**
+     * Sets the time that cached TLS client sessions may be resumed (default is the provider default).
+     *
+     * @param sslSessionTimeout the session timeout, or {@link Duration#ZERO} for no limit
+     * @return the builder instance
+     */
+    public OkHttpClientBuilder sslSessionTimeout(@NonNull final Duration sslSessionTimeout) {
+        Validate.isTrue(!sslSessionTimeout.isNegative(), "sslSessionTimeout must not be negative");
+        this.sslSessionTimeout = sslSessionTimeout;
+        return this;
+    }
+
+    /**
+     * Sets the factory of listeners for the events of each call (e.g., {@link PhaseLatencyListener} to record the
+     * latency of each phase of a call).
+     *
+     * @param eventListenerFactory the event listener factory
+     * @return the builder instance
+     */
+    public OkHttpClientBuilder eventListenerFactory(final EventListener.Factory eventListenerFactory) {
+        this.eventListenerFactory = eventListenerFactory;
+        return this;
+    }
+
+    /**
+     * Sets the DNS resolver used to look up the addresses of hosts (default is {@link Dns#SYSTEM}, which blocks the
+     * calling thread on each lookup). See {@link CachingDns} to cache resolved addresses.
+     *
+     * @param dns the DNS resolver
+     * @return the builder instance
+     */
+    public OkHttpClientBuilder dns(final Dns dns) {
+        this.dns = dns;
+        return this;
+    }
+
+    /**
+     * Configures the connection pool. The default pool holds up to 5 idle connections for 5 minutes.
+     *
+     * @param maxIdleConnections the max number of idle connections to keep in the pool
+     * @param keepAliveDuration the time to keep an idle connection in the pool
+     * @return the builder instance
+     */
+    public OkHttpClientBuilder connectionPool(final int maxIdleConnections, @NonNull final Duration keepAliveDuration) {
+        Validate.isTrue(maxIdleConnections >= 0, "maxIdleConnections must be >= 0");
+        Validate.isTrue(!keepAliveDuration.isNegative() && !keepAliveDuration.isZero(),
+                "keepAliveDuration must be positive");
+        this.maxIdleConnections = maxIdleConnections;
+        this.keepAliveDuration = keepAliveDuration;
+        return this;
+    }
+
+    /**
+     * Sets the max number of requests that the dispatcher executes concurrently (default is 64). Additional
+     * asynchronous calls are queued.
+     *
+     * @param maxRequests the max number of concurrent requests
+     * @return the builder instance
+     */
+    public OkHttpClientBuilder maxRequests(final int maxRequests) {
+        Validate.isTrue(maxRequests > 0, "maxRequests must be > 0");
+        this.maxRequests = maxRequests;
+        return this;
+    }
+
+    /**
+     * Sets the max number of requests per host that the dispatcher executes concurrently (default is 5).
+     * Additional asynchronous calls to the host are queued.
+     *
+     * @param maxRequestsPerHost the max number of concurrent requests per host
+     * @return the builder instance
+     */
+    public OkHttpClientBuilder maxRequestsPerHost(final int maxRequestsPerHost) {
+        Validate.isTrue(maxRequestsPerHost > 0, "maxRequestsPerHost must be > 0");
+        this.maxRequestsPerHost = maxRequestsPerHost;
+        return this;
+    }
+
+    /**
+     * Sets the interval between HTTP/2 and web socket pings that keep connections alive and detect failed
+     * connections (default is disabled).
+     *
+     * @param pingInterval the ping interval
+     * @return the builder instance
+     */
+    public OkHttpClientBuilder pingInterval(final Duration pingInterval) {
+        this.pingInterval = pingInterval;
+        return this;
+    }
+
+    /**
+     * Sets the timeout for a complete call, including resolving DNS, connecting, writing the request body, server
+     * processing, and reading the response body (default is disabled).
+     *
+     * @param callTimeout the call timeout
+     * @return the builder instance
+     */
+    public OkHttpClientBuilder callTimeout(final Duration callTimeout) {
+        this.callTimeout = callTimeout;
+        return this;
+    }
+
+    /**
+     * Applies settings for clients that make a high volume of concurrent requests to a small number of hosts,
+     * which can be individually overridden afterward:
+     * <ul>
+     *     <li>{@value #HIGH_THROUGHPUT_MAX_REQUESTS} max requests</li>
+     *     <li>{@value #HIGH_THROUGHPUT_MAX_REQUESTS_PER_HOST} max requests per host</li>
+     *     <li>{@value #HIGH_THROUGHPUT_MAX_IDLE_CONNECTIONS} max idle connections kept alive for 5 minutes</li>
+     *     <li>30 second HTTP/2 ping interval</li>
+     * </ul>
+     *
+     * @return the builder instance
+     */
+    public OkHttpClientBuilder highThroughputPreset() {
+        return maxRequests(HIGH_THROUGHPUT_MAX_REQUESTS)
+                .maxRequestsPerHost(HIGH_THROUGHPUT_MAX_REQUESTS_PER_HOST)
+                .connectionPool(HIGH_THROUGHPUT_MAX_IDLE_CONNECTIONS, HIGH_THROUGHPUT_KEEP_ALIVE)
+                .pingInterval(HIGH_THROUGHPUT_PING_INTERVAL);
+    }
+
+    /**
+     * Configures a disk cache that honors the server's {@code Cache-Control} headers across process restarts.
+     * Cache statistics are available via {@link HttpCacheStats#of(OkHttpClient)}.
+     *
+     * @param directory the cache directory, which must be exclusive to a single client instance
+     * @param maxSizeBytes the maximum size of the cache in bytes
+     * @return the builder instance
+     */
+    public OkHttpClientBuilder cache(@NonNull final Path directory, final long maxSizeBytes) {
+        Validate.isTrue(maxSizeBytes > 0L, "maxSizeBytes must be > 0");
+        this.cacheDirectory = directory;
+        this.cacheMaxSizeBytes = maxSizeBytes;
+        return this;
+    }
+
+    /**
+     * Forces successful {@code GET} responses for matching requests to be cached for the given duration when the
+     * server does not define any caching headers. Requires a {@link #cache(Path, long) cache} to be configured
+     * on this builder or the {@link #rootClient(OkHttpClient) root client}.
+     *
+     * @param requestMatcher determines the requests to cache
+     * @param maxAge the time to cache the responses
+     * @return the builder instance
+     * @see CacheOverrideInterceptor
+     */
+    public OkHttpClientBuilder forceCache(@NonNull final Predicate<Request> requestMatcher,
+                                         @NonNull final Duration maxAge) {
+        Validate.isTrue(!maxAge.isNegative() && !maxAge.isZero(), "maxAge must be positive");
+        cacheOverrideRules.add(new CacheOverrideInterceptor.Rule(requestMatcher, maxAge));
+        return this;
+    }
+
     /**
      * Adds an interceptor for the client.
      *
@@ -194,7 +471,9 @@ public class OkHttpClientBuilder {
      * @return the configured HTTP client
      */
     public OkHttpClient build() {
-        final OkHttpClient.Builder clientBuilder = new OkHttpClient.Builder()
+        final OkHttpClient.Builder clientBuilder = Optional.ofNullable(rootClient)
+                .map(OkHttpClient::newBuilder)
+                .orElseGet(OkHttpClient.Builder::new)
                 .followSslRedirects(isRedirectsAllowed)
                 .followRedirects(isRedirectsAllowed)
                 .connectTimeout(connectTimeout)
@@ -202,6 +481,15 @@ public class OkHttpClientBuilder {
                 .writeTimeout(writeTimeout)
                 .connectionSpecs(getConnectionSpecs());
         clientBuilder.interceptors().addAll(interceptors);
+        configureDispatcher(clientBuilder);
+        configureConnectionPool(clientBuilder);
+        if (Objects.nonNull(dns)) {
+            clientBuilder.dns(dns);
+        }
+        if (Objects.nonNull(eventListenerFactory)) {
+            clientBuilder.eventListenerFactory(eventListenerFactory);
+        }
+        configureCache(clientBuilder);
         return configureProxy(
                 configureSsl(clientBuilder))
                 .build();
@@ -209,21 +497,73 @@ public class OkHttpClientBuilder {
 
     private List<ConnectionSpec> getConnectionSpecs() {
         return isForTest
-                ? List.of(ConnectionSpec.CLEARTEXT, ConnectionSpec.MODERN_TLS)
-                : List.of(ConnectionSpec.MODERN_TLS);
+                ? List.of(ConnectionSpec.CLEARTEXT, tlsConnectionSpec)
+                : List.of(tlsConnectionSpec);
     }
 
-    private OkHttpClient.Builder configureSsl(OkHttpClient.Builder builder) {
-        if (trustManager == null) {
-            return builder;
+    private void configureDispatcher(final OkHttpClient.Builder builder) {
+        final boolean isVirtualThreadDispatcher = isVirtualThreadDispatcherEnabled && VirtualThreads.isSupported();
+        if (isVirtualThreadDispatcherEnabled && !isVirtualThreadDispatcher) {
+            log.warn("Virtual threads are not supported by the current runtime. Using the default dispatcher");
+        }
+
+        if (!isVirtualThreadDispatcher && Objects.isNull(maxRequests) && Objects.isNull(maxRequestsPerHost)) {
+            return;
         }
 
-        try {
-            final SSLContext sslContext = SSLContext.getInstance("TLS");
-            sslContext.init(null, new TrustManager[]{trustManager}, new SecureRandom());
-            builder = builder.sslSocketFactory(sslContext.getSocketFactory(), trustManager);
-        } catch (final KeyManagementException | NoSuchAlgorithmException ex) {
-            throw new ConnectionException("Unable to create HttpClient: " + ex.getMessage(), ex);
+        final Dispatcher dispatcher = isVirtualThreadDispatcher
+                ? new Dispatcher(VirtualThreads.newVirtualThreadPerTaskExecutor())
+                : new Dispatcher();
+        if (Objects.nonNull(maxRequests)) {
+            dispatcher.setMaxRequests(maxRequests);
+        }
+        if (Objects.nonNull(maxRequestsPerHost)) {
+            dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+        }
+
+        builder.dispatcher(dispatcher);
+    }
+
+    private void configureConnectionPool(final OkHttpClient.Builder builder) {
+        if (Objects.nonNull(maxIdleConnections)) {
+            builder.connectionPool(new ConnectionPool(
+                    maxIdleConnections,
+                    keepAliveDuration.toMillis(),
+                    TimeUnit.MILLISECONDS));
+        }
+        if (Objects.nonNull(pingInterval)) {
+            builder.pingInterval(pingInterval);
+        }
+        if (Objects.nonNull(callTimeout)) {
+            builder.callTimeout(callTimeout);
+        }
+    }
+
+    private void configureCache(final OkHttpClient.Builder builder) {
+        if (cacheDirectory != null) {
+            builder.cache(new Cache(cacheDirectory.toFile(), cacheMaxSizeBytes))
+                    .addNetworkInterceptor(new HttpCacheStats.ConditionalRequestCounter());
+        } else {
+            Validate.isTrue(
+                    cacheOverrideRules.isEmpty() || (Objects.nonNull(rootClient) && Objects.nonNull(rootClient.cache())),
+                    "A cache must be configured to force caching");
+        }
+
+        if (!cacheOverrideRules.isEmpty()) {
+            builder.addNetworkInterceptor(new CacheOverrideInterceptor(cacheOverrideRules));
+        }
+    }
+
+    private OkHttpClient.Builder configureSsl(OkHttpClient.Builder builder) {
+        if (Objects.nonNull(trustManager)
+                || Objects.nonNull(sslSessionCacheSize)
+                || Objects.nonNull(sslSessionTimeout)) {
+            final X509TrustManager sslTrustManager = Objects.nonNull(trustManager)
+                    ? trustManager
+                    : getInheritedTrustManager();
+            final SSLContext sslContext =
+                    SslContexts.getOrCreate(sslTrustManager, sslSessionCacheSize, sslSessionTimeout);
+            builder = builder.sslSocketFactory(SslContexts.getSocketFactory(sslContext), sslTrustManager);
         }
 
         if (hostnameVerifier == null) {
@@ -233,6 +573,12 @@ public class OkHttpClientBuilder {
         return builder.hostnameVerifier(hostnameVerifier);
     }
 
+    private X509TrustManager getInheritedTrustManager() {
+        return Optional.ofNullable(rootClient)
+                .map(OkHttpClient::x509TrustManager)
+                .orElseGet(SslContexts::getDefaultTrustManager);
+    }
+
     private OkHttpClient.Builder configureProxy(OkHttpClient.Builder builder) {
         if (proxy == null) {
             return builder;
@@ -0,0 +1,236 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection.http;
+
+import com.amilesend.client.util.LatencyHistogram;
+import lombok.NonNull;
+import lombok.Value;
+import okhttp3.Call;
+import okhttp3.Dispatcher;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.Protocol;
+import okhttp3.Request;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * An {@link EventListener.Factory} that records the latency of each {@link Phase} of a call into a
+ * {@link LatencyHistogram} tagged by host and method. Recording is lock-free, and snapshots may be taken at any
+ * time (e.g., to report p50/p99/p999 latencies) without blocking calls.
+ *
+ * @see OkHttpClientBuilder#eventListenerFactory(EventListener.Factory)
+ */
+public class PhaseLatencyListener implements EventListener.Factory {
+    private static final long NOT_STARTED = Long.MIN_VALUE;
+
+    private final Map<Tag, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final LongSupplier ticker;
+
+    /** Creates a new {@code PhaseLatencyListener}. */
+    public PhaseLatencyListener() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * Creates a new {@code PhaseLatencyListener}.
+     *
+     * @param ticker the source of the current time in nanoseconds
+     */
+    public PhaseLatencyListener(@NonNull final LongSupplier ticker) {
+        this.ticker = ticker;
+    }
+
+    @Override
+    public EventListener create(@NonNull final Call call) {
+        final Request request = call.request();
+        return new CallListener(request.url().host(), request.method());
+    }
+
+    /**
+     * Gets the histogram for the given host, method, and phase.
+     *
+     * @param host the host
+     * @param method the HTTP method
+     * @param phase the phase
+     * @return the histogram, or empty if no latencies were recorded
+     */
+    public Optional<LatencyHistogram> getHistogram(final String host, final String method, final Phase phase) {
+        return Optional.ofNullable(histograms.get(new Tag(host, method, phase)));
+    }
+
+    /**
+     * Creates a point-in-time snapshot of all histograms.
+     *
+     * @return the snapshots by tag
+     */
+    public Map<Tag, LatencyHistogram.Snapshot> snapshot() {
+        final Map<Tag, LatencyHistogram.Snapshot> snapshots = new HashMap<>(histograms.size());
+        histograms.forEach((tag, histogram) -> snapshots.put(tag, histogram.snapshot()));
+        return Collections.unmodifiableMap(snapshots);
+    }
+
+    private void record(final String host, final String method, final Phase phase, final long startNanos) {
+        if (startNanos == NOT_STARTED) {
+            return;
+        }
+
+        histograms.computeIfAbsent(new Tag(host, method, phase), t -> new LatencyHistogram())
+                .record(ticker.getAsLong() - startNanos);
+    }
+
+    /** The phases of a call. */
+    public enum Phase {
+        /** Time spent waiting for the dispatcher to execute an asynchronous call. */
+        QUEUE,
+        /** Time spent resolving the host. */
+        DNS,
+        /** Time spent establishing a connection, including the TLS handshake. */
+        CONNECT,
+        /** Time spent performing the TLS handshake. */
+        TLS,
+        /** Time from sending the request to receiving the first byte of the response headers. */
+        TIME_TO_FIRST_BYTE,
+        /** Time spent reading the response body. */
+        RESPONSE_BODY,
+        /** Time for the complete call, including all phases and follow-up requests. */
+        CALL
+    }
+
+    /** Identifies a histogram. */
+    @Value
+    public static class Tag {
+        /** The request host. */
+        String host;
+        /** The request method. */
+        String method;
+        /** The phase. */
+        Phase phase;
+    }
+
+    // Events for a call are delivered sequentially, so the per-call state does not need to be thread-safe
+    private class CallListener extends EventListener {
+        private final String host;
+        private final String method;
+        private long callStartNanos = NOT_STARTED;
+        private long queueStartNanos = NOT_STARTED;
+        private long dnsStartNanos = NOT_STARTED;
+        private long connectStartNanos = NOT_STARTED;
+        private long secureConnectStartNanos = NOT_STARTED;
+        private long requestEndNanos = NOT_STARTED;
+        private long responseBodyStartNanos = NOT_STARTED;
+
+        CallListener(final String host, final String method) {
+            this.host = host;
+            this.method = method;
+        }
+
+        @Override
+        public void callStart(final Call call) {
+            callStartNanos = ticker.getAsLong();
+        }
+
+        @Override
+        public void dispatcherQueueStart(final Call call, final Dispatcher dispatcher) {
+            queueStartNanos = ticker.getAsLong();
+        }
+
+        @Override
+        public void dispatcherQueueEnd(final Call call, final Dispatcher dispatcher) {
+            record(host, method, Phase.QUEUE, queueStartNanos);
+        }
+
+        @Override
+        public void dnsStart(final Call call, final String domainName) {
+            dnsStartNanos = ticker.getAsLong();
+        }
+
+        @Override
+        public void dnsEnd(final Call call, final String domainName, final List<InetAddress> inetAddressList) {
+            record(host, method, Phase.DNS, dnsStartNanos);
+        }
+
+        @Override
+        public void connectStart(final Call call, final InetSocketAddress inetSocketAddress, final Proxy proxy) {
+            connectStartNanos = ticker.getAsLong();
+        }
+
+        @Override
+        public void secureConnectStart(final Call call) {
+            secureConnectStartNanos = ticker.getAsLong();
+        }
+
+        @Override
+        public void secureConnectEnd(final Call call, final Handshake handshake) {
+            record(host, method, Phase.TLS, secureConnectStartNanos);
+        }
+
+        @Override
+        public void connectEnd(final Call call,
+                               final InetSocketAddress inetSocketAddress,
+                               final Proxy proxy,
+                               final Protocol protocol) {
+            record(host, method, Phase.CONNECT, connectStartNanos);
+        }
+
+        @Override
+        public void requestHeadersEnd(final Call call, final Request request) {
+            requestEndNanos = ticker.getAsLong();
+        }
+
+        @Override
+        public void requestBodyEnd(final Call call, final long byteCount) {
+            requestEndNanos = ticker.getAsLong();
+        }
+
+        @Override
+        public void responseHeadersStart(final Call call) {
+            record(host, method, Phase.TIME_TO_FIRST_BYTE, requestEndNanos);
+        }
+
+        @Override
+        public void responseBodyStart(final Call call) {
+            responseBodyStartNanos = ticker.getAsLong();
+        }
+
+        @Override
+        public void responseBodyEnd(final Call call, final long byteCount) {
+            record(host, method, Phase.RESPONSE_BODY, responseBodyStartNanos);
+        }
+
+        @Override
+        public void callEnd(final Call call) {
+            record(host, method, Phase.CALL, callStartNanos);
+        }
+
+        @Override
+        public void callFailed(final Call call, final IOException ioe) {
+            record(host, method, Phase.CALL, callStartNanos);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection.http;
+
+import com.amilesend.client.connection.ConnectionException;
+import lombok.Value;
+import lombok.experimental.UtilityClass;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.X509TrustManager;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Vends one shared {@link SSLContext} per trust configuration so that clients built with the same trust manager
+ * share a TLS session cache and can resume sessions instead of performing full handshakes.
+ * <p>
+ * Note: contexts are retained for the lifetime of the class loader, so trust managers should be reused rather than
+ * created per client.
+ */
+@UtilityClass
+class SslContexts {
+    private static final Map<Key, SSLContext> CONTEXTS = new ConcurrentHashMap<>();
+    private static final Map<SSLContext, SSLSocketFactory> SOCKET_FACTORIES = new ConcurrentHashMap<>();
+    private static volatile X509TrustManager defaultTrustManager;
+
+    /**
+     * Gets the shared context for the given trust configuration, creating it if needed.
+     *
+     * @param trustManager the trust manager
+     * @param sessionCacheSize the max number of cached client sessions, or {@code null} for the provider default
+     * @param sessionTimeout the client session timeout, or {@code null} for the provider default
+     * @return the context
+     * @throws ConnectionException if the context could not be created
+     */
+    static SSLContext getOrCreate(final X509TrustManager trustManager,
+                                  final Integer sessionCacheSize,
+                                  final Duration sessionTimeout) {
+        return CONTEXTS.computeIfAbsent(
+                new Key(trustManager, sessionCacheSize, sessionTimeout),
+                SslContexts::newContext);
+    }
+
+    /**
+     * Gets the shared socket factory for the given context. Connections are only pooled and reused between clients
+     * that have the same socket factory instance.
+     *
+     * @param sslContext the context
+     * @return the socket factory
+     */
+    static SSLSocketFactory getSocketFactory(final SSLContext sslContext) {
+        return SOCKET_FACTORIES.computeIfAbsent(sslContext, SSLContext::getSocketFactory);
+    }
+
+    /**
+     * Gets the platform default trust manager that trusts the system certificate authorities.
+     *
+     * @return the trust manager
+     * @throws ConnectionException if the trust manager could not be loaded
+     */
+    static X509TrustManager getDefaultTrustManager() {
+        X509TrustManager trustManager = defaultTrustManager;
+        if (Objects.nonNull(trustManager)) {
+            return trustManager;
+        }
+
+        try {
+            final TrustManagerFactory factory =
+                    TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+            factory.init((KeyStore) null);
+            trustManager = Arrays.stream(factory.getTrustManagers())
+                    .filter(X509TrustManager.class::isInstance)
+                    .map(X509TrustManager.class::cast)
+                    .findFirst()
+                    .orElseThrow(() -> new ConnectionException("Unable to create HttpClient: no X509TrustManager"));
+        } catch (final GeneralSecurityException ex) {
+            throw new ConnectionException("Unable to create HttpClient: " + ex.getMessage(), ex);
+        }
+
+        defaultTrustManager = trustManager;
+        return trustManager;
+    }
+
+    private static SSLContext newContext(final Key key) {
+        try {
+            final SSLContext sslContext = SSLContext.getInstance("TLS");
+            sslContext.init(null, new TrustManager[]{key.getTrustManager()}, new SecureRandom());
+            final SSLSessionContext sessionContext = sslContext.getClientSessionContext();
+            if (Objects.nonNull(sessionContext) && Objects.nonNull(key.getSessionCacheSize())) {
+                sessionContext.setSessionCacheSize(key.getSessionCacheSize());
+            }
+            if (Objects.nonNull(sessionContext) && Objects.nonNull(key.getSessionTimeout())) {
+                sessionContext.setSessionTimeout(
+                        (int) Math.min(Integer.MAX_VALUE, key.getSessionTimeout().toSeconds()));
+            }
+
+            return sslContext;
+        } catch (final GeneralSecurityException ex) {
+            throw new ConnectionException("Unable to create HttpClient: " + ex.getMessage(), ex);
+        }
+    }
+
+    @Value
+    private static class Key {
+        X509TrustManager trustManager;
+        Integer sessionCacheSize;
+        Duration sessionTimeout;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection.retry;
+
+import com.amilesend.client.util.Validate;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * A retry strategy that decorates another strategy so that retries also draw from a shared {@link RetryBudget}.
+ * The delegate determines if and when to retry; a retry is only made if a token can be withdrawn from the budget.
+ * Once the budget is exhausted, calls fail fast instead of waiting for the next attempt. Each response that passes
+ * {@link #validateResponseCode(Response)} replenishes the budget. Retries are decided through
+ * {@link RetryStrategy#nextRetryDelayMs(int, Exception, long)}, so the delegate must implement it; a delegate that
+ * only overrides {@link RetryStrategy#invoke(Retriable)} is rejected as it would never retry.
+ * <p>
+ * Example:
+ * <pre>
+ * RetryBudget budget = RetryBudget.builder().build();
+ * RetryStrategy strategy = BudgetedRetryStrategy.builder()
+ *         .delegate(ExponentialDelayRetryStrategy.builder().build())
+ *         .budget(budget)
+ *         .build();
+ * </pre>
+ *
+ * @see RetryStrategy
+ */
+@Slf4j
+public class BudgetedRetryStrategy implements RetryStrategy {
+    private final RetryStrategy delegate;
+    private final RetryBudget budget;
+
+    /**
+     * Creates a new {@code BudgetedRetryStrategy}.
+     *
+     * @param delegate the strategy that determines if and when to retry. Must implement
+     *                 {@link RetryStrategy#nextRetryDelayMs(int, Exception, long)}.
+     * @param budget the budget that retries draw from. Share the same instance across connections that call the
+     *               same host.
+     */
+    @Builder
+    private BudgetedRetryStrategy(@NonNull final RetryStrategy delegate, @NonNull final RetryBudget budget) {
+        Validate.isTrue(isRetryDelayImplemented(delegate), "delegate must implement nextRetryDelayMs");
+        this.delegate = delegate;
+        this.budget = budget;
+    }
+
+    @Override
+    public RetriableCallResponse invoke(@NonNull final Retriable retriable) {
+        return invokeWithRetries(retriable);
+    }
+
+    @Override
+    public long nextRetryDelayMs(final int attempts, final Exception thrown, final long totalDelayMs) {
+        final long delay = delegate.isRetriable(thrown)
+                ? delegate.nextRetryDelayMs(attempts, thrown, totalDelayMs)
+                : NO_RETRY;
+        if (delay == NO_RETRY) {
+            return NO_RETRY;
+        }
+
+        if (!budget.tryAcquire()) {
+            log.debug("Retry budget exhausted; not retrying attempt {}", attempts);
+            return NO_RETRY;
+        }
+
+        return delay;
+    }
+
+    @Override
+    public Request beforeAttempt(final Request request) {
+        return delegate.beforeAttempt(request);
+    }
+
+    @Override
+    public void afterAttempt(final Request request,
+                             final int statusCode,
+                             final Exception thrown,
+                             final long elapsedNanos) {
+        delegate.afterAttempt(request, statusCode, thrown, elapsedNanos);
+    }
+
+    @Override
+    public void onAttemptCanceled(final Request request) {
+        delegate.onAttemptCanceled(request);
+    }
+
+    @Override
+    public boolean isRetriable(final Exception thrown) {
+        return delegate.isRetriable(thrown);
+    }
+
+    @Override
+    public void validateResponseCode(final Response response) {
+        delegate.validateResponseCode(response);
+        budget.onSuccess();
+    }
+
+    @Override
+    public Long extractRetryAfterHeaderValue(final Response response) {
+        return delegate.extractRetryAfterHeaderValue(response);
+    }
+
+    private static boolean isRetryDelayImplemented(final RetryStrategy strategy) {
+        try {
+            return strategy.getClass()
+                    .getMethod("nextRetryDelayMs", int.class, Exception.class, long.class)
+                    .getDeclaringClass() != RetryStrategy.class;
+        } catch (final NoSuchMethodException ex) {
+            return false;
+        }
+    }
+}
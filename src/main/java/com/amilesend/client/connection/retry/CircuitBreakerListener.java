@@ -0,0 +1,47 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection.retry;
+
+/**
+ * Listener that is notified of the state changes of the circuits managed by a {@link CircuitBreakerRetryStrategy}.
+ * Implementations are invoked on the request path and should be fast and not throw.
+ */
+public interface CircuitBreakerListener {
+    /** A listener that does nothing. */
+    CircuitBreakerListener NONE = new CircuitBreakerListener() { };
+
+    /**
+     * Notified when the circuit for a host transitions to a new state.
+     *
+     * @param host the host
+     * @param from the prior state
+     * @param to the new state
+     */
+    default void onStateTransition(final String host, final CircuitState from, final CircuitState to) {
+        // No-op
+    }
+
+    /**
+     * Notified when a call to a host is rejected because its circuit is open.
+     *
+     * @param host the host
+     */
+    default void onCallRejected(final String host) {
+        // No-op
+    }
+}
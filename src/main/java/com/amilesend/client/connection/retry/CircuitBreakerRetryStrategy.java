@@ -0,0 +1,493 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection.retry;
+
+import com.amilesend.client.connection.CircuitOpenException;
+import com.amilesend.client.util.Validate;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * A retry strategy that decorates another strategy with a circuit breaker per host. The outcomes of the most recent
+ * calls to each host are tracked in a rolling window; an I/O error or {@code 5xx} response counts as a failure, and a
+ * call that takes at least {@code slowCallDuration} to receive its response headers counts as slow. Once either the
+ * failure rate or slow call rate reaches its threshold, the circuit opens and calls to the host fail immediately with
+ * a {@link CircuitOpenException} instead of waiting for timeouts and retries. After {@code openDuration}, a limited
+ * number of probe calls are permitted (half-open) and their outcomes determine if the circuit closes or reopens. If
+ * the probes do not complete within {@code maxHalfOpenDuration}, the circuit reopens. Cancelled calls are neither
+ * failures nor successes. Each permitted call is tagged with the state it was admitted under, so only the outcomes of
+ * the probes determine if a half-open circuit closes, and the outcomes of calls that were permitted before a
+ * transition are ignored.
+ * <p>
+ * Retries are otherwise determined by the delegate strategy, and an attempt rejected by an open circuit is never
+ * retried. State transitions are reported to the {@link CircuitBreakerListener} and are visible via
+ * {@link #getStats(String)}.
+ *
+ * @see RetryStrategy
+ */
+@Slf4j
+public class CircuitBreakerRetryStrategy implements RetryStrategy {
+    /** The default failure rate at which a circuit opens. */
+    public static final double DEFAULT_FAILURE_RATE_THRESHOLD = 0.5D;
+    /** The default slow call rate at which a circuit opens. */
+    public static final double DEFAULT_SLOW_CALL_RATE_THRESHOLD = 1.0D;
+    /** The default duration at which a call is considered slow. */
+    public static final Duration DEFAULT_SLOW_CALL_DURATION = Duration.ofSeconds(10L);
+    /** The default number of the most recent calls that rates are calculated from. */
+    public static final int DEFAULT_WINDOW_SIZE = 100;
+    /** The default minimum number of calls in the window before rates are evaluated. */
+    public static final int DEFAULT_MINIMUM_CALLS = 20;
+    /** The default duration that a circuit stays open before permitting probe calls. */
+    public static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30L);
+    /** The default number of probe calls permitted while half-open. */
+    public static final int DEFAULT_HALF_OPEN_PROBES = 5;
+    /** The default maximum duration that a circuit waits for its probe calls to complete while half-open. */
+    public static final Duration DEFAULT_MAX_HALF_OPEN_DURATION = Duration.ofSeconds(60L);
+
+    private final RetryStrategy delegate;
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long slowCallDurationNanos;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final long openDurationNanos;
+    private final int halfOpenProbes;
+    private final long maxHalfOpenDurationNanos;
+    private final CircuitBreakerListener listener;
+    private final LongSupplier ticker;
+    private final Map<String, Circuit> circuits = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new {@code CircuitBreakerRetryStrategy}.
+     *
+     * @param delegate the strategy that determines if and when to retry. Default is {@link NoRetryStrategy}.
+     * @param failureRateThreshold the failure rate (between 0 and 1) at which a circuit opens.
+     *                             Default is {@link #DEFAULT_FAILURE_RATE_THRESHOLD}.
+     * @param slowCallRateThreshold the slow call rate (between 0 and 1) at which a circuit opens.
+     *                              Default is {@link #DEFAULT_SLOW_CALL_RATE_THRESHOLD}.
+     * @param slowCallDuration the duration at which a call is considered slow.
+     *                         Default is {@link #DEFAULT_SLOW_CALL_DURATION}.
+     * @param windowSize the number of the most recent calls that rates are calculated from.
+     *                   Default is {@link #DEFAULT_WINDOW_SIZE}.
+     * @param minimumCalls the minimum number of calls in the window before rates are evaluated.
+     *                     Default is {@link #DEFAULT_MINIMUM_CALLS}.
+     * @param openDuration the duration that a circuit stays open before permitting probe calls.
+     *                     Default is {@link #DEFAULT_OPEN_DURATION}.
+     * @param halfOpenProbes the number of probe calls permitted while half-open.
+     *                       Default is {@link #DEFAULT_HALF_OPEN_PROBES}.
+     * @param maxHalfOpenDuration the maximum duration to wait for the probe calls to complete while half-open before
+     *                            the circuit reopens. Default is {@link #DEFAULT_MAX_HALF_OPEN_DURATION}.
+     * @param listener the listener notified of state transitions. Default is {@link CircuitBreakerListener#NONE}.
+     * @param ticker the source of the current time in nanoseconds. Default is {@link System#nanoTime()}.
+     */
+    @Builder
+    private CircuitBreakerRetryStrategy(final RetryStrategy delegate,
+                                        final Double failureRateThreshold,
+                                        final Double slowCallRateThreshold,
+                                        final Duration slowCallDuration,
+                                        final Integer windowSize,
+                                        final Integer minimumCalls,
+                                        final Duration openDuration,
+                                        final Integer halfOpenProbes,
+                                        final Duration maxHalfOpenDuration,
+                                        final CircuitBreakerListener listener,
+                                        final LongSupplier ticker) {
+        this.delegate = Optional.ofNullable(delegate).orElseGet(NoRetryStrategy::new);
+        this.failureRateThreshold = Optional.ofNullable(failureRateThreshold).orElse(DEFAULT_FAILURE_RATE_THRESHOLD);
+        Validate.isTrue(this.failureRateThreshold > 0D && this.failureRateThreshold <= 1D,
+                "failureRateThreshold must be > 0 and <= 1");
+        this.slowCallRateThreshold =
+                Optional.ofNullable(slowCallRateThreshold).orElse(DEFAULT_SLOW_CALL_RATE_THRESHOLD);
+        Validate.isTrue(this.slowCallRateThreshold > 0D && this.slowCallRateThreshold <= 1D,
+                "slowCallRateThreshold must be > 0 and <= 1");
+        final Duration slowDuration = Optional.ofNullable(slowCallDuration).orElse(DEFAULT_SLOW_CALL_DURATION);
+        Validate.isTrue(!slowDuration.isNegative() && !slowDuration.isZero(), "slowCallDuration must be positive");
+        this.slowCallDurationNanos = slowDuration.toNanos();
+        this.windowSize = Optional.ofNullable(windowSize).orElse(DEFAULT_WINDOW_SIZE);
+        Validate.isTrue(this.windowSize > 0, "windowSize must be > 0");
+        this.minimumCalls = Optional.ofNullable(minimumCalls).orElse(Math.min(DEFAULT_MINIMUM_CALLS, this.windowSize));
+        Validate.isTrue(this.minimumCalls > 0 && this.minimumCalls <= this.windowSize,
+                "minimumCalls must be > 0 and <= windowSize");
+        final Duration open = Optional.ofNullable(openDuration).orElse(DEFAULT_OPEN_DURATION);
+        Validate.isTrue(!open.isNegative(), "openDuration must not be negative");
+        this.openDurationNanos = open.toNanos();
+        this.halfOpenProbes = Optional.ofNullable(halfOpenProbes).orElse(DEFAULT_HALF_OPEN_PROBES);
+        Validate.isTrue(this.halfOpenProbes > 0, "halfOpenProbes must be > 0");
+        final Duration maxHalfOpen = Optional.ofNullable(maxHalfOpenDuration).orElse(DEFAULT_MAX_HALF_OPEN_DURATION);
+        Validate.isTrue(!maxHalfOpen.isNegative() && !maxHalfOpen.isZero(), "maxHalfOpenDuration must be positive");
+        this.maxHalfOpenDurationNanos = maxHalfOpen.toNanos();
+        this.listener = Optional.ofNullable(listener).orElse(CircuitBreakerListener.NONE);
+        this.ticker = Optional.ofNullable(ticker).orElse(System::nanoTime);
+    }
+
+    @Override
+    public RetriableCallResponse invoke(@NonNull final Retriable retriable) {
+        return delegate.invoke(retriable);
+    }
+
+    @Override
+    public Request beforeAttempt(final Request request) {
+        final String host = request.url().host();
+        final Admission admission = circuits.computeIfAbsent(host, Circuit::new).tryAcquirePermission();
+        if (Objects.isNull(admission)) {
+            notifyRejected(host);
+            throw new CircuitOpenException("Circuit is open for host " + host, host);
+        }
+
+        return delegate.beforeAttempt(request.newBuilder().tag(Admission.class, admission).build());
+    }
+
+    @Override
+    public void afterAttempt(final Request request,
+                             final int statusCode,
+                             final Exception thrown,
+                             final long elapsedNanos) {
+        final Admission admission = getAdmission(request);
+        if (Objects.nonNull(admission)) {
+            final boolean isFailure = thrown instanceof IOException || statusCode / 100 == 5;
+            admission.circuit.record(admission, isFailure, elapsedNanos >= slowCallDurationNanos);
+        }
+
+        delegate.afterAttempt(request, statusCode, thrown, elapsedNanos);
+    }
+
+    @Override
+    public void onAttemptCanceled(final Request request) {
+        final Admission admission = getAdmission(request);
+        if (Objects.nonNull(admission)) {
+            admission.circuit.release(admission);
+        }
+
+        delegate.onAttemptCanceled(request);
+    }
+
+    @Override
+    public long nextRetryDelayMs(final int attempts, final Exception thrown, final long totalDelayMs) {
+        return isRetriable(thrown) ? delegate.nextRetryDelayMs(attempts, thrown, totalDelayMs) : NO_RETRY;
+    }
+
+    @Override
+    public boolean isRetriable(final Exception thrown) {
+        return !(thrown instanceof CircuitOpenException) && delegate.isRetriable(thrown);
+    }
+
+    @Override
+    public void validateResponseCode(final Response response) {
+        delegate.validateResponseCode(response);
+    }
+
+    @Override
+    public Long extractRetryAfterHeaderValue(final Response response) {
+        return delegate.extractRetryAfterHeaderValue(response);
+    }
+
+    /**
+     * Gets the current state of the circuit for the given host.
+     *
+     * @param host the host
+     * @return the state
+     */
+    public CircuitState getState(final String host) {
+        final Circuit circuit = circuits.get(host);
+        return Objects.isNull(circuit) ? CircuitState.CLOSED : circuit.getState();
+    }
+
+    /**
+     * Gets the statistics for the circuit of the given host.
+     *
+     * @param host the host
+     * @return the statistics, or empty if no calls were made to the host
+     */
+    public Optional<CircuitStats> getStats(final String host) {
+        return Optional.ofNullable(circuits.get(host)).map(Circuit::toStats);
+    }
+
+    /**
+     * Creates a point-in-time snapshot of the statistics for all circuits.
+     *
+     * @return the statistics by host
+     */
+    public Map<String, CircuitStats> snapshot() {
+        final Map<String, CircuitStats> stats = new HashMap<>(circuits.size());
+        circuits.forEach((host, circuit) -> stats.put(host, circuit.toStats()));
+        return Collections.unmodifiableMap(stats);
+    }
+
+    private Admission getAdmission(final Request request) {
+        final Admission admission = request.tag(Admission.class);
+        // Ignore requests that were not admitted by this strategy
+        return Objects.nonNull(admission) && circuits.get(request.url().host()) == admission.circuit
+                ? admission
+                : null;
+    }
+
+    private void notifyRejected(final String host) {
+        try {
+            listener.onCallRejected(host);
+        } catch (final RuntimeException ex) {
+            log.warn("Circuit breaker listener threw an exception on a rejected call", ex);
+        }
+    }
+
+    private void notifyTransition(final String host, final CircuitState from, final CircuitState to) {
+        log.debug("Circuit for host {} transitioned from {} to {}", host, from, to);
+        try {
+            listener.onStateTransition(host, from, to);
+        } catch (final RuntimeException ex) {
+            log.warn("Circuit breaker listener threw an exception on a state transition", ex);
+        }
+    }
+
+    /** The statistics for the circuit of a host. */
+    @Builder
+    @Value
+    public static class CircuitStats {
+        /** The host. */
+        String host;
+        /** The current state. */
+        CircuitState state;
+        /** The failure rate of the calls in the window. */
+        double failureRate;
+        /** The slow call rate of the calls in the window. */
+        double slowCallRate;
+        /** The number of calls in the window. */
+        int bufferedCallCount;
+        /** The number of calls rejected while open. */
+        long rejectedCallCount;
+        /** The number of times that the circuit opened. */
+        long openedCount;
+    }
+
+    /** The admission of a permitted call, which tags its request. */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static class Admission {
+        private final Circuit circuit;
+        /** The generation of the circuit (i.e., the number of transitions) that the call was admitted under. */
+        private final long generation;
+    }
+
+    private class Circuit {
+        private final String host;
+        private final ReentrantLock lock = new ReentrantLock();
+        // Rolling window of the most recent outcomes in the closed state
+        private final boolean[] failures = new boolean[windowSize];
+        private final boolean[] slowCalls = new boolean[windowSize];
+        private final LongAdder numRejected = new LongAdder();
+        private volatile CircuitState state = CircuitState.CLOSED;
+        // Incremented on each transition so that outcomes are only recorded under the state that admitted the call
+        private volatile long generation;
+        private volatile long openUntilNanos;
+        private long halfOpenUntilNanos;
+        private int nextIndex;
+        private int numBuffered;
+        private int numFailures;
+        private int numSlowCalls;
+        private int numProbesPermitted;
+        private int numProbes;
+        private int numProbeFailures;
+        private int numProbeSlowCalls;
+        private long numOpened;
+
+        Circuit(final String host) {
+            this.host = host;
+        }
+
+        CircuitState getState() {
+            return state;
+        }
+
+        Admission tryAcquirePermission() {
+            // The generation is read first as it is incremented after the state is updated
+            final long currentGeneration = generation;
+            final CircuitState current = state;
+            if (current == CircuitState.CLOSED) {
+                return new Admission(this, currentGeneration);
+            } else if (current == CircuitState.OPEN && ticker.getAsLong() - openUntilNanos < 0L) {
+                // Fast path to reject without acquiring the lock
+                numRejected.increment();
+                return null;
+            }
+
+            CircuitState from = null;
+            CircuitState to = null;
+            boolean isPermitted;
+            final long admittedGeneration;
+            lock.lock();
+            try {
+                final long now = ticker.getAsLong();
+                if (state == CircuitState.OPEN && now - openUntilNanos >= 0L) {
+                    to = CircuitState.HALF_OPEN;
+                    from = transitionTo(to);
+                } else if (state == CircuitState.HALF_OPEN && now - halfOpenUntilNanos >= 0L) {
+                    // The probes did not complete in time (e.g., their outcomes were never recorded)
+                    to = CircuitState.OPEN;
+                    from = transitionTo(to);
+                }
+
+                if (state == CircuitState.HALF_OPEN) {
+                    isPermitted = numProbesPermitted < halfOpenProbes;
+                    if (isPermitted) {
+                        ++numProbesPermitted;
+                    }
+                } else {
+                    isPermitted = state == CircuitState.CLOSED;
+                }
+                admittedGeneration = generation;
+            } finally {
+                lock.unlock();
+            }
+
+            if (Objects.nonNull(to)) {
+                notifyTransition(host, from, to);
+            }
+
+            if (!isPermitted) {
+                numRejected.increment();
+                return null;
+            }
+
+            return new Admission(this, admittedGeneration);
+        }
+
+        void record(final Admission admission, final boolean isFailure, final boolean isSlow) {
+            CircuitState from = null;
+            CircuitState to = null;
+            lock.lock();
+            try {
+                if (admission.generation != generation) {
+                    // Permitted under a prior state (e.g., closed before the circuit opened), so not a probe
+                    return;
+                } else if (state == CircuitState.CLOSED) {
+                    add(isFailure, isSlow);
+                    if (numBuffered >= minimumCalls && exceedsThresholds(numFailures, numSlowCalls, numBuffered)) {
+                        to = CircuitState.OPEN;
+                    }
+                } else if (state == CircuitState.HALF_OPEN) {
+                    ++numProbes;
+                    numProbeFailures += isFailure ? 1 : 0;
+                    numProbeSlowCalls += isSlow ? 1 : 0;
+                    if (numProbes >= halfOpenProbes) {
+                        to = exceedsThresholds(numProbeFailures, numProbeSlowCalls, numProbes)
+                                ? CircuitState.OPEN
+                                : CircuitState.CLOSED;
+                    }
+                }
+
+                if (Objects.nonNull(to)) {
+                    from = transitionTo(to);
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (Objects.nonNull(to)) {
+                notifyTransition(host, from, to);
+            }
+        }
+
+        /** Releases the permission of a call without recording its outcome (e.g., the call was cancelled). */
+        void release(final Admission admission) {
+            lock.lock();
+            try {
+                if (admission.generation == generation && state == CircuitState.HALF_OPEN) {
+                    --numProbesPermitted;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        CircuitStats toStats() {
+            lock.lock();
+            try {
+                return CircuitStats.builder()
+                        .host(host)
+                        .state(state)
+                        .failureRate(numBuffered == 0 ? 0D : (double) numFailures / numBuffered)
+                        .slowCallRate(numBuffered == 0 ? 0D : (double) numSlowCalls / numBuffered)
+                        .bufferedCallCount(numBuffered)
+                        .rejectedCallCount(numRejected.sum())
+                        .openedCount(numOpened)
+                        .build();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void add(final boolean isFailure, final boolean isSlow) {
+            if (numBuffered == windowSize) {
+                numFailures -= failures[nextIndex] ? 1 : 0;
+                numSlowCalls -= slowCalls[nextIndex] ? 1 : 0;
+            } else {
+                ++numBuffered;
+            }
+
+            failures[nextIndex] = isFailure;
+            slowCalls[nextIndex] = isSlow;
+            numFailures += isFailure ? 1 : 0;
+            numSlowCalls += isSlow ? 1 : 0;
+            nextIndex = (nextIndex + 1) % windowSize;
+        }
+
+        private boolean exceedsThresholds(final int failureCount, final int slowCallCount, final int total) {
+            return (double) failureCount / total >= failureRateThreshold
+                    || (double) slowCallCount / total >= slowCallRateThreshold;
+        }
+
+        private CircuitState transitionTo(final CircuitState to) {
+            final CircuitState from = state;
+            if (to == CircuitState.OPEN) {
+                openUntilNanos = ticker.getAsLong() + openDurationNanos;
+                ++numOpened;
+            } else if (to == CircuitState.HALF_OPEN) {
+                halfOpenUntilNanos = ticker.getAsLong() + maxHalfOpenDurationNanos;
+                numProbesPermitted = 0;
+                numProbes = 0;
+                numProbeFailures = 0;
+                numProbeSlowCalls = 0;
+            } else {
+                nextIndex = 0;
+                numBuffered = 0;
+                numFailures = 0;
+                numSlowCalls = 0;
+            }
+
+            state = to;
+            ++generation;
+            return from;
+        }
+    }
+}
@@ -17,16 +17,9 @@
  */
 package com.amilesend.client.connection.retry;
 
-import com.amilesend.client.connection.ResponseException;
 import com.amilesend.client.connection.ThrottledException;
 import lombok.Builder;
 import lombok.NonNull;
-import lombok.extern.slf4j.Slf4j;
-import okhttp3.Response;
-
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * A fixed-delay retry strategy.
@@ -34,7 +27,6 @@ import java.util.List;
  * @see RetryStrategy
  */
 @Builder
-@Slf4j
 public class FixedDelayRetryStrategy implements RetryStrategy {
     /** The maximum number of attempts to make. Default: 3 */
     @Builder.Default
@@ -48,49 +40,16 @@ public class FixedDelayRetryStrategy implements RetryStrategy {
 
     @Override
     public RetriableCallResponse invoke(@NonNull final Retriable retriable) {
-        int attempts = 0;
-        final List<Exception> exceptions = new ArrayList<>(maxAttempts);
-
-        do {
-            try {
-                ++attempts;
-                final Response response = retriable.call();
-                validateResponseCode(response);
-                return RetriableCallResponse.builder()
-                        .response(response)
-                        .exceptions(exceptions)
-                        .attempts(attempts)
-                        .build();
-            } catch (final IOException | ThrottledException | ResponseException ex) {
-                exceptions.add(ex);
+        return invokeWithRetries(retriable);
+    }
 
-                if (attempts >= maxAttempts) {
-                    return RetriableCallResponse.builder()
-                            .attempts(attempts)
-                            .exceptions(exceptions)
-                            .build();
-                }
+    @Override
+    public long nextRetryDelayMs(final int attempts, final Exception thrown, final long totalDelayMs) {
+        if (attempts >= maxAttempts || !isRetriable(thrown)) {
+            return NO_RETRY;
+        }
 
-                try {
-                    final long delay = calculateDelay(ex);
-                    log.debug("Delaying next retry by {} ms", delay);
-                    Thread.sleep(delay);
-                } catch (final InterruptedException iex) {
-                    exceptions.add(ex);
-                    Thread.currentThread().interrupt();
-                    return RetriableCallResponse.builder()
-                            .attempts(attempts)
-                            .exceptions(exceptions)
-                            .build();
-                }
-            } catch (final Exception ex) {
-                exceptions.add(ex);
-                return RetriableCallResponse.builder()
-                        .attempts(attempts)
-                        .exceptions(exceptions)
-                        .build();
-            }
-        } while (true);
+        return calculateDelay(thrown);
     }
 
     protected long calculateDelay(final Exception thrown) {
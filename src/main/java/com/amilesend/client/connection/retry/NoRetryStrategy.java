@@ -32,12 +32,13 @@ public class NoRetryStrategy implements RetryStrategy {
     public RetriableCallResponse invoke(@NonNull final Retriable retriable) {
         try {
             final Response response = retriable.call();
-            validateResponseCode(response);
+            validateResponse(retriable, response);
             return RetriableCallResponse.builder()
                     .attempts(1)
                     .response(response)
                     .build();
         } catch (final Exception ex) {
+            retriable.onRetryDecision(1, ex, NO_RETRY);
             return RetriableCallResponse.builder()
                     .attempts(1)
                     .exceptions(Collections.singletonList(ex))
@@ -31,4 +31,29 @@ public interface Retriable {
      * @throws IllegalStateException if the call has already been invoked
      */
     Response call() throws IOException, IllegalStateException;
+
+    /**
+     * Indicates if the given response is expected by the caller and is returned without being validated by
+     * {@link RetryStrategy#validateResponseCode(Response)} (e.g., a {@code 304 Not Modified} response to a
+     * conditional request). The default implementation returns {@code false}.
+     *
+     * @param response the response returned by {@link #call()}
+     * @return {@code true} if the response is expected; else, {@code false}
+     */
+    default boolean isExpectedResponse(final Response response) {
+        return false;
+    }
+
+    /**
+     * Notified by the {@link RetryStrategy} after a failed attempt with its decision to retry or not. The default
+     * implementation does nothing.
+     *
+     * @param attempt the number of the failed attempt, starting at 1
+     * @param thrown the exception thrown by the attempt
+     * @param delayMs the delay in milliseconds before the next attempt, or {@link RetryStrategy#NO_RETRY} if no
+     *                further attempts will be made
+     */
+    default void onRetryDecision(final int attempt, final Exception thrown, final long delayMs) {
+        // No-op
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection.retry;
+
+import com.amilesend.client.util.Validate;
+import lombok.Builder;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A token bucket that limits retries to a fraction of successful calls. Each successful call deposits
+ * {@code depositRatio} of a token, up to {@code maxTokens}, and each retry withdraws a whole token. Once the bucket is
+ * empty, retries are denied until enough calls succeed again, so a failing backend sees at most
+ * {@code 1 + depositRatio} times its normal load instead of {@code maxAttempts} times.
+ * <p>
+ * A budget is thread-safe and is intended to be shared by all {@link BudgetedRetryStrategy} instances (and therefore
+ * all {@link com.amilesend.client.connection.Connection}s) that call the same host.
+ */
+public class RetryBudget {
+    /** The default fraction of a token deposited per successful call. */
+    public static final double DEFAULT_DEPOSIT_RATIO = 0.1D;
+    /** The default maximum number of tokens. */
+    public static final int DEFAULT_MAX_TOKENS = 100;
+    /** The default number of tokens available before any calls succeed. */
+    public static final int DEFAULT_INITIAL_TOKENS = 10;
+
+    // Tokens are tracked in thousandths to avoid floating point accumulation errors
+    private static final long SCALE = 1000L;
+
+    private final long depositUnits;
+    private final long maxUnits;
+    private final AtomicLong availableUnits;
+    private final LongAdder numAcquired = new LongAdder();
+    private final LongAdder numDenied = new LongAdder();
+
+    /**
+     * Creates a new {@code RetryBudget}.
+     *
+     * @param depositRatio the fraction of a token deposited per successful call (e.g., {@code 0.1} permits one retry
+     *                     per ten successful calls). Default is {@link #DEFAULT_DEPOSIT_RATIO}.
+     * @param maxTokens the maximum number of tokens that may accumulate. Default is {@link #DEFAULT_MAX_TOKENS}.
+     * @param initialTokens the number of tokens initially available. Default is {@link #DEFAULT_INITIAL_TOKENS}.
+     */
+    @Builder
+    private RetryBudget(final Double depositRatio, final Integer maxTokens, final Integer initialTokens) {
+        final double ratio = Optional.ofNullable(depositRatio).orElse(DEFAULT_DEPOSIT_RATIO);
+        Validate.isTrue(ratio > 0D && ratio <= 1D, "depositRatio must be > 0 and <= 1");
+        final int max = Optional.ofNullable(maxTokens).orElse(DEFAULT_MAX_TOKENS);
+        Validate.isTrue(max > 0, "maxTokens must be > 0");
+        final int initial = Optional.ofNullable(initialTokens).orElse(Math.min(DEFAULT_INITIAL_TOKENS, max));
+        Validate.isTrue(initial >= 0 && initial <= max, "initialTokens must be >= 0 and <= maxTokens");
+
+        this.depositUnits = Math.max(1L, Math.round(ratio * SCALE));
+        this.maxUnits = max * SCALE;
+        this.availableUnits = new AtomicLong(initial * SCALE);
+    }
+
+    /** Records a successful call by depositing a fraction of a token. */
+    public void onSuccess() {
+        availableUnits.getAndUpdate(units -> Math.min(maxUnits, units + depositUnits));
+    }
+
+    /**
+     * Attempts to withdraw a token for a retry.
+     *
+     * @return {@code true} if the retry is permitted; else, {@code false} if the budget is exhausted
+     */
+    public boolean tryAcquire() {
+        long units;
+        do {
+            units = availableUnits.get();
+            if (units < SCALE) {
+                numDenied.increment();
+                return false;
+            }
+        } while (!availableUnits.compareAndSet(units, units - SCALE));
+
+        numAcquired.increment();
+        return true;
+    }
+
+    /**
+     * Gets the number of tokens currently available.
+     *
+     * @return the available tokens
+     */
+    public double getAvailableTokens() {
+        return (double) availableUnits.get() / SCALE;
+    }
+
+    /**
+     * Gets the number of retries that were permitted.
+     *
+     * @return the number of permitted retries
+     */
+    public long getAcquiredCount() {
+        return numAcquired.sum();
+    }
+
+    /**
+     * Gets the number of retries that were denied because the budget was exhausted.
+     *
+     * @return the number of denied retries
+     */
+    public long getDeniedCount() {
+        return numDenied.sum();
+    }
+}
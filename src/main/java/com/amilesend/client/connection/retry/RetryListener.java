@@ -0,0 +1,60 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection.retry;
+
+import okhttp3.Request;
+
+/**
+ * Listener that is notified of the attempts of each request made by a
+ * {@link com.amilesend.client.connection.Connection} according to its {@link RetryStrategy}. Implementations are
+ * invoked on the request path and should be fast and not throw.
+ *
+ * @see RetryMetrics
+ */
+public interface RetryListener {
+    /** A listener that does nothing. */
+    RetryListener NONE = new RetryListener() { };
+
+    /**
+     * Notified after an attempt fails.
+     *
+     * @param request the request
+     * @param attempt the number of the failed attempt, starting at 1
+     * @param thrown the exception thrown by the attempt
+     * @param delayMs the delay in milliseconds before the next attempt, or {@link RetryStrategy#NO_RETRY} if no
+     *                further attempts will be made
+     */
+    default void onAttemptFailed(final Request request, final int attempt, final Exception thrown, final long delayMs) {
+        // No-op
+    }
+
+    /**
+     * Notified once a request completes, successfully or not, after all attempts.
+     *
+     * @param request the request
+     * @param attempts the number of attempts made
+     * @param totalDelayMs the total delay in milliseconds spent waiting between attempts
+     * @param thrown the exception thrown by the last attempt if the request failed; else, {@code null}
+     */
+    default void onComplete(final Request request,
+                            final int attempts,
+                            final long totalDelayMs,
+                            final Exception thrown) {
+        // No-op
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection.retry;
+
+import com.amilesend.client.util.LatencyHistogram;
+import lombok.Builder;
+import lombok.Value;
+import okhttp3.Request;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link RetryListener} that aggregates retry counters and a histogram of retry delays per host. Recording is
+ * lock-free, and {@link #snapshot() snapshots} may be taken at any time (e.g., to determine the share of latency
+ * spent backing off).
+ *
+ * @see com.amilesend.client.connection.ConnectionBuilder#retryListener(RetryListener)
+ */
+public class RetryMetrics implements RetryListener {
+    private final Map<String, HostMetrics> hosts = new ConcurrentHashMap<>();
+
+    @Override
+    public void onAttemptFailed(final Request request, final int attempt, final Exception thrown, final long delayMs) {
+        final HostMetrics metrics = getOrCreate(request);
+        metrics.numFailedAttempts[RetryReason.of(thrown).ordinal()].increment();
+        if (delayMs != RetryStrategy.NO_RETRY) {
+            metrics.numRetries.increment();
+            metrics.delays.record(Duration.ofMillis(delayMs));
+        }
+    }
+
+    @Override
+    public void onComplete(final Request request, final int attempts, final long totalDelayMs, final Exception thrown) {
+        final HostMetrics metrics = getOrCreate(request);
+        metrics.numRequests.increment();
+        metrics.numAttempts.add(attempts);
+        metrics.totalDelayMs.add(totalDelayMs);
+        if (Objects.isNull(thrown)) {
+            metrics.numSuccesses.increment();
+        }
+    }
+
+    /**
+     * Gets the statistics for the given host.
+     *
+     * @param host the host
+     * @return the statistics, or empty if no requests were made to the host
+     */
+    public Optional<RetryStats> getStats(final String host) {
+        return Optional.ofNullable(hosts.get(host)).map(metrics -> metrics.toStats(host));
+    }
+
+    /**
+     * Creates a point-in-time snapshot of the statistics for all hosts.
+     *
+     * @return the statistics by host
+     */
+    public Map<String, RetryStats> snapshot() {
+        final Map<String, RetryStats> stats = new HashMap<>(hosts.size());
+        hosts.forEach((host, metrics) -> stats.put(host, metrics.toStats(host)));
+        return Collections.unmodifiableMap(stats);
+    }
+
+    private HostMetrics getOrCreate(final Request request) {
+        return hosts.computeIfAbsent(request.url().host(), h -> new HostMetrics());
+    }
+
+    /** The retry statistics for a host. */
+    @Builder
+    @Value
+    public static class RetryStats {
+        /** The host. */
+        String host;
+        /** The number of completed requests. */
+        long requestCount;
+        /** The number of attempts made across all completed requests. */
+        long attemptCount;
+        /** The number of retries scheduled after failed attempts. */
+        long retryCount;
+        /** The number of requests that succeeded. */
+        long successCount;
+        /** The number of failed attempts by reason. */
+        Map<RetryReason, Long> failedAttemptCounts;
+        /** The total time spent waiting between attempts across all completed requests. */
+        Duration totalDelay;
+        /** The distribution of scheduled retry delays. */
+        LatencyHistogram.Snapshot delays;
+
+        /**
+         * Gets the number of requests that failed after all attempts.
+         *
+         * @return the number of failed requests
+         */
+        public long getFailureCount() {
+            return requestCount - successCount;
+        }
+    }
+
+    private static class HostMetrics {
+        private final LongAdder numRequests = new LongAdder();
+        private final LongAdder numAttempts = new LongAdder();
+        private final LongAdder numRetries = new LongAdder();
+        private final LongAdder numSuccesses = new LongAdder();
+        private final LongAdder totalDelayMs = new LongAdder();
+        private final LongAdder[] numFailedAttempts = new LongAdder[RetryReason.values().length];
+        private final LatencyHistogram delays = new LatencyHistogram();
+
+        HostMetrics() {
+            for (int i = 0; i < numFailedAttempts.length; ++i) {
+                numFailedAttempts[i] = new LongAdder();
+            }
+        }
+
+        RetryStats toStats(final String host) {
+            final Map<RetryReason, Long> failedAttemptCounts = new EnumMap<>(RetryReason.class);
+            for (final RetryReason reason : RetryReason.values()) {
+                failedAttemptCounts.put(reason, numFailedAttempts[reason.ordinal()].sum());
+            }
+
+            return RetryStats.builder()
+                    .host(host)
+                    .requestCount(numRequests.sum())
+                    .attemptCount(numAttempts.sum())
+                    .retryCount(numRetries.sum())
+                    .successCount(numSuccesses.sum())
+                    .failedAttemptCounts(Collections.unmodifiableMap(failedAttemptCounts))
+                    .totalDelay(Duration.ofMillis(totalDelayMs.sum()))
+                    .delays(delays.snapshot())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection.retry;
+
+import com.amilesend.client.connection.CircuitOpenException;
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.client.connection.ThrottledException;
+
+import java.io.IOException;
+
+/** The reason that an attempt failed. */
+public enum RetryReason {
+    /** An I/O error (e.g., connection reset or timeout). */
+    IO,
+    /** The request was throttled ({@code 429}). */
+    THROTTLED,
+    /** The server returned an error ({@code 5xx}). */
+    SERVER_ERROR,
+    /** The request was invalid ({@code 4xx}). */
+    CLIENT_ERROR,
+    /** The attempt was rejected because the circuit for the host is open. */
+    CIRCUIT_OPEN,
+    /** Any other error. */
+    OTHER;
+
+    /**
+     * Classifies the exception thrown by an attempt.
+     *
+     * @param thrown the exception
+     * @return the reason
+     */
+    public static RetryReason of(final Throwable thrown) {
+        if (thrown instanceof IOException) {
+            return IO;
+        } else if (thrown instanceof CircuitOpenException) {
+            return CIRCUIT_OPEN;
+        } else if (thrown instanceof ThrottledException) {
+            return THROTTLED;
+        } else if (thrown instanceof ResponseException) {
+            return SERVER_ERROR;
+        } else if (thrown instanceof RequestException) {
+            return CLIENT_ERROR;
+        }
+
+        return OTHER;
+    }
+}
@@ -17,12 +17,21 @@
  */
 package com.amilesend.client.connection.retry;
 
+import com.amilesend.client.connection.CircuitOpenException;
+import com.amilesend.client.connection.ConnectionException;
 import com.amilesend.client.connection.RequestException;
 import com.amilesend.client.connection.ResponseException;
 import com.amilesend.client.connection.ThrottledException;
+import com.amilesend.client.jfr.RetryDelayEvent;
 import com.amilesend.client.util.StringUtils;
+import lombok.NonNull;
+import okhttp3.Request;
 import okhttp3.Response;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Defines the interface for a retry strategy that enables different approaches to determine how and when
  * to retry an invocation.
@@ -34,6 +43,8 @@ public interface RetryStrategy {
     Long DEFAULT_RETRY_AFTER_SECONDS = Long.valueOf(1L);
     /** The throttled HTTP response code. */
     int THROTTLED_RESPONSE_CODE = 429;
+    /** The value returned by {@link #nextRetryDelayMs(int, Exception, long)} to indicate no further retries. */
+    long NO_RETRY = -1L;
 
     /**
      * Executes the strategy to invoke the {@link RetriableCallResponse} call.
@@ -43,6 +54,161 @@ public interface RetryStrategy {
      */
     RetriableCallResponse invoke(Retriable retriable);
 
+    /**
+     * Invokes the call and retries failed attempts, blocking the calling thread between attempts for the delay
+     * determined by {@link #nextRetryDelayMs(int, Exception, long)}. Each response is validated with
+     * {@link #validateResponse(Retriable, Response)}, and the {@link Retriable} is notified of each retry decision.
+     * If the thread is interrupted while waiting, no further attempts are made and the interruption is added to the
+     * exceptions.
+     *
+     * @param retriable the call to invoke
+     * @return the response
+     */
+    default RetriableCallResponse invokeWithRetries(@NonNull final Retriable retriable) {
+        int attempts = 0;
+        long totalDelayMs = 0L;
+        final List<Exception> exceptions = new ArrayList<>();
+
+        do {
+            try {
+                ++attempts;
+                final Response response = retriable.call();
+                validateResponse(retriable, response);
+                return RetriableCallResponse.builder()
+                        .response(response)
+                        .exceptions(exceptions)
+                        .attempts(attempts)
+                        .build();
+            } catch (final IOException | ThrottledException | ResponseException ex) {
+                exceptions.add(ex);
+                final long delay = nextRetryDelayMs(attempts, ex, totalDelayMs);
+                retriable.onRetryDecision(attempts, ex, delay);
+                if (delay == NO_RETRY) {
+                    return RetriableCallResponse.builder()
+                            .attempts(attempts)
+                            .exceptions(exceptions)
+                            .build();
+                }
+
+                totalDelayMs += delay;
+
+                final RetryDelayEvent delayEvent = RetryDelayEvent.start(attempts, delay, ex);
+                try {
+                    Thread.sleep(delay);
+                } catch (final InterruptedException iex) {
+                    exceptions.add(iex);
+                    Thread.currentThread().interrupt();
+                    return RetriableCallResponse.builder()
+                            .attempts(attempts)
+                            .exceptions(exceptions)
+                            .build();
+                } finally {
+                    delayEvent.finish();
+                }
+            } catch (final Exception ex) {
+                exceptions.add(ex);
+                retriable.onRetryDecision(attempts, ex, NO_RETRY);
+                return RetriableCallResponse.builder()
+                        .attempts(attempts)
+                        .exceptions(exceptions)
+                        .build();
+            }
+        } while (true);
+    }
+
+    /**
+     * Determines if the next attempt should be made after a failed attempt and how long to wait before making it.
+     * This allows callers that cannot block (i.e., asynchronous invocations) to schedule retries without
+     * sleeping. The default implementation does not retry.
+     *
+     * @param attempts the number of attempts made thus far
+     * @param thrown the exception thrown by the last attempt
+     * @param totalDelayMs the accumulated delay in milliseconds of all prior retries
+     * @return the delay in milliseconds before the next attempt, or {@link #NO_RETRY} if no further attempts
+     *         should be made
+     */
+    default long nextRetryDelayMs(final int attempts, final Exception thrown, final long totalDelayMs) {
+        return NO_RETRY;
+    }
+
+    /**
+     * Invoked by the {@link com.amilesend.client.connection.Connection} before each attempt is made, for both
+     * blocking and asynchronous requests. This allows a strategy to reject an attempt without making the call, or to
+     * tag the request to correlate the outcome of the attempt with its admission. The default implementation permits
+     * all attempts.
+     *
+     * @param request the request
+     * @return the request to send for the attempt, which is given to {@link #afterAttempt} or
+     *         {@link #onAttemptCanceled(Request)}
+     * @throws ConnectionException if the attempt is not permitted (e.g., {@link CircuitOpenException})
+     */
+    default Request beforeAttempt(final Request request) {
+        return request;
+    }
+
+    /**
+     * Invoked by the {@link com.amilesend.client.connection.Connection} after each permitted attempt completes, before
+     * the response code is validated. The default implementation does nothing.
+     *
+     * @param request the request returned by {@link #beforeAttempt(Request)}
+     * @param statusCode the HTTP response code, or {@code 0} if no response was received
+     * @param thrown the exception thrown by the attempt if no response was received; else, {@code null}
+     * @param elapsedNanos the time in nanoseconds taken to receive the response headers or fail
+     */
+    default void afterAttempt(final Request request,
+                              final int statusCode,
+                              final Exception thrown,
+                              final long elapsedNanos) {
+        // No-op
+    }
+
+    /**
+     * Invoked by the {@link com.amilesend.client.connection.Connection} instead of
+     * {@link #afterAttempt(Request, int, Exception, long)} when a permitted attempt is cancelled before it completes
+     * (e.g., the caller cancelled the request). The default implementation does nothing.
+     *
+     * @param request the request returned by {@link #beforeAttempt(Request)}
+     */
+    default void onAttemptCanceled(final Request request) {
+        // No-op
+    }
+
+    /**
+     * Indicates if the given exception thrown by an attempt is eligible to be retried.
+     *
+     * @param thrown the exception thrown by the attempt
+     * @return {@code true} if retriable; else, {@code false}
+     */
+    default boolean isRetriable(final Exception thrown) {
+        return thrown instanceof IOException
+                || thrown instanceof ThrottledException
+                || thrown instanceof ResponseException;
+    }
+
+    /**
+     * Validates the response returned by the call with {@link #validateResponseCode(Response)}, unless it is
+     * {@link Retriable#isExpectedResponse(Response) expected} by the call. An invalid response is closed so that its
+     * connection (and concurrency limiter permit, if any) is released.
+     *
+     * @param retriable the call that returned the response
+     * @param response the response to evaluate
+     * @throws ThrottledException if a response was throttled
+     * @throws RequestException if a response contains a 400-based response code value
+     * @throws ResponseException if a response contains a non 400-based response code value
+     */
+    default void validateResponse(final Retriable retriable, final Response response) {
+        if (retriable.isExpectedResponse(response)) {
+            return;
+        }
+
+        try {
+            validateResponseCode(response);
+        } catch (final RuntimeException ex) {
+            response.close();
+            throw ex;
+        }
+    }
+
     /**
      * Validates the response code for a response.
      *
@@ -17,6 +17,7 @@
  */
 package com.amilesend.client.crypto;
 
+import com.amilesend.client.jfr.CryptoEvent;
 import com.amilesend.client.util.Validate;
 import com.amilesend.client.util.VisibleForTesting;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -71,10 +72,13 @@ public class CryptoHelper {
             throws CryptoHelperException {
         log.debug("Encrypting {}", description);
         final IvParameterSpec ivSpec = generativeIv();
+        final CryptoEvent event = CryptoEvent.start(CryptoEvent.Operation.ENCRYPT, cipherAlgorithm, content.length);
         try {
             final byte[] encryptedContent = invokeCipher(Cipher.ENCRYPT_MODE, content, ivSpec);
+            event.finish(true);
             return new EncryptedEnvelope(encryptedContent, ivSpec.getIV(), description);
         } catch (final GeneralSecurityException ex) {
+            event.finish(false);
             throw new CryptoHelperException("Unable to encrypt content: " + ex.getMessage(), ex);
         }
     }
@@ -90,9 +94,16 @@ public class CryptoHelper {
     public byte[] decrypt(@NonNull final EncryptedEnvelope envelope) throws CryptoHelperException {
         log.debug("Decrypting {}", envelope.getDescription());
         final IvParameterSpec ivSpec = new IvParameterSpec(envelope.getIv());
+        final CryptoEvent event = CryptoEvent.start(
+                CryptoEvent.Operation.DECRYPT,
+                cipherAlgorithm,
+                envelope.getEncryptedContent().length);
         try {
-            return invokeCipher(Cipher.DECRYPT_MODE, envelope.getEncryptedContent(), ivSpec);
+            final byte[] decryptedContent = invokeCipher(Cipher.DECRYPT_MODE, envelope.getEncryptedContent(), ivSpec);
+            event.finish(true);
+            return decryptedContent;
         } catch (final GeneralSecurityException ex) {
+            event.finish(false);
             throw new CryptoHelperException("Unable to decrypt contnet: " + ex.getMessage(), ex);
         }
     }
@@ -0,0 +1,93 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.NonNull;
+
+/**
+ * Flight recorder event for encrypting or decrypting content with a {@link com.amilesend.client.crypto.CryptoHelper}.
+ */
+@Name(CryptoEvent.NAME)
+@Label("Crypto Operation")
+@Description("Encrypting or decrypting content")
+@Category({EventSupport.CATEGORY, "Crypto"})
+@StackTrace(false)
+public final class CryptoEvent extends Event {
+    /** The event name. */
+    public static final String NAME = "com.amilesend.client.Crypto";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Bytes")
+    @Description("The number of input bytes")
+    @DataAmount
+    long bytes;
+
+    @Label("Success")
+    boolean success;
+
+    private CryptoEvent(final Operation operation, final String algorithm, final long bytes) {
+        this.operation = operation.name();
+        this.algorithm = algorithm;
+        this.bytes = bytes;
+    }
+
+    /**
+     * Creates and begins timing a new event. Note: this is a no-op when the event is disabled.
+     *
+     * @param operation the operation
+     * @param algorithm the cipher algorithm
+     * @param bytes the number of input bytes
+     * @return the event
+     */
+    public static CryptoEvent start(@NonNull final Operation operation, final String algorithm, final long bytes) {
+        final CryptoEvent event = new CryptoEvent(operation, algorithm, bytes);
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends timing and commits the event if enabled and above the configured threshold.
+     *
+     * @param success {@code true} if the operation succeeded; else, {@code false}
+     */
+    public void finish(final boolean success) {
+        end();
+        if (shouldCommit()) {
+            this.success = success;
+            commit();
+        }
+    }
+
+    /** The crypto operation. */
+    public enum Operation {
+        ENCRYPT,
+        DECRYPT
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.jfr;
+
+import lombok.experimental.UtilityClass;
+import okhttp3.HttpUrl;
+
+import java.util.Objects;
+
+/** Shared helpers for the flight recorder events. */
+@UtilityClass
+class EventSupport {
+    /** The category of all flight recorder events defined by this library. */
+    static final String CATEGORY = "OkHttp Client Extensions";
+
+    /**
+     * Formats the URL without its query or fragment so that the recorded value does not include parameters
+     * that may be sensitive.
+     *
+     * @param url the URL
+     * @return the formatted URL
+     */
+    static String toUrl(final HttpUrl url) {
+        return url.scheme() + "://" + url.host() + ":" + url.port() + url.encodedPath();
+    }
+
+    /**
+     * Gets the class name of the given exception.
+     *
+     * @param thrown the exception
+     * @return the class name, or {@code null} if no exception
+     */
+    static String toName(final Throwable thrown) {
+        return Objects.isNull(thrown) ? null : thrown.getClass().getName();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.NonNull;
+import okhttp3.Request;
+
+/**
+ * Flight recorder event for the execution of a request by a {@link com.amilesend.client.connection.Connection},
+ * including all retry attempts and delays.
+ */
+@Name(ExecuteEvent.NAME)
+@Label("Connection Execute")
+@Description("Execution of a request, including all retry attempts and delays")
+@Category({EventSupport.CATEGORY, "HTTP"})
+@StackTrace(false)
+public final class ExecuteEvent extends Event {
+    /** The event name. */
+    public static final String NAME = "com.amilesend.client.Execute";
+
+    @Label("Method")
+    String method;
+
+    @Label("URL")
+    @Description("The request URL without its query")
+    String url;
+
+    @Label("Status Code")
+    int statusCode;
+
+    @Label("Attempts")
+    int attempts;
+
+    @Label("Success")
+    boolean success;
+
+    private final transient Request request;
+
+    private ExecuteEvent(final Request request) {
+        this.request = request;
+    }
+
+    /**
+     * Creates and begins timing a new event. Note: this is a no-op when the event is disabled.
+     *
+     * @param request the request
+     * @return the event
+     */
+    public static ExecuteEvent start(@NonNull final Request request) {
+        final ExecuteEvent event = new ExecuteEvent(request);
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends timing and commits the event if enabled and above the configured threshold.
+     *
+     * @param statusCode the final response status code, or {@code 0} if no response
+     * @param attempts the number of attempts made
+     * @param success {@code true} if the request succeeded; else, {@code false}
+     */
+    public void finish(final int statusCode, final int attempts, final boolean success) {
+        end();
+        if (shouldCommit()) {
+            this.method = request.method();
+            this.url = EventSupport.toUrl(request.url());
+            this.statusCode = statusCode;
+            this.attempts = attempts;
+            this.success = success;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.NonNull;
+
+/** Flight recorder event for parsing a response body with a {@link com.amilesend.client.parse.parser.GsonParser}. */
+@Name(ParseEvent.NAME)
+@Label("Parse Response")
+@Description("Parsing a JSON-formatted response body")
+@Category({EventSupport.CATEGORY, "Parsing"})
+@StackTrace(false)
+public final class ParseEvent extends Event {
+    /** The event name. */
+    public static final String NAME = "com.amilesend.client.Parse";
+
+    @Label("Parser")
+    Class<?> parser;
+
+    @Label("Bytes")
+    @Description("The number of decoded bytes read")
+    @DataAmount
+    long bytes;
+
+    @Label("Success")
+    boolean success;
+
+    private ParseEvent(final Class<?> parser) {
+        this.parser = parser;
+    }
+
+    /**
+     * Creates and begins timing a new event. Note: this is a no-op when the event is disabled.
+     *
+     * @param parser the parser
+     * @return the event
+     */
+    public static ParseEvent start(@NonNull final Object parser) {
+        final ParseEvent event = new ParseEvent(parser.getClass());
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends timing and commits the event if enabled and above the configured threshold.
+     *
+     * @param bytes the number of decoded bytes read
+     * @param success {@code true} if the response was parsed; else, {@code false}
+     */
+    public void finish(final long bytes, final boolean success) {
+        end();
+        if (shouldCommit()) {
+            this.bytes = bytes;
+            this.success = success;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.NonNull;
+import okhttp3.Request;
+
+/** Flight recorder event for a single attempt of a request made according to a retry strategy. */
+@Name(RetryAttemptEvent.NAME)
+@Label("Request Attempt")
+@Description("A single attempt of a request made according to a retry strategy")
+@Category({EventSupport.CATEGORY, "HTTP"})
+@StackTrace(false)
+public final class RetryAttemptEvent extends Event {
+    /** The event name. */
+    public static final String NAME = "com.amilesend.client.RetryAttempt";
+
+    @Label("Method")
+    String method;
+
+    @Label("URL")
+    @Description("The request URL without its query")
+    String url;
+
+    @Label("Attempt")
+    int attempt;
+
+    @Label("Status Code")
+    int statusCode;
+
+    @Label("Exception")
+    @Description("The class of the exception thrown by the attempt, if any")
+    String exception;
+
+    private final transient Request request;
+
+    private RetryAttemptEvent(final Request request, final int attempt) {
+        this.request = request;
+        this.attempt = attempt;
+    }
+
+    /**
+     * Creates and begins timing a new event. Note: this is a no-op when the event is disabled.
+     *
+     * @param request the request
+     * @param attempt the attempt number, starting at 1
+     * @return the event
+     */
+    public static RetryAttemptEvent start(@NonNull final Request request, final int attempt) {
+        final RetryAttemptEvent event = new RetryAttemptEvent(request, attempt);
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends timing and commits the event if enabled and above the configured threshold.
+     *
+     * @param statusCode the response status code, or {@code 0} if no response
+     * @param thrown the exception thrown by the attempt, or {@code null}
+     */
+    public void finish(final int statusCode, final Throwable thrown) {
+        end();
+        if (shouldCommit()) {
+            this.method = request.method();
+            this.url = EventSupport.toUrl(request.url());
+            this.statusCode = statusCode;
+            this.exception = EventSupport.toName(thrown);
+            commit();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/** Flight recorder event for the delay between retry attempts. */
+@Name(RetryDelayEvent.NAME)
+@Label("Retry Delay")
+@Description("The delay before the next attempt of a failed request")
+@Category({EventSupport.CATEGORY, "HTTP"})
+@StackTrace(false)
+public final class RetryDelayEvent extends Event {
+    /** The event name. */
+    public static final String NAME = "com.amilesend.client.RetryDelay";
+
+    @Label("Attempt")
+    @Description("The number of the failed attempt")
+    int attempt;
+
+    @Label("Planned Delay")
+    @Timespan(Timespan.MILLISECONDS)
+    long plannedDelay;
+
+    @Label("Cause")
+    @Description("The class of the exception that caused the retry")
+    String cause;
+
+    private final transient Throwable thrown;
+
+    private RetryDelayEvent(final int attempt, final long plannedDelay, final Throwable thrown) {
+        this.attempt = attempt;
+        this.plannedDelay = plannedDelay;
+        this.thrown = thrown;
+    }
+
+    /**
+     * Creates and begins timing a new event. Note: this is a no-op when the event is disabled.
+     *
+     * @param attempt the number of the failed attempt
+     * @param plannedDelayMs the planned delay in milliseconds
+     * @param thrown the exception that caused the retry
+     * @return the event
+     */
+    public static RetryDelayEvent start(final int attempt, final long plannedDelayMs, final Throwable thrown) {
+        final RetryDelayEvent event = new RetryDelayEvent(attempt, plannedDelayMs, thrown);
+        event.begin();
+        return event;
+    }
+
+    /** Ends timing and commits the event if enabled and above the configured threshold. */
+    public void finish() {
+        end();
+        if (shouldCommit()) {
+            this.cause = EventSupport.toName(thrown);
+            commit();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Frequency;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.NonNull;
+
+/** Flight recorder event for a file upload or download. */
+@Name(TransferEvent.NAME)
+@Label("File Transfer")
+@Description("A file upload or download")
+@Category({EventSupport.CATEGORY, "File Transfer"})
+@StackTrace(false)
+public final class TransferEvent extends Event {
+    /** The event name. */
+    public static final String NAME = "com.amilesend.client.Transfer";
+
+    @Label("Direction")
+    String direction;
+
+    @Label("Bytes")
+    @Description("The number of bytes transferred")
+    @DataAmount
+    long bytes;
+
+    @Label("Total Bytes")
+    @Description("The expected number of bytes to transfer")
+    @DataAmount
+    long totalBytes;
+
+    @Label("Throughput")
+    @DataAmount
+    @Frequency
+    long throughput;
+
+    @Label("Success")
+    boolean success;
+
+    private final transient long startNanos;
+
+    private TransferEvent(final Direction direction, final long totalBytes) {
+        this.direction = direction.name();
+        this.totalBytes = totalBytes;
+        this.startNanos = isEnabled() ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Creates and begins timing a new event. Note: this is a no-op when the event is disabled.
+     *
+     * @param direction the transfer direction
+     * @param totalBytes the expected number of bytes to transfer
+     * @return the event
+     */
+    public static TransferEvent start(@NonNull final Direction direction, final long totalBytes) {
+        final TransferEvent event = new TransferEvent(direction, totalBytes);
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends timing and commits the event if enabled and above the configured threshold.
+     *
+     * @param bytes the number of bytes transferred
+     * @param success {@code true} if the transfer completed; else, {@code false}
+     */
+    public void finish(final long bytes, final boolean success) {
+        end();
+        if (shouldCommit()) {
+            final long elapsedNanos = Math.max(1L, System.nanoTime() - startNanos);
+            this.bytes = bytes;
+            this.throughput = (long) (bytes * 1_000_000_000D / elapsedNanos);
+            this.success = success;
+            commit();
+        }
+    }
+
+    /** The direction of a transfer. */
+    public enum Direction {
+        UPLOAD,
+        DOWNLOAD
+    }
+}
@@ -18,6 +18,7 @@
 package com.amilesend.client.parse.parser;
 
 import com.google.gson.Gson;
+import lombok.EqualsAndHashCode;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
@@ -30,6 +31,7 @@ import java.io.InputStreamReader;
  * @param <T> the object type
  */
 @RequiredArgsConstructor
+@EqualsAndHashCode
 public class BasicParser<T> implements GsonParser<T> {
     @NonNull
     private final Class<T> clazz;
@@ -0,0 +1,136 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.parse.parser;
+
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import lombok.NonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An {@link Iterator} that lazily decodes the elements of a JSON array one at a time from a {@link JsonReader}.
+ * Only the current element is held in memory. Errors encountered while reading are thrown as
+ * {@link com.google.gson.JsonParseException}s.
+ *
+ * @param <T> the element type
+ * @see StreamingListParser
+ */
+public class JsonArrayIterator<T> implements Iterator<T>, Closeable {
+    private final JsonReader reader;
+    private final TypeAdapter<T> adapter;
+    private boolean isEndReached;
+
+    /**
+     * Creates a new {@code JsonArrayIterator} and positions the reader at the first element of the array.
+     *
+     * @param reader the reader
+     * @param adapter the type adapter used to decode each element
+     * @param envelopeField the name of the field in the top-level object that contains the array, or {@code null}
+     *                      if the top-level value is the array
+     */
+    JsonArrayIterator(@NonNull final JsonReader reader,
+                      @NonNull final TypeAdapter<T> adapter,
+                      final String envelopeField) {
+        this.reader = reader;
+        this.adapter = adapter;
+        isEndReached = !invoke(() -> moveToArray(envelopeField));
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (isEndReached) {
+            return false;
+        }
+
+        return invoke(() -> {
+            if (reader.hasNext()) {
+                return true;
+            }
+
+            reader.endArray();
+            isEndReached = true;
+            return false;
+        });
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No remaining elements in the JSON array");
+        }
+
+        return invoke(() -> adapter.read(reader));
+    }
+
+    @Override
+    public void close() throws IOException {
+        isEndReached = true;
+        reader.close();
+    }
+
+    private boolean moveToField(final String envelopeField) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (envelopeField.equals(reader.nextName())) {
+                return true;
+            }
+
+            reader.skipValue();
+        }
+
+        return false;
+    }
+
+    private boolean moveToArray(final String envelopeField) throws IOException {
+        if (Objects.nonNull(envelopeField) && !moveToField(envelopeField)) {
+            return false;
+        }
+
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return false;
+        }
+
+        reader.beginArray();
+        return true;
+    }
+
+    private static <V> V invoke(final IOCallable<V> callable) {
+        try {
+            return callable.call();
+        } catch (final MalformedJsonException | IllegalStateException ex) {
+            throw new JsonSyntaxException(ex);
+        } catch (final IOException ex) {
+            throw new JsonIOException(ex);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IOCallable<V> {
+        V call() throws IOException;
+    }
+}
@@ -19,6 +19,7 @@ package com.amilesend.client.parse.parser;
 
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
+import lombok.EqualsAndHashCode;
 import lombok.NonNull;
 
 import java.io.InputStream;
@@ -31,6 +32,7 @@ import java.util.List;
  *
  * @param <T> the object type
  */
+@EqualsAndHashCode
 public class ListParser<T> implements GsonParser<List<T>> {
     private final Type typeSpecifier;
 
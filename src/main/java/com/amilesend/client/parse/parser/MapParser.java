@@ -19,6 +19,7 @@ package com.amilesend.client.parse.parser;
 
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
+import lombok.EqualsAndHashCode;
 import lombok.NonNull;
 
 import java.io.InputStream;
@@ -32,6 +33,7 @@ import java.util.Map;
  * @param <K> the key object type
  * @param <V> the value object type
  */
+@EqualsAndHashCode
 public class MapParser<K, V> implements GsonParser<Map<K, V>> {
     private final Type typeSpecifier;
 
@@ -0,0 +1,76 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.parse.parser;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import lombok.NonNull;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Defines a parser that decodes a JSON array one element at a time instead of materializing the entire list
+ * (see {@link ListParser}). The array can either be the top-level value or be nested within a named field of the
+ * top-level object (e.g., {@code {"value": [ ... ]}}).
+ *
+ * @param <T> the element type
+ * @see JsonArrayIterator
+ */
+public class StreamingListParser<T> {
+    private final TypeToken<T> typeToken;
+    private final String envelopeField;
+
+    /**
+     * Creates a new {@code StreamingListParser} for a top-level JSON array of the given class type.
+     *
+     * @param clazz the element class type
+     */
+    public StreamingListParser(@NonNull final Class<T> clazz) {
+        this(clazz, null);
+    }
+
+    /**
+     * Creates a new {@code StreamingListParser} for a JSON array of the given class type that is contained within
+     * the named field of the top-level object.
+     *
+     * @param clazz the element class type
+     * @param envelopeField the name of the field containing the array (e.g., {@code value} or {@code items}), or
+     *                      {@code null} if the top-level value is the array
+     */
+    public StreamingListParser(@NonNull final Class<T> clazz, final String envelopeField) {
+        this.typeToken = TypeToken.get(clazz);
+        this.envelopeField = envelopeField;
+    }
+
+    /**
+     * Positions the given JSON-formatted input stream at the start of the array and returns an iterator
+     * that decodes each element on demand. The caller is responsible for closing the returned iterator.
+     *
+     * @param gson the Gson instance used to deserialize each element
+     * @param jsonStream stream with expected JSON-formatted contents
+     * @return the element iterator
+     * @throws com.google.gson.JsonParseException if the stream does not contain the expected array
+     */
+    public JsonArrayIterator<T> parse(@NonNull final Gson gson, @NonNull final InputStream jsonStream) {
+        final JsonReader reader = gson.newJsonReader(new InputStreamReader(jsonStream, StandardCharsets.UTF_8));
+        return new JsonArrayIterator<>(reader, gson.getAdapter(typeToken), envelopeField);
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.util;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of latencies with log-linear buckets. Each power of two range is divided into
+ * {@value #SUB_BUCKET_COUNT} linear buckets, so reported percentiles are within ~3% of the recorded values.
+ * Values are tracked in nanoseconds up to ~18 minutes; larger values are recorded in the last bucket.
+ * <p>
+ * Recording only increments atomic counters, so it is safe to call from many threads on the request path. A
+ * {@link #snapshot()} copies the counters without blocking recorders; values recorded concurrently with a
+ * snapshot may or may not be included.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    private static final long MAX_TRACKABLE_NANOS = (1L << MAX_EXPONENT) - 1L;
+    private static final int BUCKET_COUNT = indexOf(MAX_TRACKABLE_NANOS) + 1;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos the latency in nanoseconds. Negative values are recorded as zero.
+     */
+    public void record(final long nanos) {
+        final long value = Math.max(0L, nanos);
+        buckets.incrementAndGet(indexOf(Math.min(value, MAX_TRACKABLE_NANOS)));
+        count.increment();
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param latency the latency
+     */
+    public void record(@NonNull final Duration latency) {
+        record(latency.toNanos());
+    }
+
+    /**
+     * Gets the number of recorded latencies.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Creates a point-in-time snapshot of the recorded latencies.
+     *
+     * @return the snapshot
+     */
+    public Snapshot snapshot() {
+        final long[] counts = new long[BUCKET_COUNT];
+        long snapshotCount = 0L;
+        for (int i = 0; i < BUCKET_COUNT; ++i) {
+            counts[i] = buckets.get(i);
+            snapshotCount += counts[i];
+        }
+
+        return new Snapshot(counts, snapshotCount, totalNanos.sum(), maxNanos.get());
+    }
+
+    private static int indexOf(final long value) {
+        if (value < 2 * SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        final int shift = (63 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKET_COUNT + (int) (value >>> shift);
+    }
+
+    private static long valueOf(final int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        final int shift = index / SUB_BUCKET_COUNT - 1;
+        final long lowerBound = (long) (index - shift * SUB_BUCKET_COUNT) << shift;
+        // Report the midpoint of the bucket's range
+        return lowerBound + ((1L << shift) >>> 1);
+    }
+
+    /** A point-in-time view of a {@link LatencyHistogram}. */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Snapshot {
+        @Getter(AccessLevel.NONE)
+        private final long[] counts;
+        /** The number of recorded latencies. */
+        @Getter
+        private final long count;
+        @Getter(AccessLevel.NONE)
+        private final long totalNanos;
+        @Getter(AccessLevel.NONE)
+        private final long maxNanos;
+
+        /**
+         * Gets the latency at the given percentile.
+         *
+         * @param percentile the percentile between 0 and 100 (e.g., {@code 99.9})
+         * @return the latency, or {@link Duration#ZERO} if no latencies were recorded
+         */
+        public Duration getValueAtPercentile(final double percentile) {
+            Validate.isTrue(percentile >= 0D && percentile <= 100D, "percentile must be between 0 and 100");
+            if (count == 0L) {
+                return Duration.ZERO;
+            }
+
+            final long rank = Math.max(1L, (long) Math.ceil(percentile / 100D * count));
+            long cumulative = 0L;
+            for (int i = 0; i < counts.length; ++i) {
+                cumulative += counts[i];
+                if (cumulative >= rank) {
+                    return Duration.ofNanos(Math.min(valueOf(i), maxNanos));
+                }
+            }
+
+            return getMax();
+        }
+
+        /**
+         * Gets the median latency.
+         *
+         * @return the 50th percentile latency
+         */
+        public Duration getP50() {
+            return getValueAtPercentile(50D);
+        }
+
+        /**
+         * Gets the 99th percentile latency.
+         *
+         * @return the 99th percentile latency
+         */
+        public Duration getP99() {
+            return getValueAtPercentile(99D);
+        }
+
+        /**
+         * Gets the 99.9th percentile latency.
+         *
+         * @return the 99.9th percentile latency
+         */
+        public Duration getP999() {
+            return getValueAtPercentile(99.9D);
+        }
+
+        /**
+         * Gets the mean latency.
+         *
+         * @return the mean latency, or {@link Duration#ZERO} if no latencies were recorded
+         */
+        public Duration getMean() {
+            return count == 0L ? Duration.ZERO : Duration.ofNanos(totalNanos / count);
+        }
+
+        /**
+         * Gets the max recorded latency.
+         *
+         * @return the max latency
+         */
+        public Duration getMax() {
+            return Duration.ofNanos(maxNanos);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Utility to create virtual thread-based executors when running on a Java 21+ runtime. This library targets
+ * Java 11, so virtual thread support is resolved at runtime.
+ */
+@UtilityClass
+public class VirtualThreads {
+    private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = lookupExecutorFactory();
+    private static final Method IS_VIRTUAL = lookupIsVirtual();
+
+    /**
+     * Indicates if the current runtime supports virtual threads.
+     *
+     * @return {@code true} if virtual threads are supported; else, {@code false}
+     */
+    public static boolean isSupported() {
+        return Objects.nonNull(NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR);
+    }
+
+    /**
+     * Creates a new executor that starts a new virtual thread for each task.
+     *
+     * @return the executor
+     * @throws UnsupportedOperationException if the runtime does not support virtual threads
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor() {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("Virtual threads require a Java 21+ runtime");
+        }
+
+        try {
+            return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke(null);
+        } catch (final IllegalAccessException | InvocationTargetException ex) {
+            throw new UnsupportedOperationException("Unable to create virtual thread executor: " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Indicates if the given thread is a virtual thread.
+     *
+     * @param thread the thread
+     * @return {@code true} if the thread is virtual; else, {@code false}
+     */
+    public static boolean isVirtual(final Thread thread) {
+        if (Objects.isNull(IS_VIRTUAL)) {
+            return false;
+        }
+
+        try {
+            return (Boolean) IS_VIRTUAL.invoke(thread);
+        } catch (final IllegalAccessException | InvocationTargetException ex) {
+            return false;
+        }
+    }
+
+    private static Method lookupExecutorFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (final NoSuchMethodException ex) {
+            return null;
+        }
+    }
+
+    private static Method lookupIsVirtual() {
+        try {
+            return Thread.class.getMethod("isVirtual");
+        } catch (final NoSuchMethodException ex) {
+            return null;
+        }
+    }
+}
@@ -17,8 +17,16 @@
  */
 package com.amilesend.client;
 
+import com.amilesend.client.connection.Connection;
+import com.amilesend.client.connection.DefaultConnectionBuilder;
+import com.amilesend.client.connection.auth.NoOpAuthManager;
 import com.amilesend.client.connection.http.OkHttpClientBuilder;
+import com.amilesend.client.connection.retry.RetryStrategy;
 import com.amilesend.client.data.SerializedResource;
+import com.amilesend.client.parse.GsonFactoryBase;
+import com.google.gson.GsonBuilder;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.SneakyThrows;
 import mockwebserver3.MockResponse;
 import mockwebserver3.MockWebServer;
@@ -27,13 +35,17 @@ import okio.Buffer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 
+import java.util.function.UnaryOperator;
+
 /** Defines the base class to set up a mock web server to test the client implementation. */
 public class FunctionalTestBase {
     public static final int SUCCESS_STATUS_CODE = 200;
     public static final int USER_ERROR_CODE = 404;
     public static final int SERVICE_ERROR_CODE = 503;
 
+    @Getter(AccessLevel.PROTECTED)
     private MockWebServer mockWebServer = new MockWebServer();
+    @Getter(AccessLevel.PROTECTED)
     private OkHttpClient httpClient;
 
     @SneakyThrows
@@ -75,7 +87,36 @@ public class FunctionalTestBase {
                 .build());
     }
 
+    protected void setUpMockResponse(final int responseCode, final String jsonResponseBody) {
+        mockWebServer.enqueue(new MockResponse.Builder()
+                .code(responseCode)
+                .addHeader("Content-Type", "application/json; charset=utf-8")
+                .body(jsonResponseBody)
+                .build());
+    }
+
+    protected Connection<GsonFactoryBase> newConnection(final RetryStrategy retryStrategy) {
+        return newConnectionWith(builder -> builder.retryStrategy(retryStrategy));
+    }
+
+    protected Connection<GsonFactoryBase> newConnectionWith(final UnaryOperator<DefaultConnectionBuilder> configurer) {
+        return configurer.apply(new DefaultConnectionBuilder()
+                        .httpClient(httpClient)
+                        .gsonFactory(new TestGsonFactory())
+                        .authManager(new NoOpAuthManager())
+                        .baseUrl(getMockWebServerUrl())
+                        .userAgent("FunctionalTest/1.0"))
+                .build();
+    }
+
     protected String getMockWebServerUrl() {
         return String.format("http://%s:%d", mockWebServer.getHostName(), mockWebServer.getPort());
     }
+
+    public static class TestGsonFactory extends GsonFactoryBase<Connection> {
+        @Override
+        protected GsonBuilder configure(final GsonBuilder gsonBuilder, final Connection connection) {
+            return gsonBuilder;
+        }
+    }
 }
@@ -0,0 +1,194 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection;
+
+import com.amilesend.client.connection.ConcurrencyLimiter.Algorithm;
+import com.amilesend.client.connection.ConcurrencyLimiter.LimiterStats;
+import com.amilesend.client.connection.ConcurrencyLimiter.Permit;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrencyLimiterTest {
+    private static final String HOST = "api.example.com";
+
+    private final AtomicLong ticker = new AtomicLong();
+
+    @Test
+    public void acquire_withLimitReached_shouldQueueUntilReleased() {
+        final ConcurrencyLimiter limiterUnderTest = newLimiter(Algorithm.AIMD, 2, 1, 10);
+
+        final Permit first = limiterUnderTest.acquire(HOST).join();
+        limiterUnderTest.acquire(HOST).join();
+        final CompletableFuture<Permit> queued = limiterUnderTest.acquire(HOST);
+        final LimiterStats whileQueued = limiterUnderTest.getStats(HOST).orElseThrow();
+        first.onIgnore();
+        first.onIgnore();
+
+        assertAll(
+                () -> assertEquals(1, whileQueued.getQueuedCount()),
+                () -> assertEquals(2, whileQueued.getInFlightCount()),
+                () -> assertTrue(queued.isDone()),
+                () -> assertEquals(2, limiterUnderTest.getStats(HOST).orElseThrow().getInFlightCount()),
+                () -> assertEquals(0, limiterUnderTest.getStats(HOST).orElseThrow().getQueuedCount()));
+    }
+
+    @Test
+    public void acquire_withFullQueue_shouldReject() {
+        final ConcurrencyLimiter limiterUnderTest = newLimiter(Algorithm.AIMD, 1, 0, 10);
+        limiterUnderTest.acquire(HOST).join();
+
+        final CompletableFuture<Permit> actual = limiterUnderTest.acquire(HOST);
+
+        final ExecutionException thrown = assertThrows(ExecutionException.class, actual::get);
+        assertAll(
+                () -> assertInstanceOf(ConcurrencyLimitExceededException.class, thrown.getCause()),
+                () -> assertEquals(HOST, ((ConcurrencyLimitExceededException) thrown.getCause()).getHost()),
+                () -> assertEquals(1L, limiterUnderTest.getStats(HOST).orElseThrow().getRejectedCount()),
+                () -> assertThrows(ConcurrencyLimitExceededException.class,
+                        () -> limiterUnderTest.acquireBlocking(HOST)));
+    }
+
+    @Test
+    public void acquire_withQueueTimeout_shouldReject() {
+        final ConcurrencyLimiter limiterUnderTest = ConcurrencyLimiter.builder()
+                .initialLimit(1)
+                .maxQueueTime(Duration.ofMillis(10L))
+                .build();
+        limiterUnderTest.acquire(HOST).join();
+
+        final ExecutionException thrown = assertThrows(ExecutionException.class,
+                () -> limiterUnderTest.acquire(HOST).get(5L, TimeUnit.SECONDS));
+
+        assertAll(
+                () -> assertInstanceOf(ConcurrencyLimitExceededException.class, thrown.getCause()),
+                () -> assertEquals(0, limiterUnderTest.getStats(HOST).orElseThrow().getQueuedCount()));
+    }
+
+    @Test
+    public void onDropped_withAimd_shouldDecreaseLimit() {
+        final ConcurrencyLimiter limiterUnderTest = newLimiter(Algorithm.AIMD, 10, 0, 100);
+
+        limiterUnderTest.acquire(HOST).join().onDropped();
+
+        assertEquals(9, limiterUnderTest.getLimit(HOST));
+    }
+
+    @Test
+    public void onSuccess_withAimdAndSaturatedLimit_shouldIncreaseLimit() {
+        final ConcurrencyLimiter limiterUnderTest = newLimiter(Algorithm.AIMD, 2, 0, 100);
+
+        IntStream.range(0, 10).forEach(i -> {
+            final List<Permit> permits = acquireAll(limiterUnderTest, limiterUnderTest.getLimit(HOST));
+            permits.forEach(Permit::onSuccess);
+        });
+
+        assertTrue(limiterUnderTest.getLimit(HOST) > 2);
+    }
+
+    @Test
+    public void onSuccess_withVegasAndStableRtt_shouldIncreaseLimit() {
+        final ConcurrencyLimiter limiterUnderTest = newLimiter(Algorithm.VEGAS, 10, 0, 100);
+
+        sampleSaturated(limiterUnderTest, 10L);
+
+        final LimiterStats actual = limiterUnderTest.getStats(HOST).orElseThrow();
+        assertAll(
+                () -> assertTrue(actual.getLimit() > 10),
+                () -> assertEquals(Duration.ofMillis(10L), actual.getMinRtt()),
+                () -> assertEquals(Duration.ofMillis(10L), actual.getSmoothedRtt()));
+    }
+
+    @Test
+    public void onSuccess_withVegasAndInflatedRtt_shouldDecreaseLimit() {
+        final ConcurrencyLimiter limiterUnderTest = newLimiter(Algorithm.VEGAS, 50, 0, 100);
+        sampleSaturated(limiterUnderTest, 10L);
+        final int limitBefore = limiterUnderTest.getLimit(HOST);
+
+        sampleSaturated(limiterUnderTest, 100L);
+
+        assertTrue(limiterUnderTest.getLimit(HOST) < limitBefore);
+    }
+
+    @Test
+    public void onSuccess_withLowUtilization_shouldNotChangeLimit() {
+        final ConcurrencyLimiter limiterUnderTest = newLimiter(Algorithm.VEGAS, 10, 0, 100);
+
+        IntStream.range(0, 20).forEach(i -> limiterUnderTest.acquire(HOST).join().onSuccess());
+
+        assertEquals(10, limiterUnderTest.getLimit(HOST));
+    }
+
+    @Test
+    public void builder_withInvalidAttributes_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> ConcurrencyLimiter.builder().minLimit(0).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> ConcurrencyLimiter.builder().minLimit(5).maxLimit(4).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> ConcurrencyLimiter.builder().initialLimit(300).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> ConcurrencyLimiter.builder().maxQueueSize(-1).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> ConcurrencyLimiter.builder().maxQueueTime(Duration.ZERO).build()));
+    }
+
+    private void sampleSaturated(final ConcurrencyLimiter limiter, final long rttMs) {
+        IntStream.range(0, 5).forEach(i -> {
+            final List<Permit> permits = acquireAll(limiter, limiter.getLimit(HOST));
+            ticker.addAndGet(Duration.ofMillis(rttMs).toNanos());
+            permits.forEach(Permit::onSuccess);
+        });
+    }
+
+    private static List<Permit> acquireAll(final ConcurrencyLimiter limiter, final int count) {
+        final List<CompletableFuture<Permit>> futures = IntStream.range(0, count)
+                .mapToObj(i -> limiter.acquire(HOST))
+                .collect(Collectors.toList());
+        assertFalse(futures.stream().anyMatch(CompletableFuture::isCompletedExceptionally));
+        return futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+    }
+
+    private ConcurrencyLimiter newLimiter(final Algorithm algorithm,
+                                          final int initialLimit,
+                                          final int maxQueueSize,
+                                          final int maxLimit) {
+        return ConcurrencyLimiter.builder()
+                .algorithm(algorithm)
+                .initialLimit(initialLimit)
+                .maxLimit(maxLimit)
+                .maxQueueSize(maxQueueSize)
+                .ticker(ticker::get)
+                .build();
+    }
+}
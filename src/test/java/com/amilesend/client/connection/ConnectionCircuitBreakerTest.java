@@ -0,0 +1,91 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection;
+
+import com.amilesend.client.FunctionalTestBase;
+import com.amilesend.client.connection.retry.CircuitBreakerRetryStrategy;
+import com.amilesend.client.connection.retry.CircuitState;
+import com.amilesend.client.connection.retry.FixedDelayRetryStrategy;
+import com.amilesend.client.parse.GsonFactoryBase;
+import okhttp3.Request;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ConnectionCircuitBreakerTest extends FunctionalTestBase {
+    private CircuitBreakerRetryStrategy strategy;
+    private Connection<GsonFactoryBase> connectionUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        strategy = CircuitBreakerRetryStrategy.builder()
+                .delegate(FixedDelayRetryStrategy.builder()
+                        .maxAttempts(3)
+                        .delayMs(1L)
+                        .maxJitterMs(1L)
+                        .build())
+                .windowSize(4)
+                .minimumCalls(2)
+                .openDuration(Duration.ofMinutes(1L))
+                .build();
+        connectionUnderTest = newConnection(strategy);
+    }
+
+    @Test
+    public void execute_withOpenCircuit_shouldFailFastWithoutCallingServer() {
+        setUpMockResponse(SERVICE_ERROR_CODE);
+        setUpMockResponse(SERVICE_ERROR_CODE);
+
+        final ConnectionException thrown =
+                assertThrows(ConnectionException.class, () -> connectionUnderTest.execute(newRequest()));
+
+        assertAll(
+                () -> assertInstanceOf(CircuitOpenException.class, thrown),
+                () -> assertEquals(2, getMockWebServer().getRequestCount()),
+                () -> assertEquals(CircuitState.OPEN, strategy.getState(getMockWebServer().getHostName())),
+                () -> assertThrows(CircuitOpenException.class, () -> connectionUnderTest.execute(newRequest())),
+                () -> assertEquals(2, getMockWebServer().getRequestCount()));
+    }
+
+    @Test
+    public void executeAsync_withOpenCircuit_shouldFailFastWithoutCallingServer() {
+        setUpMockResponse(SERVICE_ERROR_CODE);
+        setUpMockResponse(SERVICE_ERROR_CODE);
+
+        final ExecutionException thrown = assertThrows(ExecutionException.class,
+                () -> connectionUnderTest.executeAsync(newRequest()).get(5L, TimeUnit.SECONDS));
+
+        assertAll(
+                () -> assertInstanceOf(CircuitOpenException.class, thrown.getCause()),
+                () -> assertEquals(2, getMockWebServer().getRequestCount()));
+    }
+
+    private Request newRequest() {
+        return connectionUnderTest.newRequestBuilder()
+                .url(getMockWebServerUrl() + "/items")
+                .build();
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection;
+
+import com.amilesend.client.FunctionalTestBase;
+import com.amilesend.client.connection.retry.CircuitBreakerRetryStrategy;
+import com.amilesend.client.connection.retry.CircuitState;
+import com.amilesend.client.parse.GsonFactoryBase;
+import com.amilesend.client.parse.parser.BasicParser;
+import lombok.Data;
+import lombok.SneakyThrows;
+import mockwebserver3.Dispatcher;
+import mockwebserver3.MockResponse;
+import mockwebserver3.RecordedRequest;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConnectionConcurrencyLimiterTest extends FunctionalTestBase {
+    private static final int NUM_REQUESTS = 12;
+    private static final int LIMIT = 2;
+
+    private final AtomicInteger numInFlight = new AtomicInteger();
+    private final AtomicInteger maxObservedInFlight = new AtomicInteger();
+
+    @Test
+    public void executeAll_withLimit_shouldBoundInFlightRequests() {
+        setUpDispatcher();
+        final ConcurrencyLimiter limiter = ConcurrencyLimiter.builder()
+                .initialLimit(LIMIT)
+                .maxLimit(LIMIT)
+                .build();
+        final Connection<GsonFactoryBase> connection = newConnection(limiter);
+        final List<Request> requests = IntStream.range(0, NUM_REQUESTS)
+                .mapToObj(i -> newRequest())
+                .collect(Collectors.toList());
+
+        final List<BulkResult<TestResponse>> actual =
+                connection.executeAll(requests, new BasicParser<>(TestResponse.class), NUM_REQUESTS);
+
+        assertAll(
+                () -> assertTrue(actual.stream().allMatch(BulkResult::isSuccess)),
+                () -> assertTrue(maxObservedInFlight.get() <= LIMIT),
+                () -> assertEquals(0, limiter.getStats(getMockWebServer().getHostName())
+                        .orElseThrow()
+                        .getInFlightCount()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void execute_withLimitReachedAndNoQueue_shouldReject() {
+        getMockWebServer().enqueue(new MockResponse.Builder()
+                .code(SUCCESS_STATUS_CODE)
+                .headersDelay(500L, TimeUnit.MILLISECONDS)
+                .build());
+        final ConcurrencyLimiter limiter = ConcurrencyLimiter.builder()
+                .initialLimit(1)
+                .maxLimit(1)
+                .maxQueueSize(0)
+                .build();
+        final Connection<GsonFactoryBase> connection = newConnection(limiter);
+        final CompletableFuture<Response> inFlight = connection.executeAsync(newRequest());
+
+        assertThrows(ConcurrencyLimitExceededException.class, () -> connection.execute(newRequest()));
+        inFlight.get(5L, TimeUnit.SECONDS).close();
+
+        assertAll(
+                () -> assertEquals(1, getMockWebServer().getRequestCount()),
+                () -> assertEquals(1L, limiter.getStats(getMockWebServer().getHostName())
+                        .orElseThrow()
+                        .getRejectedCount()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void execute_withLimitReachedWhileCircuitHalfOpen_shouldNotConsumeProbe() {
+        getMockWebServer().enqueue(new MockResponse.Builder().code(SERVICE_ERROR_CODE).build());
+        getMockWebServer().enqueue(new MockResponse.Builder().code(SUCCESS_STATUS_CODE).build());
+        final String host = getMockWebServer().getHostName();
+        final CircuitBreakerRetryStrategy breaker = CircuitBreakerRetryStrategy.builder()
+                .windowSize(1)
+                .minimumCalls(1)
+                .openDuration(Duration.ZERO)
+                .halfOpenProbes(1)
+                .build();
+        final ConcurrencyLimiter limiter = ConcurrencyLimiter.builder()
+                .initialLimit(1)
+                .maxLimit(1)
+                .maxQueueSize(0)
+                .build();
+        final Connection<GsonFactoryBase> connection = newConnectionWith(builder -> builder
+                .retryStrategy(breaker)
+                .concurrencyLimiter(limiter));
+        assertThrows(ResponseException.class, () -> connection.execute(newRequest()));
+
+        final ConcurrencyLimiter.Permit heldPermit = limiter.acquire(host).get(5L, TimeUnit.SECONDS);
+        assertThrows(ConcurrencyLimitExceededException.class, () -> connection.execute(newRequest()));
+        heldPermit.onIgnore();
+        final CircuitState afterRejection = breaker.getState(host);
+
+        final Response response = connection.execute(newRequest());
+        response.close();
+
+        assertAll(
+                () -> assertEquals(SUCCESS_STATUS_CODE, response.code()),
+                () -> assertEquals(CircuitState.OPEN, afterRejection),
+                () -> assertEquals(CircuitState.CLOSED, breaker.getState(host)),
+                () -> assertEquals(0, limiter.getStats(host).orElseThrow().getInFlightCount()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void execute_withUnreadResponseBody_shouldHoldPermitUntilClosed() {
+        getMockWebServer().enqueue(new MockResponse.Builder().code(SUCCESS_STATUS_CODE).body("body").build());
+        final String host = getMockWebServer().getHostName();
+        final ConcurrencyLimiter limiter = ConcurrencyLimiter.builder().build();
+        final Connection<GsonFactoryBase> connection = newConnection(limiter);
+
+        final Response response = connection.execute(newRequest());
+        final int inFlightBeforeRead = limiter.getStats(host).orElseThrow().getInFlightCount();
+        final String body = response.body().string();
+
+        assertAll(
+                () -> assertEquals(1, inFlightBeforeRead),
+                () -> assertEquals("body", body),
+                () -> assertEquals(0, limiter.getStats(host).orElseThrow().getInFlightCount()));
+    }
+
+    private void setUpDispatcher() {
+        getMockWebServer().setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(final RecordedRequest request) throws InterruptedException {
+                maxObservedInFlight.accumulateAndGet(numInFlight.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(10L);
+                    return new MockResponse.Builder()
+                            .code(SUCCESS_STATUS_CODE)
+                            .addHeader("Content-Type", "application/json; charset=utf-8")
+                            .body("{\"value\":\"value\"}")
+                            .build();
+                } finally {
+                    numInFlight.decrementAndGet();
+                }
+            }
+        });
+    }
+
+    private Connection<GsonFactoryBase> newConnection(final ConcurrencyLimiter limiter) {
+        return newConnectionWith(builder -> builder.concurrencyLimiter(limiter));
+    }
+
+    private Request newRequest() {
+        return new Request.Builder()
+                .url(getMockWebServerUrl() + "/items")
+                .build();
+    }
+
+    @Data
+    public static class TestResponse {
+        private String value;
+    }
+}
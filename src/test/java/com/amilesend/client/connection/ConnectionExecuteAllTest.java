@@ -0,0 +1,150 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection;
+
+import com.amilesend.client.FunctionalTestBase;
+import com.amilesend.client.connection.retry.NoRetryStrategy;
+import com.amilesend.client.parse.GsonFactoryBase;
+import com.amilesend.client.parse.parser.BasicParser;
+import lombok.Data;
+import mockwebserver3.Dispatcher;
+import mockwebserver3.MockResponse;
+import mockwebserver3.RecordedRequest;
+import okhttp3.Request;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConnectionExecuteAllTest extends FunctionalTestBase {
+    private static final int NUM_REQUESTS = 20;
+    private static final int MAX_CONCURRENCY = 3;
+
+    private final AtomicInteger numInFlight = new AtomicInteger();
+    private final AtomicInteger maxObservedInFlight = new AtomicInteger();
+    private Connection<GsonFactoryBase> connectionUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        connectionUnderTest = newConnection(new NoRetryStrategy());
+        getMockWebServer().setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(final RecordedRequest request) throws InterruptedException {
+                maxObservedInFlight.accumulateAndGet(numInFlight.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(10L);
+                    final int id = Integer.parseInt(request.getUrl().pathSegments().get(1));
+                    if (id % 5 == 0) {
+                        return new MockResponse.Builder().code(USER_ERROR_CODE).build();
+                    }
+
+                    return new MockResponse.Builder()
+                            .code(SUCCESS_STATUS_CODE)
+                            .addHeader("Content-Type", "application/json; charset=utf-8")
+                            .body("{\"value\":\"" + id + "\"}")
+                            .build();
+                } finally {
+                    numInFlight.decrementAndGet();
+                }
+            }
+        });
+    }
+
+    @Test
+    public void executeAll_withRequests_shouldReturnResultsInOrder() {
+        final List<Request> requests = newRequests();
+
+        final List<BulkResult<TestResponse>> actual =
+                connectionUnderTest.executeAll(requests, new BasicParser<>(TestResponse.class), MAX_CONCURRENCY);
+
+        assertAll(
+                () -> assertEquals(NUM_REQUESTS, actual.size()),
+                () -> assertTrue(maxObservedInFlight.get() <= MAX_CONCURRENCY),
+                () -> IntStream.range(0, NUM_REQUESTS).forEach(i -> {
+                    final BulkResult<TestResponse> result = actual.get(i);
+                    assertEquals(i, result.getIndex());
+                    assertEquals(requests.get(i), result.getRequest());
+                    if (i % 5 == 0) {
+                        assertFalse(result.isSuccess());
+                        assertInstanceOf(RequestException.class, result.getException());
+                    } else {
+                        assertTrue(result.isSuccess());
+                        assertEquals(String.valueOf(i), result.getResult().getValue());
+                    }
+                }));
+    }
+
+    @Test
+    public void executeAll_withConsumer_shouldNotifyEachResult() throws Exception {
+        final List<BulkResult<TestResponse>> consumed = Collections.synchronizedList(new ArrayList<>());
+
+        connectionUnderTest.executeAll(
+                        newRequests(),
+                        new BasicParser<>(TestResponse.class),
+                        MAX_CONCURRENCY,
+                        consumed::add)
+                .get(10L, TimeUnit.SECONDS);
+
+        assertAll(
+                () -> assertEquals(NUM_REQUESTS, consumed.size()),
+                () -> assertEquals(
+                        IntStream.range(0, NUM_REQUESTS).boxed().collect(Collectors.toSet()),
+                        consumed.stream().map(BulkResult::getIndex).collect(Collectors.toSet())),
+                () -> assertEquals(NUM_REQUESTS / 5, consumed.stream().filter(r -> !r.isSuccess()).count()));
+    }
+
+    @Test
+    public void executeAll_withNoRequests_shouldReturnEmptyResults() {
+        assertTrue(connectionUnderTest.executeAll(
+                Collections.emptyList(),
+                new BasicParser<>(TestResponse.class),
+                MAX_CONCURRENCY).isEmpty());
+    }
+
+    @Test
+    public void executeAll_withInvalidConcurrency_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> connectionUnderTest.executeAll(newRequests(), new BasicParser<>(TestResponse.class), 0));
+    }
+
+    private List<Request> newRequests() {
+        return IntStream.range(0, NUM_REQUESTS)
+                .mapToObj(i -> connectionUnderTest.newRequestBuilder()
+                        .url(getMockWebServerUrl() + "/items/" + i)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    @Data
+    public static class TestResponse {
+        private String value;
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection;
+
+import com.amilesend.client.FunctionalTestBase;
+import com.amilesend.client.connection.retry.FixedDelayRetryStrategy;
+import com.amilesend.client.connection.retry.NoRetryStrategy;
+import com.amilesend.client.connection.retry.Retriable;
+import com.amilesend.client.connection.retry.RetriableCallResponse;
+import com.amilesend.client.connection.retry.RetryStrategy;
+import com.amilesend.client.parse.GsonFactoryBase;
+import com.amilesend.client.parse.parser.BasicParser;
+import lombok.Data;
+import lombok.SneakyThrows;
+import mockwebserver3.MockResponse;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConnectionExecuteAsyncTest extends FunctionalTestBase {
+    @Test
+    @SneakyThrows
+    public void executeAsync_withSuccessfulResponse_shouldReturnParsedResponse() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, "{\"value\":\"response value\"}");
+        final Connection<GsonFactoryBase> connection = newConnection(new NoRetryStrategy());
+
+        final TestResponse actual = connection
+                .executeAsync(newRequest(connection), new BasicParser<>(TestResponse.class))
+                .get(5L, TimeUnit.SECONDS);
+
+        assertEquals("response value", actual.getValue());
+    }
+
+    @Test
+    @SneakyThrows
+    public void executeAsync_withSuccessAfterRetries_shouldReturnParsedResponse() {
+        setUpMockResponse(SERVICE_ERROR_CODE);
+        setUpMockResponse(SERVICE_ERROR_CODE);
+        setUpMockResponse(SUCCESS_STATUS_CODE, "{\"value\":\"response value\"}");
+        final Connection<GsonFactoryBase> connection = newConnection(FixedDelayRetryStrategy.builder()
+                .delayMs(1L)
+                .maxJitterMs(1L)
+                .build());
+
+        final TestResponse actual = connection
+                .executeAsync(newRequest(connection), new BasicParser<>(TestResponse.class))
+                .get(5L, TimeUnit.SECONDS);
+
+        assertAll(
+                () -> assertEquals("response value", actual.getValue()),
+                () -> assertEquals(3, getMockWebServer().getRequestCount()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void executeAsync_withNoSuccessfulTries_shouldCompleteExceptionally() {
+        setUpMockResponse(SERVICE_ERROR_CODE);
+        setUpMockResponse(SERVICE_ERROR_CODE);
+        final Connection<GsonFactoryBase> connection = newConnection(FixedDelayRetryStrategy.builder()
+                .maxAttempts(2)
+                .delayMs(1L)
+                .maxJitterMs(1L)
+                .build());
+
+        final CompletableFuture<Response> future = connection.executeAsync(newRequest(connection));
+
+        final Throwable thrown = assertThrows(ExecutionException.class, () -> future.get(5L, TimeUnit.SECONDS));
+        assertAll(
+                () -> assertInstanceOf(ResponseException.class, thrown.getCause()),
+                () -> assertEquals(2, getMockWebServer().getRequestCount()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void executeAsync_withRequestError_shouldNotRetry() {
+        setUpMockResponse(USER_ERROR_CODE);
+        final Connection<GsonFactoryBase> connection = newConnection(FixedDelayRetryStrategy.builder()
+                .delayMs(1L)
+                .build());
+
+        final CompletableFuture<TestResponse> future =
+                connection.executeAsync(newRequest(connection), new BasicParser<>(TestResponse.class));
+
+        final Throwable thrown = assertThrows(ExecutionException.class, () -> future.get(5L, TimeUnit.SECONDS));
+        assertAll(
+                () -> assertInstanceOf(RequestException.class, thrown.getCause()),
+                () -> assertEquals(1, getMockWebServer().getRequestCount()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void executeAsync_withMalformedBody_shouldCompleteWithParseException() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, "{\"value\":");
+        final Connection<GsonFactoryBase> connection = newConnection(new NoRetryStrategy());
+
+        final CompletableFuture<TestResponse> future =
+                connection.executeAsync(newRequest(connection), new BasicParser<>(TestResponse.class));
+
+        final Throwable thrown = assertThrows(ExecutionException.class, () -> future.get(5L, TimeUnit.SECONDS));
+        assertInstanceOf(ResponseParseException.class, thrown.getCause());
+    }
+
+    @Test
+    @SneakyThrows
+    public void executeAsync_withCancellation_shouldCancelCall() {
+        getMockWebServer().enqueue(new MockResponse.Builder()
+                .code(SUCCESS_STATUS_CODE)
+                .headersDelay(5L, TimeUnit.SECONDS)
+                .build());
+        final Connection<GsonFactoryBase> connection = newConnection(new NoRetryStrategy());
+
+        final CompletableFuture<Response> future = connection.executeAsync(newRequest(connection));
+        getMockWebServer().takeRequest();
+        future.cancel(true);
+
+        final long deadline = System.nanoTime() + Duration.ofSeconds(2L).toNanos();
+        while (connection.getHttpClient().dispatcher().runningCallsCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10L);
+        }
+
+        assertAll(
+                () -> assertTrue(future.isCancelled()),
+                () -> assertEquals(0, connection.getHttpClient().dispatcher().runningCallsCount()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void executeAsync_withCancellationWhileStartingRetry_shouldNotSendRetry() {
+        setUpMockResponse(SERVICE_ERROR_CODE);
+        setUpMockResponse(SUCCESS_STATUS_CODE, "{\"value\":\"response value\"}");
+        final CountDownLatch retryStartedLatch = new CountDownLatch(1);
+        final CountDownLatch cancelledLatch = new CountDownLatch(1);
+        final CompletableFuture<String> retryOutcome = new CompletableFuture<>();
+        final AtomicInteger attempts = new AtomicInteger();
+        final Connection<GsonFactoryBase> connection = newConnection(new RetryStrategy() {
+            @Override
+            public RetriableCallResponse invoke(final Retriable retriable) {
+                return invokeWithRetries(retriable);
+            }
+
+            @Override
+            public long nextRetryDelayMs(final int attempts, final Exception thrown, final long totalDelayMs) {
+                return attempts == 1 ? 1L : NO_RETRY;
+            }
+
+            @Override
+            @SneakyThrows
+            public Request beforeAttempt(final Request request) {
+                if (attempts.incrementAndGet() == 2) {
+                    // Hold the retry after its cancellation check until the caller cancels
+                    retryStartedLatch.countDown();
+                    cancelledLatch.await(5L, TimeUnit.SECONDS);
+                }
+                return request;
+            }
+
+            @Override
+            public void afterAttempt(final Request request,
+                                     final int statusCode,
+                                     final Exception thrown,
+                                     final long elapsedNanos) {
+                if (attempts.get() == 2) {
+                    retryOutcome.complete("completed");
+                }
+            }
+
+            @Override
+            public void onAttemptCanceled(final Request request) {
+                retryOutcome.complete("canceled");
+            }
+        });
+
+        final CompletableFuture<TestResponse> future =
+                connection.executeAsync(newRequest(connection), new BasicParser<>(TestResponse.class));
+        assertTrue(retryStartedLatch.await(5L, TimeUnit.SECONDS));
+        future.cancel(true);
+        cancelledLatch.countDown();
+        final String actualRetryOutcome = retryOutcome.get(5L, TimeUnit.SECONDS);
+
+        assertAll(
+                () -> assertTrue(future.isCancelled()),
+                () -> assertEquals("canceled", actualRetryOutcome),
+                () -> assertEquals(1, getMockWebServer().getRequestCount()));
+    }
+
+    private Request newRequest(final Connection<GsonFactoryBase> connection) {
+        return connection.newRequestBuilder()
+                .url(getMockWebServerUrl() + "/resource")
+                .build();
+    }
+
+    @Data
+    public static class TestResponse {
+        private String value;
+    }
+}
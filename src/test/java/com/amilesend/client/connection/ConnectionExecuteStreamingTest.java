@@ -0,0 +1,123 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection;
+
+import com.amilesend.client.FunctionalTestBase;
+import com.amilesend.client.connection.retry.NoRetryStrategy;
+import com.amilesend.client.parse.GsonFactoryBase;
+import com.amilesend.client.parse.parser.StreamingListParser;
+import lombok.Data;
+import okhttp3.Request;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ConnectionExecuteStreamingTest extends FunctionalTestBase {
+    private Connection<GsonFactoryBase> connectionUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        connectionUnderTest = newConnection(new NoRetryStrategy());
+    }
+
+    @Test
+    public void executeStreaming_withTopLevelArray_shouldReturnStreamOfElements() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, "[{\"value\":\"one\"},{\"value\":\"two\"},{\"value\":\"three\"}]");
+
+        try (final Stream<TestResponse> actual =
+                     connectionUnderTest.executeStreaming(newRequest(), new StreamingListParser<>(TestResponse.class))) {
+            assertEquals(List.of("one", "two", "three"),
+                    actual.map(TestResponse::getValue).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void executeStreaming_withEnvelopeField_shouldConsumeElements() {
+        setUpMockResponse(SUCCESS_STATUS_CODE,
+                "{\"count\":2,\"nested\":{\"value\":[]},\"value\":[{\"value\":\"one\"},{\"value\":\"two\"}],\"next\":null}");
+        final List<String> consumed = new ArrayList<>();
+
+        final long actual = connectionUnderTest.executeStreaming(
+                newRequest(),
+                new StreamingListParser<>(TestResponse.class, "value"),
+                item -> consumed.add(item.getValue()));
+
+        assertAll(
+                () -> assertEquals(2L, actual),
+                () -> assertEquals(List.of("one", "two"), consumed));
+    }
+
+    @Test
+    public void executeStreaming_withMissingOrNullEnvelopeField_shouldConsumeNoElements() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, "{\"count\":0}");
+        setUpMockResponse(SUCCESS_STATUS_CODE, "{\"value\":null}");
+        final StreamingListParser<TestResponse> parser = new StreamingListParser<>(TestResponse.class, "value");
+
+        assertAll(
+                () -> assertEquals(0L, connectionUnderTest.executeStreaming(newRequest(), parser, item -> { })),
+                () -> assertEquals(0L, connectionUnderTest.executeStreaming(newRequest(), parser, item -> { })));
+    }
+
+    @Test
+    public void executeStreaming_withMalformedElement_shouldThrowException() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, "[{\"value\":\"one\"},{\"value\":");
+
+        try (final Stream<TestResponse> actual =
+                     connectionUnderTest.executeStreaming(newRequest(), new StreamingListParser<>(TestResponse.class))) {
+            assertThrows(ResponseParseException.class, () -> actual.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void executeStreaming_withNonArrayBody_shouldThrowException() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, "{\"value\":\"one\"}");
+
+        assertThrows(ResponseParseException.class,
+                () -> connectionUnderTest.executeStreaming(
+                        newRequest(),
+                        new StreamingListParser<>(TestResponse.class),
+                        item -> { }));
+    }
+
+    @Test
+    public void executeStreaming_withRequestError_shouldThrowException() {
+        setUpMockResponse(USER_ERROR_CODE);
+
+        assertThrows(RequestException.class,
+                () -> connectionUnderTest.executeStreaming(newRequest(), new StreamingListParser<>(TestResponse.class)));
+    }
+
+    private Request newRequest() {
+        return connectionUnderTest.newRequestBuilder()
+                .url(getMockWebServerUrl() + "/items")
+                .build();
+    }
+
+    @Data
+    public static class TestResponse {
+        private String value;
+    }
+}
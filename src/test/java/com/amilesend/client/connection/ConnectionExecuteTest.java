@@ -25,12 +25,17 @@ import lombok.SneakyThrows;
 import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.DeflaterSink;
+import okio.GzipSink;
+import okio.Okio;
 import org.junit.jupiter.api.Test;
-import org.mockito.MockedConstruction;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.zip.GZIPInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
 
 import static com.amilesend.client.connection.Connection.Headers.CONTENT_ENCODING;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -41,11 +46,12 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class ConnectionExecuteTest extends ConnectionTestBase {
+    private static final String RESPONSE_BODY = "{\"value\":\"response value\"}";
+
     /////////////////////////////////
     // Execute (Request, GsonParser)
     /////////////////////////////////
@@ -53,20 +59,38 @@ public class ConnectionExecuteTest extends ConnectionTestBase {
     @Test
     @SneakyThrows
     public void execute_withValidRequestAndParserAndGzipEncodedResponse_shouldReturnResponse() {
-        when(mockGsonFactory.getInstance(any(Connection.class))).thenReturn(mockGson);
-        setUpHttpClientMock(setUpResponseWithBody("gzip"));
+        final Buffer encoded = new Buffer();
+        try (final BufferedSink gzipSink = Okio.buffer(new GzipSink(encoded))) {
+            gzipSink.writeUtf8(RESPONSE_BODY);
+        }
 
-        final TestResponse testResponse = new TestResponse("response value");
-        final GsonParser<TestResponse> mockParser = mock(GsonParser.class);
-        when(mockParser.parse(any(Gson.class), any(InputStream.class))).thenReturn(testResponse);
+        assertEquals(RESPONSE_BODY, executeWithEncodedBody("gzip", encoded));
+    }
 
-        try (final MockedConstruction<GZIPInputStream> gzipMockCtor = mockConstruction(GZIPInputStream.class)) {
-            final TestResponse actual = connectionUnderTest.execute(mock(Request.class), mockParser);
+    @Test
+    @SneakyThrows
+    public void execute_withValidRequestAndParserAndDeflateEncodedResponse_shouldReturnResponse() {
+        assertAll(
+                () -> assertEquals(RESPONSE_BODY, executeWithEncodedBody("deflate", deflate(false))),
+                () -> assertEquals(RESPONSE_BODY, executeWithEncodedBody("DEFLATE", deflate(true))));
+    }
 
-            assertAll(
-                    () -> assertEquals(testResponse, actual),
-                    () -> verify(mockParser).parse(isA(Gson.class), isA(InputStream.class)));
+    @Test
+    @SneakyThrows
+    public void execute_withValidRequestAndParserAndMultipleEncodedResponse_shouldReturnResponse() {
+        final Buffer deflated = deflate(false);
+        final Buffer encoded = new Buffer();
+        try (final BufferedSink gzipSink = Okio.buffer(new GzipSink(encoded))) {
+            gzipSink.writeAll(deflated);
         }
+
+        assertEquals(RESPONSE_BODY, executeWithEncodedBody("deflate, identity, gzip", encoded));
+    }
+
+    @Test
+    @SneakyThrows
+    public void execute_withValidRequestAndParserAndUnsupportedEncodedResponse_shouldReturnBodyAsIs() {
+        assertEquals(RESPONSE_BODY, executeWithEncodedBody("br", new Buffer().writeUtf8(RESPONSE_BODY)));
     }
 
     @Test
@@ -157,10 +181,37 @@ public class ConnectionExecuteTest extends ConnectionTestBase {
         assertThrows(NullPointerException.class, () -> connectionUnderTest.execute(null));
     }
 
+    @SneakyThrows
+    private String executeWithEncodedBody(final String contentEncoding, final Buffer encoded) {
+        when(mockGsonFactory.getInstance(any(Connection.class))).thenReturn(mockGson);
+        setUpHttpClientMock(setUpResponseWithBody(contentEncoding, encoded));
+
+        final GsonParser<String> mockParser = mock(GsonParser.class);
+        when(mockParser.parse(any(Gson.class), any(InputStream.class)))
+                .thenAnswer(invocation -> new String(
+                        invocation.getArgument(1, InputStream.class).readAllBytes(),
+                        StandardCharsets.UTF_8));
+
+        return connectionUnderTest.execute(mock(Request.class), mockParser);
+    }
+
+    private static Buffer deflate(final boolean isZlibWrapped) throws IOException {
+        final Buffer encoded = new Buffer();
+        try (final BufferedSink deflaterSink =
+                     Okio.buffer(new DeflaterSink(encoded, new Deflater(Deflater.DEFAULT_COMPRESSION, !isZlibWrapped)))) {
+            deflaterSink.writeUtf8(RESPONSE_BODY);
+        }
+
+        return encoded;
+    }
+
     private Response setUpResponseWithBody(final String contentEncoding) {
-        final InputStream mockBodyStream = mock(InputStream.class);
+        return setUpResponseWithBody(contentEncoding, new Buffer());
+    }
+
+    private Response setUpResponseWithBody(final String contentEncoding, final Buffer body) {
         final ResponseBody mockResponseBody = mock(ResponseBody.class);
-        when(mockResponseBody.byteStream()).thenReturn(mockBodyStream);
+        when(mockResponseBody.source()).thenReturn(body);
         final Response mockResponse = mock(Response.class);
         when(mockResponse.body()).thenReturn(mockResponseBody);
         when(mockResponse.header(eq(CONTENT_ENCODING))).thenReturn(contentEncoding);
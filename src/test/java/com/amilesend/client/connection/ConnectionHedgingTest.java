@@ -0,0 +1,203 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection;
+
+import com.amilesend.client.FunctionalTestBase;
+import com.amilesend.client.connection.retry.RetryBudget;
+import com.amilesend.client.parse.GsonFactoryBase;
+import com.amilesend.client.parse.parser.BasicParser;
+import lombok.Data;
+import lombok.SneakyThrows;
+import mockwebserver3.MockResponse;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConnectionHedgingTest extends FunctionalTestBase {
+    private static final long SLOW_RESPONSE_DELAY_MS = 2000L;
+
+    @Test
+    public void execute_withSlowResponse_shouldUseHedgedResponse() {
+        final HedgingPolicy policy = newPolicy(null);
+        setUpSlowThenFastResponses();
+
+        final TestResponse actual = newConnection(policy).execute(newRequest(), new BasicParser<>(TestResponse.class));
+
+        assertAll(
+                () -> assertEquals("fast", actual.getValue()),
+                () -> assertEquals(2, getMockWebServer().getRequestCount()),
+                () -> assertEquals(1L, policy.getHedgeCount()),
+                () -> assertEquals(1L, policy.getHedgeWinCount()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void executeAsync_withSlowResponse_shouldUseHedgedResponse() {
+        final HedgingPolicy policy = newPolicy(null);
+        setUpSlowThenFastResponses();
+
+        final TestResponse actual = newConnection(policy)
+                .executeAsync(newRequest(), new BasicParser<>(TestResponse.class))
+                .get(SLOW_RESPONSE_DELAY_MS / 2, TimeUnit.MILLISECONDS);
+
+        assertAll(
+                () -> assertEquals("fast", actual.getValue()),
+                () -> assertEquals(1L, policy.getHedgeWinCount()));
+    }
+
+    @Test
+    public void execute_withHedgedResponse_shouldRecordLatencyFromOriginalCall() {
+        final HedgingPolicy policy = HedgingPolicy.builder()
+                .delay(Duration.ofMillis(200L))
+                .percentile(50D)
+                .minSamples(1)
+                .build();
+        final Connection<GsonFactoryBase> connection = newConnection(policy);
+        // Warm up the client with a request that is not hedged so that the original call reaches the server first
+        setUpMockResponse(SUCCESS_STATUS_CODE, "{}");
+        connection.execute(newPostRequest()).close();
+        setUpSlowThenFastResponses();
+
+        final TestResponse actual = connection.execute(newRequest(), new BasicParser<>(TestResponse.class));
+
+        assertAll(
+                () -> assertEquals("fast", actual.getValue()),
+                () -> assertEquals(1L, policy.getHedgeCount()),
+                () -> assertEquals(1L, policy.getHedgeWinCount()),
+                () -> assertTrue(policy.getDelayNanos() >= Duration.ofMillis(200L).toNanos()));
+    }
+
+    @Test
+    public void execute_withExhaustedBudget_shouldNotHedge() {
+        final HedgingPolicy policy = newPolicy(RetryBudget.builder().initialTokens(0).build());
+        setUpMockResponse(SUCCESS_STATUS_CODE, "{\"value\":\"only\"}");
+
+        final TestResponse actual = newConnection(policy).execute(newRequest(), new BasicParser<>(TestResponse.class));
+
+        assertAll(
+                () -> assertEquals("only", actual.getValue()),
+                () -> assertEquals(1, getMockWebServer().getRequestCount()),
+                () -> assertEquals(0L, policy.getHedgeCount()));
+    }
+
+    @Test
+    public void execute_withConcurrencyLimitReached_shouldNotHedge() {
+        final HedgingPolicy policy = newPolicy(null);
+        final ConcurrencyLimiter limiter = ConcurrencyLimiter.builder().initialLimit(1).maxLimit(1).build();
+        setUpSlowThenFastResponses();
+
+        final TestResponse actual = newConnectionWith(builder -> builder
+                        .hedgingPolicy(policy)
+                        .concurrencyLimiter(limiter))
+                .execute(newRequest(), new BasicParser<>(TestResponse.class));
+
+        assertAll(
+                () -> assertEquals("slow", actual.getValue()),
+                () -> assertEquals(1, getMockWebServer().getRequestCount()),
+                () -> assertEquals(0L, policy.getHedgeCount()),
+                () -> assertEquals(0, limiter.getStats(getMockWebServer().getHostName())
+                        .orElseThrow()
+                        .getInFlightCount()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void executeAsync_withCancellation_shouldReleasePermit() {
+        final HedgingPolicy policy = newPolicy(null);
+        final ConcurrencyLimiter limiter = ConcurrencyLimiter.builder().build();
+        final String host = getMockWebServer().getHostName();
+        setUpSlowThenFastResponses();
+
+        final CompletableFuture<TestResponse> future = newConnectionWith(builder -> builder
+                        .hedgingPolicy(policy)
+                        .concurrencyLimiter(limiter))
+                .executeAsync(newRequest(), new BasicParser<>(TestResponse.class));
+        getMockWebServer().takeRequest();
+        future.cancel(true);
+
+        final long deadline = System.nanoTime() + Duration.ofSeconds(2L).toNanos();
+        while (limiter.getStats(host).orElseThrow().getInFlightCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10L);
+        }
+
+        assertAll(
+                () -> assertTrue(future.isCancelled()),
+                () -> assertEquals(0, limiter.getStats(host).orElseThrow().getInFlightCount()));
+    }
+
+    @Test
+    public void execute_withNonIdempotentRequest_shouldNotHedge() {
+        final HedgingPolicy policy = newPolicy(null);
+        setUpSlowThenFastResponses();
+
+        try (final Response response = newConnection(policy).execute(newPostRequest())) {
+            assertAll(
+                    () -> assertEquals(SUCCESS_STATUS_CODE, response.code()),
+                    () -> assertEquals(1, getMockWebServer().getRequestCount()),
+                    () -> assertEquals(0L, policy.getHedgeCount()));
+        }
+    }
+
+    private void setUpSlowThenFastResponses() {
+        getMockWebServer().enqueue(new MockResponse.Builder()
+                .code(SUCCESS_STATUS_CODE)
+                .addHeader("Content-Type", "application/json; charset=utf-8")
+                .body("{\"value\":\"slow\"}")
+                .headersDelay(SLOW_RESPONSE_DELAY_MS, TimeUnit.MILLISECONDS)
+                .build());
+        setUpMockResponse(SUCCESS_STATUS_CODE, "{\"value\":\"fast\"}");
+    }
+
+    private Request newPostRequest() {
+        return new Request.Builder()
+                .url(getMockWebServerUrl() + "/items")
+                .post(RequestBody.create("{}", Connection.JSON_MEDIA_TYPE))
+                .build();
+    }
+
+    private HedgingPolicy newPolicy(final RetryBudget budget) {
+        return HedgingPolicy.builder()
+                .delay(Duration.ofMillis(50L))
+                .budget(budget)
+                .build();
+    }
+
+    private Connection<GsonFactoryBase> newConnection(final HedgingPolicy policy) {
+        return newConnectionWith(builder -> builder.hedgingPolicy(policy));
+    }
+
+    private Request newRequest() {
+        return new Request.Builder()
+                .url(getMockWebServerUrl() + "/items")
+                .build();
+    }
+
+    @Data
+    public static class TestResponse {
+        private String value;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection;
+
+import com.amilesend.client.FunctionalTestBase;
+import com.amilesend.client.connection.retry.FixedDelayRetryStrategy;
+import com.amilesend.client.connection.retry.RetryMetrics;
+import com.amilesend.client.connection.retry.RetryMetrics.RetryStats;
+import com.amilesend.client.connection.retry.RetryReason;
+import com.amilesend.client.parse.GsonFactoryBase;
+import lombok.SneakyThrows;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConnectionRetryListenerTest extends FunctionalTestBase {
+    private static final long DELAY_MS = 5L;
+
+    private final RetryMetrics metrics = new RetryMetrics();
+    private Connection<GsonFactoryBase> connectionUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        connectionUnderTest = newConnectionWith(builder -> builder
+                .retryStrategy(FixedDelayRetryStrategy.builder()
+                        .maxAttempts(3)
+                        .delayMs(DELAY_MS)
+                        .maxJitterMs(1L)
+                        .build())
+                .retryListener(metrics));
+    }
+
+    @Test
+    public void execute_withSuccessAfterRetries_shouldRecordRetries() {
+        setUpMockResponse(SERVICE_ERROR_CODE);
+        setUpMockResponse(SERVICE_ERROR_CODE);
+        setUpMockResponse(SUCCESS_STATUS_CODE, "{}");
+
+        try (final Response response = connectionUnderTest.execute(newRequest())) {
+            assertEquals(SUCCESS_STATUS_CODE, response.code());
+        }
+
+        final RetryStats actual = getStats();
+        assertAll(
+                () -> assertEquals(1L, actual.getRequestCount()),
+                () -> assertEquals(3L, actual.getAttemptCount()),
+                () -> assertEquals(2L, actual.getRetryCount()),
+                () -> assertEquals(1L, actual.getSuccessCount()),
+                () -> assertEquals(0L, actual.getFailureCount()),
+                () -> assertEquals(2L, actual.getFailedAttemptCounts().get(RetryReason.SERVER_ERROR)),
+                () -> assertEquals(2L, actual.getDelays().getCount()),
+                () -> assertTrue(actual.getTotalDelay().toMillis() >= 2 * DELAY_MS));
+    }
+
+    @Test
+    public void execute_withNonRetriableError_shouldRecordFailure() {
+        setUpMockResponse(USER_ERROR_CODE);
+
+        assertThrows(RequestException.class, () -> connectionUnderTest.execute(newRequest()));
+
+        final RetryStats actual = getStats();
+        assertAll(
+                () -> assertEquals(1L, actual.getRequestCount()),
+                () -> assertEquals(1L, actual.getAttemptCount()),
+                () -> assertEquals(0L, actual.getRetryCount()),
+                () -> assertEquals(1L, actual.getFailureCount()),
+                () -> assertEquals(1L, actual.getFailedAttemptCounts().get(RetryReason.CLIENT_ERROR)),
+                () -> assertEquals(0L, actual.getDelays().getCount()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void executeAsync_withNoSuccessfulTries_shouldRecordFailure() {
+        setUpMockResponse(SERVICE_ERROR_CODE);
+        setUpMockResponse(SERVICE_ERROR_CODE);
+        setUpMockResponse(SERVICE_ERROR_CODE);
+
+        assertThrows(ExecutionException.class,
+                () -> connectionUnderTest.executeAsync(newRequest()).get(5L, TimeUnit.SECONDS));
+
+        final RetryStats actual = getStats();
+        assertAll(
+                () -> assertEquals(1L, actual.getRequestCount()),
+                () -> assertEquals(3L, actual.getAttemptCount()),
+                () -> assertEquals(2L, actual.getRetryCount()),
+                () -> assertEquals(1L, actual.getFailureCount()),
+                () -> assertEquals(3L, actual.getFailedAttemptCounts().get(RetryReason.SERVER_ERROR)));
+    }
+
+    @Test
+    public void retryListener_withThrowingListener_shouldNotFailRequest() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, "{}");
+        final Connection<GsonFactoryBase> connection = newConnectionWith(builder -> builder
+                .retryListener(new RetryMetrics() {
+                    @Override
+                    public void onComplete(final Request request,
+                                           final int attempts,
+                                           final long totalDelayMs,
+                                           final Exception thrown) {
+                        throw new IllegalStateException("Expected exception");
+                    }
+                }));
+
+        try (final Response response = connection.execute(newRequest())) {
+            assertEquals(SUCCESS_STATUS_CODE, response.code());
+        }
+    }
+
+    private RetryStats getStats() {
+        return metrics.getStats(getMockWebServer().getHostName()).orElseThrow();
+    }
+
+    private Request newRequest() {
+        return connectionUnderTest.newRequestBuilder()
+                .url(getMockWebServerUrl() + "/items")
+                .build();
+    }
+}
@@ -111,7 +111,7 @@ public class ConnectionTest extends ConnectionTestBase {
                 () -> assertEquals(acceptType, headers.get(ACCEPT)),
                 () -> {
                     if (isAcceptEncodingValidated) {
-                        assertEquals("gzip", headers.get(ACCEPT_ENCODING));
+                        assertEquals("gzip, deflate", headers.get(ACCEPT_ENCODING));
                     }
                 });
     }
@@ -0,0 +1,105 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection;
+
+import com.amilesend.client.FunctionalTestBase;
+import com.amilesend.client.connection.retry.NoRetryStrategy;
+import com.amilesend.client.parse.GsonFactoryBase;
+import lombok.Data;
+import lombok.SneakyThrows;
+import mockwebserver3.MockResponse;
+import mockwebserver3.RecordedRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConnectionWarmerTest extends FunctionalTestBase {
+    private static final int NUM_CONNECTIONS = 4;
+
+    private Connection<GsonFactoryBase> connection;
+
+    @BeforeEach
+    public void setUp() {
+        connection = newConnection(new NoRetryStrategy());
+    }
+
+    @SneakyThrows
+    @Test
+    public void warmUp_withReachableHost_shouldEstablishConnections() {
+        for (int i = 0; i < NUM_CONNECTIONS; ++i) {
+            getMockWebServer().enqueue(new MockResponse.Builder()
+                    .code(USER_ERROR_CODE)
+                    .headersDelay(100L, TimeUnit.MILLISECONDS)
+                    .build());
+        }
+
+        final ConnectionWarmer.Result actual = connection.warmUp(NUM_CONNECTIONS, TestModel.class);
+
+        final RecordedRequest recordedRequest = getMockWebServer().takeRequest();
+        assertAll(
+                () -> assertTrue(actual.isSuccess()),
+                () -> assertFalse(actual.getAddresses().isEmpty()),
+                () -> assertEquals(NUM_CONNECTIONS, actual.getConnectionCount()),
+                () -> assertEquals(0, actual.getFailedConnectionCount()),
+                () -> assertEquals(1, actual.getTypeAdapterCount()),
+                () -> assertEquals("HEAD", recordedRequest.getMethod()),
+                () -> assertEquals(NUM_CONNECTIONS, getMockWebServer().getRequestCount()),
+                () -> assertEquals(NUM_CONNECTIONS, getHttpClient().connectionPool().idleConnectionCount()));
+    }
+
+    @SneakyThrows
+    @Test
+    public void warmUp_withUnreachableHost_shouldReportFailures() {
+        getMockWebServer().close();
+
+        final ConnectionWarmer.Result actual = ConnectionWarmer.builder()
+                .connectionCount(2)
+                .timeout(Duration.ofSeconds(5L))
+                .build()
+                .warmUp(connection);
+
+        assertAll(
+                () -> assertFalse(actual.isSuccess()),
+                () -> assertEquals(0, actual.getConnectionCount()),
+                () -> assertEquals(2, actual.getFailedConnectionCount()),
+                () -> assertEquals(0, actual.getTypeAdapterCount()));
+    }
+
+    @Test
+    public void builder_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> ConnectionWarmer.builder().connectionCount(-1).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> ConnectionWarmer.builder().timeout(Duration.ofSeconds(-1L)).build()),
+                () -> assertThrows(NullPointerException.class, () -> ConnectionWarmer.builder().build().warmUp(null)));
+    }
+
+    @Data
+    public static class TestModel {
+        private String value;
+    }
+}
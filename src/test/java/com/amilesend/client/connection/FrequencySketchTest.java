@@ -0,0 +1,56 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class FrequencySketchTest {
+    private static final int MAX_WIDTH = 1 << 24;
+
+    @Test
+    public void ctor_withExpectedKeys_shouldRoundWidthToPowerOfTwo() {
+        assertAll(
+                () -> assertEquals(16, new FrequencySketch(0).getWidth()),
+                () -> assertEquals(128, new FrequencySketch(100).getWidth()),
+                () -> assertEquals(128, new FrequencySketch(128).getWidth()));
+    }
+
+    @Test
+    public void ctor_withExpectedKeysAtOrAboveMaximum_shouldClampWidth() {
+        assertAll(
+                () -> assertEquals(MAX_WIDTH, new FrequencySketch(MAX_WIDTH - 1).getWidth()),
+                () -> assertEquals(MAX_WIDTH, new FrequencySketch(MAX_WIDTH + 1).getWidth()),
+                () -> assertEquals(MAX_WIDTH, new FrequencySketch((1 << 30) + 1).getWidth()),
+                () -> assertEquals(MAX_WIDTH, new FrequencySketch(Integer.MAX_VALUE).getWidth()));
+    }
+
+    @Test
+    public void frequency_withIncrementedKeys_shouldEstimateAccesses() {
+        final FrequencySketch sketch = new FrequencySketch(Integer.MAX_VALUE);
+
+        sketch.increment("key");
+        sketch.increment("key");
+
+        assertAll(
+                () -> assertEquals(2, sketch.frequency("key")),
+                () -> assertEquals(0, sketch.frequency("other")));
+    }
+}
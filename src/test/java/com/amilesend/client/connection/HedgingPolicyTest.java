@@ -0,0 +1,97 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection;
+
+import com.amilesend.client.connection.retry.RetryBudget;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HedgingPolicyTest {
+    @Test
+    public void isHedgeable_withRequestMethods_shouldOnlyHedgeIdempotentReads() {
+        final HedgingPolicy policyUnderTest = HedgingPolicy.builder().build();
+        final Request.Builder builder = new Request.Builder().url("https://example.com/items");
+
+        assertAll(
+                () -> assertTrue(policyUnderTest.isHedgeable(builder.get().build())),
+                () -> assertTrue(policyUnderTest.isHedgeable(builder.head().build())),
+                () -> assertFalse(policyUnderTest.isHedgeable(
+                        builder.post(RequestBody.create("{}", Connection.JSON_MEDIA_TYPE)).build())),
+                () -> assertFalse(policyUnderTest.isHedgeable(builder.delete().build())));
+    }
+
+    @Test
+    public void getDelay_withPercentile_shouldTrackObservedLatency() {
+        final HedgingPolicy policyUnderTest = HedgingPolicy.builder()
+                .delay(Duration.ofMillis(100L))
+                .percentile(90D)
+                .minSamples(10)
+                .build();
+
+        IntStream.range(0, 9).forEach(i -> policyUnderTest.onResponse(Duration.ofMillis(10L).toNanos(), false));
+        final Duration beforeMinSamples = policyUnderTest.getDelay();
+        policyUnderTest.onResponse(Duration.ofMillis(10L).toNanos(), false);
+        final Duration actual = policyUnderTest.getDelay();
+
+        assertAll(
+                () -> assertEquals(Duration.ofMillis(100L), beforeMinSamples),
+                () -> assertTrue(actual.compareTo(Duration.ofMillis(9L)) >= 0),
+                () -> assertTrue(actual.compareTo(Duration.ofMillis(11L)) <= 0));
+    }
+
+    @Test
+    public void tryAcquireHedge_withMaxHedgeRatio_shouldCapHedges() {
+        final HedgingPolicy policyUnderTest = HedgingPolicy.builder()
+                .budget(RetryBudget.builder().depositRatio(0.1D).initialTokens(0).build())
+                .build();
+
+        final long numHedges = IntStream.range(0, 100)
+                .filter(i -> {
+                    policyUnderTest.onRequest();
+                    return policyUnderTest.tryAcquireHedge();
+                })
+                .count();
+
+        assertAll(
+                () -> assertEquals(10L, numHedges),
+                () -> assertEquals(10L, policyUnderTest.getHedgeCount()));
+    }
+
+    @Test
+    public void builder_withInvalidAttributes_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> HedgingPolicy.builder().delay(Duration.ofMillis(-1L)).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> HedgingPolicy.builder().percentile(100D).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> HedgingPolicy.builder().minSamples(0).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> HedgingPolicy.builder().maxHedgeRatio(2D).build()));
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection;
+
+import com.amilesend.client.FunctionalTestBase;
+import com.amilesend.client.connection.retry.NoRetryStrategy;
+import com.amilesend.client.parse.GsonFactoryBase;
+import com.amilesend.client.parse.parser.BasicParser;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import mockwebserver3.RecordedRequest;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JsonRequestBodyTest extends FunctionalTestBase {
+    private Connection<GsonFactoryBase> connection;
+
+    @BeforeEach
+    public void setUp() {
+        connection = newConnection(new NoRetryStrategy());
+    }
+
+    @Test
+    @SneakyThrows
+    public void execute_withJsonRequestBody_shouldSendSerializedObject() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, "{\"value\":\"response\"}");
+        final Request request = connection.newRequestBuilder()
+                .url(getMockWebServerUrl() + "/items")
+                .post(connection.newJsonRequestBody(new TestValue("request é")))
+                .build();
+
+        final TestValue actual = connection.execute(request, new BasicParser<>(TestValue.class));
+
+        final RecordedRequest recordedRequest = getMockWebServer().takeRequest();
+        assertAll(
+                () -> assertEquals("response", actual.getValue()),
+                () -> assertEquals("{\"value\":\"request é\"}", recordedRequest.getBody().utf8()),
+                () -> assertEquals("application/json; charset=utf-8", recordedRequest.getHeaders().get("Content-Type")));
+    }
+
+    @Test
+    @SneakyThrows
+    public void contentLength_withComputedLength_shouldReturnByteCount() {
+        final RequestBody bodyUnderTest = JsonRequestBody.builder()
+                .gson(new Gson())
+                .value(List.of(new TestValue("é")))
+                .type(new TypeToken<List<TestValue>>() {}.getType())
+                .isContentLengthComputed(true)
+                .build();
+
+        final Buffer first = new Buffer();
+        bodyUnderTest.writeTo(first);
+        final Buffer second = new Buffer();
+        bodyUnderTest.writeTo(second);
+
+        assertAll(
+                () -> assertEquals(first.size(), bodyUnderTest.contentLength()),
+                () -> assertEquals("[{\"value\":\"é\"}]", first.readUtf8()),
+                () -> assertEquals("[{\"value\":\"é\"}]", second.readUtf8()),
+                () -> assertFalse(bodyUnderTest.isOneShot()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void contentLength_withDefaults_shouldReturnUnknownLength() {
+        assertEquals(-1L, connection.newJsonRequestBody(new TestValue("value")).contentLength());
+    }
+
+    @Test
+    public void builder_withInvalidInput_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(NullPointerException.class,
+                        () -> JsonRequestBody.builder().value(new TestValue()).build()),
+                () -> assertThrows(NullPointerException.class,
+                        () -> JsonRequestBody.builder().gson(new Gson()).build()));
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TestValue {
+        private String value;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection;
+
+import com.amilesend.client.FunctionalTestBase;
+import com.amilesend.client.connection.file.TransferProgressCallback;
+import com.amilesend.client.connection.retry.NoRetryStrategy;
+import com.amilesend.client.parse.GsonFactoryBase;
+import com.google.gson.GsonBuilder;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.SneakyThrows;
+import mockwebserver3.RecordedRequest;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class JsonStreamRequestBodyTest extends FunctionalTestBase {
+    private Connection<GsonFactoryBase> connection;
+
+    @BeforeEach
+    public void setUp() {
+        connection = newConnection(new NoRetryStrategy());
+    }
+
+    @Test
+    @SneakyThrows
+    public void execute_withStreamAsJsonArray_shouldSendArrayAndCloseStream() {
+        final AtomicBoolean isClosed = new AtomicBoolean();
+        final Stream<TestValue> elements = IntStream.range(0, 3)
+                .mapToObj(i -> new TestValue("v" + i))
+                .onClose(() -> isClosed.set(true));
+
+        final RecordedRequest actual =
+                send(connection.newJsonStreamRequestBody(elements, JsonStreamRequestBody.Format.JSON_ARRAY));
+
+        assertAll(
+                () -> assertEquals("[{\"value\":\"v0\"},{\"value\":\"v1\"},{\"value\":\"v2\"}]", actual.getBody().utf8()),
+                () -> assertEquals("application/json; charset=utf-8", actual.getHeaders().get("Content-Type")),
+                () -> assertTrue(isClosed.get()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void execute_withIteratorAsNdjson_shouldSendRecordPerLine() {
+        final RecordedRequest actual = send(connection.newJsonStreamRequestBody(
+                List.of(new TestValue("v0"), new TestValue("v1")).iterator(),
+                JsonStreamRequestBody.Format.NDJSON));
+
+        assertAll(
+                () -> assertEquals("{\"value\":\"v0\"}\n{\"value\":\"v1\"}\n", actual.getBody().utf8()),
+                () -> assertEquals("application/x-ndjson; charset=utf-8", actual.getHeaders().get("Content-Type")));
+    }
+
+    @Test
+    @SneakyThrows
+    public void writeTo_withPrettyPrintingGsonAndCallback_shouldWriteSingleLineRecordsAndReportProgress() {
+        final TransferProgressCallback mockCallback = mock(TransferProgressCallback.class);
+        final RequestBody bodyUnderTest = JsonStreamRequestBody.<TestValue>builder()
+                .gson(new GsonBuilder().setPrettyPrinting().create())
+                .iterator(List.of(new TestValue("v0"), new TestValue("v1")).iterator())
+                .format(JsonStreamRequestBody.Format.NDJSON)
+                .callback(mockCallback)
+                .build();
+        final Buffer sink = new Buffer();
+
+        bodyUnderTest.writeTo(sink);
+
+        final ArgumentCaptor<Long> bytesCaptor = ArgumentCaptor.forClass(Long.class);
+        assertAll(
+                () -> assertEquals("{\"value\":\"v0\"}\n{\"value\":\"v1\"}\n", sink.readUtf8()),
+                () -> verify(mockCallback, atLeastOnce()).onUpdate(anyLong(), eq(-1L)),
+                () -> verify(mockCallback).onComplete(bytesCaptor.capture()),
+                () -> assertEquals(30L, bytesCaptor.getValue()),
+                () -> assertTrue(bodyUnderTest.isOneShot()),
+                () -> assertThrows(IllegalStateException.class, () -> bodyUnderTest.writeTo(new Buffer())));
+    }
+
+    @Test
+    public void builder_withInvalidInput_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> JsonStreamRequestBody.builder().gson(new GsonBuilder().create()).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> JsonStreamRequestBody.builder()
+                                .gson(new GsonBuilder().create())
+                                .iterator(List.of().iterator())
+                                .stream(Stream.empty())
+                                .build()),
+                () -> assertThrows(NullPointerException.class,
+                        () -> JsonStreamRequestBody.builder().iterator(List.of().iterator()).build()));
+    }
+
+    @SneakyThrows
+    private RecordedRequest send(final RequestBody body) {
+        setUpMockResponse(SUCCESS_STATUS_CODE, "{}");
+        final Request request = connection.newRequestBuilder()
+                .url(getMockWebServerUrl() + "/items")
+                .post(body)
+                .build();
+        connection.execute(request).close();
+
+        return getMockWebServer().takeRequest();
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class TestValue {
+        private String value;
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection;
+
+import com.amilesend.client.FunctionalTestBase;
+import com.amilesend.client.parse.GsonFactoryBase;
+import com.amilesend.client.parse.parser.BasicParser;
+import lombok.Data;
+import lombok.SneakyThrows;
+import mockwebserver3.Dispatcher;
+import mockwebserver3.MockResponse;
+import mockwebserver3.RecordedRequest;
+import okhttp3.Request;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RequestCoalescerTest extends FunctionalTestBase {
+    private static final int NUM_CALLERS = 5;
+
+    private final AtomicInteger numServerRequests = new AtomicInteger();
+    private final CountDownLatch releaseLatch = new CountDownLatch(1);
+    private final RequestCoalescer coalescer = RequestCoalescer.builder().build();
+    private Connection<GsonFactoryBase> connectionUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        connectionUnderTest = newConnectionWith(builder -> builder.requestCoalescer(coalescer));
+        getMockWebServer().setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(final RecordedRequest request) throws InterruptedException {
+                numServerRequests.incrementAndGet();
+                releaseLatch.await(10L, TimeUnit.SECONDS);
+                if (request.getUrl().encodedPath().endsWith("/missing")) {
+                    return new MockResponse.Builder().code(USER_ERROR_CODE).build();
+                }
+
+                return new MockResponse.Builder()
+                        .code(SUCCESS_STATUS_CODE)
+                        .addHeader("Content-Type", "application/json; charset=utf-8")
+                        .body("{\"value\":\"shared\"}")
+                        .build();
+            }
+        });
+    }
+
+    @Test
+    @SneakyThrows
+    public void execute_withConcurrentIdenticalGets_shouldShareSingleCall() {
+        final ExecutorService executor = Executors.newFixedThreadPool(NUM_CALLERS);
+        try {
+            final List<Future<TestResponse>> futures = IntStream.range(0, NUM_CALLERS)
+                    .mapToObj(i -> executor.submit(() -> connectionUnderTest.execute(
+                            newRequest("/items/1"),
+                            new BasicParser<>(TestResponse.class))))
+                    .collect(Collectors.toList());
+            awaitCondition(() -> coalescer.getCoalescedCount() == NUM_CALLERS - 1);
+            releaseLatch.countDown();
+
+            final TestResponse first = futures.get(0).get(10L, TimeUnit.SECONDS);
+            for (final Future<TestResponse> future : futures) {
+                assertSame(first, future.get(10L, TimeUnit.SECONDS));
+            }
+            assertAll(
+                    () -> assertEquals("shared", first.getValue()),
+                    () -> assertEquals(1, numServerRequests.get()),
+                    () -> assertEquals(0, coalescer.getInFlightCount()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void executeAsync_withIdenticalGets_shouldShareSingleCallAndException() {
+        final List<CompletableFuture<TestResponse>> futures = IntStream.range(0, NUM_CALLERS)
+                .mapToObj(i -> connectionUnderTest.executeAsync(
+                        newRequest("/missing"),
+                        new BasicParser<>(TestResponse.class)))
+                .collect(Collectors.toList());
+        releaseLatch.countDown();
+
+        for (final CompletableFuture<TestResponse> future : futures) {
+            final Throwable thrown = assertThrows(Exception.class, () -> future.get(10L, TimeUnit.SECONDS));
+            assertInstanceOf(RequestException.class, thrown.getCause());
+        }
+        assertAll(
+                () -> assertEquals(1, numServerRequests.get()),
+                () -> assertEquals(NUM_CALLERS - 1, coalescer.getCoalescedCount()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void executeAsync_withDifferentUrlsOrMethods_shouldNotCoalesce() {
+        releaseLatch.countDown();
+        final List<CompletableFuture<TestResponse>> futures = List.of(
+                connectionUnderTest.executeAsync(newRequest("/items/1"), new BasicParser<>(TestResponse.class)),
+                connectionUnderTest.executeAsync(newRequest("/items/2"), new BasicParser<>(TestResponse.class)),
+                connectionUnderTest.executeAsync(
+                        connectionUnderTest.newRequestBuilder()
+                                .url(getMockWebServerUrl() + "/items/1")
+                                .post(connectionUnderTest.newJsonRequestBody(new TestResponse()))
+                                .build(),
+                        new BasicParser<>(TestResponse.class)));
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10L, TimeUnit.SECONDS);
+
+        assertAll(
+                () -> assertEquals(3, numServerRequests.get()),
+                () -> assertEquals(0L, coalescer.getCoalescedCount()));
+    }
+
+    private Request newRequest(final String path) {
+        return connectionUnderTest.newRequestBuilder()
+                .url(getMockWebServerUrl() + path)
+                .build();
+    }
+
+    @SneakyThrows
+    private static void awaitCondition(final BooleanSupplier condition) {
+        final long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10L);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Timed out waiting for condition");
+            Thread.sleep(5L);
+        }
+    }
+
+    @Data
+    public static class TestResponse {
+        private String value;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection;
+
+import okhttp3.HttpUrl;
+import okhttp3.Request;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.amilesend.client.connection.Connection.Headers.USER_AGENT;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+public class RequestTemplateTest extends ConnectionTestBase {
+    @Test
+    public void url_withValues_shouldReturnResolvedUrl() {
+        final RequestTemplate templateUnderTest = connectionUnderTest.newRequestTemplate("/items/{id}/children");
+
+        assertAll(
+                () -> assertEquals(List.of("id"), templateUnderTest.getVariableNames()),
+                () -> assertEquals(HttpUrl.get("http://baseurl/items/123/children"), templateUnderTest.url(123)),
+                () -> assertEquals(HttpUrl.get("http://baseurl/items/a%20b%2Fc/children"),
+                        templateUnderTest.url(Map.of("id", "a b/c"))));
+    }
+
+    @Test
+    public void url_withBaseUrlPathAndLiteralSegments_shouldReturnResolvedUrl() {
+        final Connection<?> connection = new DefaultConnectionBuilder()
+                .httpClient(mockHttpClient)
+                .gsonFactory(mockGsonFactory)
+                .authManager(mockAuthManager)
+                .baseUrl("https://baseurl/v1/")
+                .userAgent(USER_AGENT_VALUE)
+                .build();
+
+        final HttpUrl actual = connection.newRequestTemplate("drives/{driveId}/root:/{path}/my files")
+                .newUrlBuilder("d1", "report.csv")
+                .addQueryParameter("select", "id")
+                .build();
+
+        assertEquals(HttpUrl.get("https://baseurl/v1/drives/d1/root:/report.csv/my%20files?select=id"), actual);
+    }
+
+    @Test
+    public void newRequestBuilder_withValues_shouldReturnBuilderWithUrlAndHeaders() {
+        when(mockAuthManager.addAuthentication(any(Request.Builder.class))).thenAnswer(i -> i.getArgument(0));
+
+        final Request actual = connectionUnderTest.newRequestTemplate("/items/{id}").newRequestBuilder("1").build();
+
+        assertAll(
+                () -> assertEquals(HttpUrl.get("http://baseurl/items/1"), actual.url()),
+                () -> assertEquals(USER_AGENT_VALUE, actual.header(USER_AGENT)),
+                () -> assertSame(connectionUnderTest.getBaseHttpUrl(), connectionUnderTest.getBaseHttpUrl()),
+                () -> assertSame(connectionUnderTest.getDefaultHeaders(), connectionUnderTest.getDefaultHeaders()));
+    }
+
+    @Test
+    public void newRequestTemplate_withInvalidInput_shouldThrowException() {
+        final RequestTemplate templateUnderTest = connectionUnderTest.newRequestTemplate("/items/{id}");
+
+        assertAll(
+                () -> assertThrows(NullPointerException.class, () -> connectionUnderTest.newRequestTemplate(null)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> connectionUnderTest.newRequestTemplate("/items/v{id}")),
+                () -> assertThrows(IllegalArgumentException.class, () -> templateUnderTest.url()),
+                () -> assertThrows(IllegalArgumentException.class, () -> templateUnderTest.url(1, 2)),
+                () -> assertThrows(NullPointerException.class, () -> templateUnderTest.url(Map.of())));
+    }
+}
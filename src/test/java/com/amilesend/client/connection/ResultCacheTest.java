@@ -0,0 +1,208 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection;
+
+import com.amilesend.client.FunctionalTestBase;
+import com.amilesend.client.parse.GsonFactoryBase;
+import com.amilesend.client.parse.parser.BasicParser;
+import com.google.gson.Gson;
+import lombok.Data;
+import lombok.SneakyThrows;
+import mockwebserver3.Dispatcher;
+import mockwebserver3.MockResponse;
+import mockwebserver3.RecordedRequest;
+import okhttp3.Request;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResultCacheTest extends FunctionalTestBase {
+    private final AtomicLong nowNanos = new AtomicLong();
+    private final Map<String, AtomicInteger> numRequestsByPath = new ConcurrentHashMap<>();
+    private final BasicParser<TestResponse> parser = new BasicParser<>(TestResponse.class);
+
+    @BeforeEach
+    public void setUp() {
+        getMockWebServer().setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(final RecordedRequest request) {
+                final String path = request.getUrl().encodedPath();
+                final int count = numRequestsByPath.computeIfAbsent(path, p -> new AtomicInteger()).incrementAndGet();
+                return new MockResponse.Builder()
+                        .code(SUCCESS_STATUS_CODE)
+                        .addHeader("Content-Type", "application/json; charset=utf-8")
+                        .body("{\"value\":\"" + path + "-" + count + "\"}")
+                        .build();
+            }
+        });
+    }
+
+    @Test
+    @SneakyThrows
+    public void execute_withFreshEntry_shouldReturnCachedResultWithoutRequest() {
+        final ResultCache cacheUnderTest = newCacheBuilder().build();
+        final Connection<GsonFactoryBase> connection = newConnection(cacheUnderTest);
+
+        final TestResponse first = connection.execute(newRequest(connection, "/config"), parser);
+        nowNanos.addAndGet(TimeUnit.SECONDS.toNanos(59L));
+        final TestResponse second = connection.execute(newRequest(connection, "/config"), parser);
+        final TestResponse third =
+                connection.executeAsync(newRequest(connection, "/config"), parser).get(10L, TimeUnit.SECONDS);
+
+        assertAll(
+                () -> assertSame(first, second),
+                () -> assertSame(first, third),
+                () -> assertEquals(1, numRequestsByPath.get("/config").get()),
+                () -> assertEquals(1L, cacheUnderTest.getMissCount()),
+                () -> assertEquals(2L, cacheUnderTest.getHitCount()),
+                () -> assertEquals(1L, cacheUnderTest.getWeight()));
+    }
+
+    @Test
+    public void execute_withJsonWeighed_shouldWeighBySerializedLength() {
+        final ResultCache cacheUnderTest = newCacheBuilder().isJsonWeighed(true).build();
+        final Connection<GsonFactoryBase> connection = newConnection(cacheUnderTest);
+
+        final TestResponse result = connection.execute(newRequest(connection, "/config"), parser);
+
+        assertEquals(ResultCache.estimateJsonWeight(new Gson(), result), cacheUnderTest.getWeight());
+    }
+
+    @Test
+    @SneakyThrows
+    public void execute_withStaleEntry_shouldReturnStaleResultAndRefreshOnce() {
+        final ResultCache cacheUnderTest = newCacheBuilder()
+                .ttl(Duration.ofSeconds(1L))
+                .staleWhileRevalidate(Duration.ofSeconds(10L))
+                .build();
+        final Connection<GsonFactoryBase> connection = newConnection(cacheUnderTest);
+
+        final TestResponse first = connection.execute(newRequest(connection, "/config"), parser);
+        nowNanos.addAndGet(TimeUnit.SECONDS.toNanos(2L));
+        final TestResponse stale = connection.execute(newRequest(connection, "/config"), parser);
+        awaitCondition(() -> !"/config-1".equals(
+                connection.execute(newRequest(connection, "/config"), parser).getValue()));
+        final TestResponse refreshed = connection.execute(newRequest(connection, "/config"), parser);
+
+        assertAll(
+                () -> assertSame(first, stale),
+                () -> assertEquals("/config-2", refreshed.getValue()),
+                () -> assertEquals(2, numRequestsByPath.get("/config").get()),
+                () -> assertEquals(1L, cacheUnderTest.getRefreshCount()),
+                () -> assertTrue(cacheUnderTest.getStaleHitCount() >= 1L));
+    }
+
+    @Test
+    public void execute_withExpiredEntryOrZeroTtl_shouldExecuteRequest() {
+        final ResultCache cacheUnderTest = newCacheBuilder()
+                .ttlFunction(request -> request.url().encodedPath().startsWith("/live")
+                        ? Duration.ZERO
+                        : Duration.ofSeconds(1L))
+                .build();
+        final Connection<GsonFactoryBase> connection = newConnection(cacheUnderTest);
+
+        connection.execute(newRequest(connection, "/config"), parser);
+        nowNanos.addAndGet(TimeUnit.SECONDS.toNanos(1L));
+        final TestResponse expired = connection.execute(newRequest(connection, "/config"), parser);
+        connection.execute(newRequest(connection, "/live"), parser);
+        final TestResponse live = connection.execute(newRequest(connection, "/live"), parser);
+
+        assertAll(
+                () -> assertEquals("/config-2", expired.getValue()),
+                () -> assertEquals("/live-2", live.getValue()),
+                () -> assertEquals(2L, cacheUnderTest.getMissCount()),
+                () -> assertEquals(1, cacheUnderTest.size()));
+    }
+
+    @Test
+    public void execute_withFullCache_shouldOnlyAdmitMoreFrequentResults() {
+        final ResultCache cacheUnderTest = newCacheBuilder()
+                .maxWeight(20L)
+                .weigher(result -> 10L)
+                .build();
+        final Connection<GsonFactoryBase> connection = newConnection(cacheUnderTest);
+
+        for (int i = 0; i < 2; ++i) {
+            connection.execute(newRequest(connection, "/a"), parser);
+            connection.execute(newRequest(connection, "/b"), parser);
+        }
+        connection.execute(newRequest(connection, "/c"), parser);
+        final long rejectionsAfterOneHitWonder = cacheUnderTest.getRejectionCount();
+        connection.execute(newRequest(connection, "/c"), parser);
+        connection.execute(newRequest(connection, "/c"), parser);
+        connection.execute(newRequest(connection, "/c"), parser);
+
+        assertAll(
+                () -> assertEquals(1L, rejectionsAfterOneHitWonder),
+                () -> assertEquals(1L, cacheUnderTest.getEvictionCount()),
+                () -> assertEquals(2, cacheUnderTest.size()),
+                () -> assertEquals(20L, cacheUnderTest.getWeight()),
+                () -> assertEquals(3, numRequestsByPath.get("/c").get()));
+    }
+
+    @Test
+    public void builder_withInvalidInput_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> ResultCache.builder().maxWeight(0L).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> ResultCache.builder().staleWhileRevalidate(Duration.ofSeconds(-1L)).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> ResultCache.builder().weigher(result -> 1L).isJsonWeighed(true).build()));
+    }
+
+    private ResultCache.ResultCacheBuilder newCacheBuilder() {
+        return ResultCache.builder().ticker(nowNanos::get);
+    }
+
+    private Connection<GsonFactoryBase> newConnection(final ResultCache cache) {
+        return newConnectionWith(builder -> builder.resultCache(cache));
+    }
+
+    private Request newRequest(final Connection<?> connection, final String path) {
+        return connection.newRequestBuilder()
+                .url(getMockWebServerUrl() + path)
+                .build();
+    }
+
+    @SneakyThrows
+    private static void awaitCondition(final BooleanSupplier condition) {
+        final long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10L);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Timed out waiting for condition");
+            Thread.sleep(5L);
+        }
+    }
+
+    @Data
+    public static class TestResponse {
+        private String value;
+    }
+}
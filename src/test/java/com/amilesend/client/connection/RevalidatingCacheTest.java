@@ -0,0 +1,164 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection;
+
+import com.amilesend.client.FunctionalTestBase;
+import com.amilesend.client.parse.GsonFactoryBase;
+import com.amilesend.client.parse.parser.BasicParser;
+import lombok.Data;
+import lombok.SneakyThrows;
+import mockwebserver3.Dispatcher;
+import mockwebserver3.MockResponse;
+import mockwebserver3.RecordedRequest;
+import okhttp3.Request;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RevalidatingCacheTest extends FunctionalTestBase {
+    private static final String ETAG = "\"v1\"";
+    private static final String LAST_MODIFIED = "Wed, 21 Oct 2026 07:28:00 GMT";
+
+    private final List<RecordedRequest> recordedRequests = new ArrayList<>();
+
+    @Test
+    public void execute_withETag_shouldReturnCachedObjectOnNotModified() {
+        final RevalidatingCache cacheUnderTest = RevalidatingCache.builder().build();
+        final Connection<GsonFactoryBase> connection = setUp(cacheUnderTest);
+        final BasicParser<TestResponse> parser = new BasicParser<>(TestResponse.class);
+
+        final TestResponse first = connection.execute(newRequest(connection, "/etag"), parser);
+        final TestResponse second = connection.execute(newRequest(connection, "/etag"), parser);
+
+        assertAll(
+                () -> assertSame(first, second),
+                () -> assertEquals("/etag", first.getValue()),
+                () -> assertNull(recordedRequests.get(0).getHeaders().get("If-None-Match")),
+                () -> assertEquals(ETAG, recordedRequests.get(1).getHeaders().get("If-None-Match")),
+                () -> assertEquals(1L, cacheUnderTest.getMissCount()),
+                () -> assertEquals(1L, cacheUnderTest.getRevalidationCount()),
+                () -> assertEquals(1L, cacheUnderTest.getHitCount()),
+                () -> assertEquals(1, cacheUnderTest.size()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void executeAsync_withLastModified_shouldReturnCachedObjectOnNotModified() {
+        final RevalidatingCache cacheUnderTest = RevalidatingCache.builder().build();
+        final Connection<GsonFactoryBase> connection = setUp(cacheUnderTest);
+        final BasicParser<TestResponse> parser = new BasicParser<>(TestResponse.class);
+
+        final TestResponse first =
+                connection.executeAsync(newRequest(connection, "/modified"), parser).get(10L, TimeUnit.SECONDS);
+        final TestResponse second =
+                connection.executeAsync(newRequest(connection, "/modified"), parser).get(10L, TimeUnit.SECONDS);
+
+        assertAll(
+                () -> assertSame(first, second),
+                () -> assertEquals(LAST_MODIFIED, recordedRequests.get(1).getHeaders().get("If-Modified-Since")),
+                () -> assertEquals(1L, cacheUnderTest.getHitCount()));
+    }
+
+    @Test
+    public void execute_withNoValidatorsOrMaxEntriesExceeded_shouldNotRetainEntries() {
+        final RevalidatingCache cacheUnderTest = RevalidatingCache.builder().maxEntries(1).build();
+        final Connection<GsonFactoryBase> connection = setUp(cacheUnderTest);
+        final BasicParser<TestResponse> parser = new BasicParser<>(TestResponse.class);
+
+        final TestResponse first = connection.execute(newRequest(connection, "/none"), parser);
+        final TestResponse second = connection.execute(newRequest(connection, "/none"), parser);
+        connection.execute(newRequest(connection, "/etag"), parser);
+        connection.execute(newRequest(connection, "/modified"), parser);
+
+        assertAll(
+                () -> assertNotSame(first, second),
+                () -> assertEquals(0L, cacheUnderTest.getRevalidationCount()),
+                () -> assertEquals(4L, cacheUnderTest.getMissCount()),
+                () -> assertEquals(1L, cacheUnderTest.getEvictionCount()),
+                () -> assertEquals(1, cacheUnderTest.size()));
+    }
+
+    @Test
+    public void execute_withCallerConditionalRequest_shouldThrowOnNotModified() {
+        final RevalidatingCache cacheUnderTest = RevalidatingCache.builder().build();
+        final Connection<GsonFactoryBase> connection = setUp(cacheUnderTest);
+        final Request request = connection.newRequestBuilder()
+                .url(getMockWebServerUrl() + "/etag")
+                .header("If-None-Match", ETAG)
+                .build();
+
+        assertAll(
+                () -> assertThrows(ConnectionException.class,
+                        () -> connection.execute(request, new BasicParser<>(TestResponse.class))),
+                () -> assertEquals(0L, cacheUnderTest.getHitCount()));
+    }
+
+    @Test
+    public void builder_withInvalidMaxEntries_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> RevalidatingCache.builder().maxEntries(0).build());
+    }
+
+    private Connection<GsonFactoryBase> setUp(final RevalidatingCache cache) {
+        getMockWebServer().setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(final RecordedRequest request) {
+                recordedRequests.add(request);
+                final String path = request.getUrl().encodedPath();
+                if (Objects.equals(ETAG, request.getHeaders().get("If-None-Match"))
+                        || Objects.equals(LAST_MODIFIED, request.getHeaders().get("If-Modified-Since"))) {
+                    return new MockResponse.Builder().code(304).build();
+                }
+
+                final MockResponse.Builder responseBuilder = new MockResponse.Builder()
+                        .code(SUCCESS_STATUS_CODE)
+                        .addHeader("Content-Type", "application/json; charset=utf-8")
+                        .body("{\"value\":\"" + path + "\"}");
+                if ("/etag".equals(path)) {
+                    responseBuilder.addHeader("ETag", ETAG);
+                } else if ("/modified".equals(path)) {
+                    responseBuilder.addHeader("Last-Modified", LAST_MODIFIED);
+                }
+
+                return responseBuilder.build();
+            }
+        });
+
+        return newConnectionWith(builder -> builder.revalidatingCache(cache));
+    }
+
+    private Request newRequest(final Connection<?> connection, final String path) {
+        return connection.newRequestBuilder()
+                .url(getMockWebServerUrl() + path)
+                .build();
+    }
+
+    @Data
+    public static class TestResponse {
+        private String value;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection.encoding;
+
+import lombok.SneakyThrows;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.BufferedSource;
+import okio.GzipSink;
+import okio.Okio;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ContentDecodersTest {
+    private static final String CONTENT = "{\"value\":\"content\"}";
+
+    @Test
+    public void toAcceptEncoding_withDecoders_shouldReturnHeaderValue() {
+        assertAll(
+                () -> assertEquals("gzip, deflate", ContentDecoders.toAcceptEncoding(ContentDecoders.defaults())),
+                () -> assertEquals("gzip, br", ContentDecoders.toAcceptEncoding(
+                        List.of(ContentDecoders.GZIP, ContentDecoders.GZIP, newBrotliDecoder()))));
+    }
+
+    @Test
+    public void isSupported_withContentEncoding_shouldReturnExpectedResult() {
+        final List<ContentDecoder> decoders = ContentDecoders.defaults();
+
+        assertAll(
+                () -> assertTrue(ContentDecoders.isSupported(null, decoders)),
+                () -> assertTrue(ContentDecoders.isSupported("GZip", decoders)),
+                () -> assertTrue(ContentDecoders.isSupported("identity", decoders)),
+                () -> assertTrue(ContentDecoders.isSupported("deflate, gzip", decoders)),
+                () -> assertFalse(ContentDecoders.isSupported("gzip, br", decoders)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void decode_withStreamContentDecoder_shouldReturnDecodedSource() {
+        final List<ContentDecoder> decoders = List.of(new StreamContentDecoder("gzip", GZIPInputStream::new));
+
+        final BufferedSource actual = ContentDecoders.decode(gzip(CONTENT), "gzip", decoders);
+
+        assertEquals(CONTENT, actual.readUtf8());
+    }
+
+    @Test
+    @SneakyThrows
+    public void decode_withNoOrUnsupportedEncoding_shouldReturnSource() {
+        final Buffer source = new Buffer().writeUtf8(CONTENT);
+
+        assertAll(
+                () -> assertSame(source, ContentDecoders.decode(source, null, ContentDecoders.defaults())),
+                () -> assertSame(source, ContentDecoders.decode(source, "br", ContentDecoders.defaults())),
+                () -> assertEquals(CONTENT, ContentDecoders.decode(source, "identity", ContentDecoders.defaults())
+                        .readUtf8()));
+    }
+
+    @Test
+    public void streamContentDecoder_withInvalidEncoding_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> new StreamContentDecoder(" ", GZIPInputStream::new)),
+                () -> assertThrows(NullPointerException.class, () -> new StreamContentDecoder("br", null)));
+    }
+
+    @SneakyThrows
+    private static Buffer gzip(final String content) {
+        final Buffer encoded = new Buffer();
+        try (final BufferedSink gzipSink = Okio.buffer(new GzipSink(encoded))) {
+            gzipSink.writeUtf8(content);
+        }
+
+        return encoded;
+    }
+
+    private static ContentDecoder newBrotliDecoder() {
+        return new StreamContentDecoder("br", encoded -> encoded);
+    }
+}
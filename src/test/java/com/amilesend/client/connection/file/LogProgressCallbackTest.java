@@ -106,6 +106,21 @@ public class LogProgressCallbackTest {
                 eq(100L));
     }
 
+    @Test
+    public void onUpdate_withUnknownTotalBytes_shouldLogBytesTransferred() {
+        final Instant lastUpdated = callbackUnderTest.getLastUpdateTimestamp().get();
+        callbackUnderTest.getLastUpdateTimestamp()
+                .set(lastUpdated.minus(DURATION_INTERVAL_SECONDS + 1L, ChronoUnit.SECONDS));
+
+        callbackUnderTest.onUpdate(50L, -1L);
+
+        verify(MOCK_LOGGING_EVENT_BUILDER).log(
+                eq("{}{} Status: {} bytes"),
+                eq(StringUtils.EMPTY),
+                eq(LogProgressCallback.TransferType.UNDEFINED.getLogPrefix()),
+                eq(50L));
+    }
+
     @Test
     public void onUpdate_withNoProgress_shouldNotLog() {
         final Instant lastUpdated = callbackUnderTest.getLastUpdateTimestamp().get();
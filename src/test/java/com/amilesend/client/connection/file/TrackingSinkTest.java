@@ -17,6 +17,7 @@
  */
 package com.amilesend.client.connection.file;
 
+import com.amilesend.client.jfr.TransferEvent;
 import lombok.SneakyThrows;
 import okio.Buffer;
 import okio.Sink;
@@ -35,6 +36,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -101,4 +103,25 @@ public class TrackingSinkTest {
                 () -> verify(mockCallback).onComplete(eq(100L)),
                 () -> verifyNoMoreInteractions(mockCallback));
     }
+
+    @Test
+    @SneakyThrows
+    public void write_withWritesAfterCompletion_shouldFinishEventOnce() {
+        final TransferEvent mockEvent = mock(TransferEvent.class);
+        doReturn(mockEvent).when(sinkUnderTest).startEvent();
+        doNothing()
+                .doNothing()
+                .doThrow(new IOException("Exception"))
+                .when(sinkUnderTest).superWrite(any(Buffer.class), anyLong());
+        final Buffer mockBuffer = mock(Buffer.class);
+
+        sinkUnderTest.write(mockBuffer, 100L);
+        sinkUnderTest.write(mockBuffer, 10L);
+
+        assertAll(
+                () -> assertThrows(IOException.class, () -> sinkUnderTest.write(mockBuffer, 10L)),
+                () -> verify(sinkUnderTest).startEvent(),
+                () -> verify(mockEvent).finish(100L, true),
+                () -> verifyNoMoreInteractions(mockEvent));
+    }
 }
@@ -0,0 +1,301 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection.http;
+
+import lombok.SneakyThrows;
+import okhttp3.Dns;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CachingDnsTest {
+    private static final String HOST = "example.com";
+    private static final Duration TTL = Duration.ofSeconds(30L);
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger numLookups = new AtomicInteger();
+    private final AtomicBoolean isFailing = new AtomicBoolean();
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void lookup_withCachedHost_shouldNotResolveAgain() throws UnknownHostException {
+        final CachingDns dnsUnderTest = newCachingDns(fakeDns()).build();
+
+        final List<InetAddress> first = dnsUnderTest.lookup(HOST);
+        final List<InetAddress> second = dnsUnderTest.lookup(HOST);
+
+        assertAll(
+                () -> assertEquals(address(1), first.get(0)),
+                () -> assertSame(first, second),
+                () -> assertEquals(1, numLookups.get()),
+                () -> assertEquals(1L, dnsUnderTest.getMissCount()),
+                () -> assertEquals(1L, dnsUnderTest.getHitCount()),
+                () -> assertEquals(1L, dnsUnderTest.getResolutionCount()),
+                () -> assertEquals(1, dnsUnderTest.size()));
+    }
+
+    @Test
+    public void lookup_withExpiredHost_shouldResolveAgain() throws UnknownHostException {
+        final CachingDns dnsUnderTest = newCachingDns(fakeDns()).build();
+        dnsUnderTest.lookup(HOST);
+
+        now.addAndGet(TTL.toNanos());
+        final List<InetAddress> actual = dnsUnderTest.lookup(HOST);
+
+        assertAll(
+                () -> assertEquals(address(2), actual.get(0)),
+                () -> assertEquals(2, numLookups.get()),
+                () -> assertEquals(0L, dnsUnderTest.getStaleHitCount()));
+    }
+
+    @Test
+    public void lookup_withTtlOutOfBounds_shouldApplyBounds() throws UnknownHostException {
+        final CachingDns dnsUnderTest = newCachingDns(fakeDns())
+                .ttlFunction(host -> Duration.ofHours(1L))
+                .maxTtl(TTL)
+                .build();
+        dnsUnderTest.lookup(HOST);
+
+        now.addAndGet(TTL.toNanos() - 1L);
+        dnsUnderTest.lookup(HOST);
+        now.addAndGet(1L);
+        dnsUnderTest.lookup(HOST);
+
+        assertEquals(2, numLookups.get());
+    }
+
+    @Test
+    public void lookup_withPopularHostNearExpiration_shouldRefreshInBackground() throws UnknownHostException {
+        final CachingDns dnsUnderTest = newCachingDns(fakeDns()).refreshHitThreshold(2).build();
+        dnsUnderTest.lookup(HOST);
+        dnsUnderTest.lookup(HOST);
+
+        now.addAndGet(TTL.toNanos() * 9L / 10L);
+        final List<InetAddress> refreshing = dnsUnderTest.lookup(HOST);
+        final List<InetAddress> refreshed = dnsUnderTest.lookup(HOST);
+
+        assertAll(
+                () -> assertEquals(address(1), refreshing.get(0)),
+                () -> assertEquals(address(2), refreshed.get(0)),
+                () -> assertEquals(1L, dnsUnderTest.getRefreshCount()),
+                () -> assertEquals(1L, dnsUnderTest.getMissCount()));
+    }
+
+    @Test
+    public void lookup_withFailingResolverAndStaleEntry_shouldServeStaleAddresses() throws UnknownHostException {
+        final CachingDns dnsUnderTest = newCachingDns(fakeDns()).build();
+        final List<InetAddress> expected = dnsUnderTest.lookup(HOST);
+
+        isFailing.set(true);
+        now.addAndGet(TTL.toNanos());
+        final List<InetAddress> actual = dnsUnderTest.lookup(HOST);
+
+        assertAll(
+                () -> assertSame(expected, actual),
+                () -> assertEquals(1L, dnsUnderTest.getStaleHitCount()),
+                () -> assertEquals(1L, dnsUnderTest.getFailureCount()));
+    }
+
+    @SneakyThrows
+    @Test
+    public void lookup_withSlowResolverAndStaleEntry_shouldServeStaleAddresses() {
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicBoolean isSlow = new AtomicBoolean();
+        final CachingDns dnsUnderTest = CachingDns.builder()
+                .delegate(hostname -> {
+                    if (isSlow.get()) {
+                        await(release);
+                    }
+                    return List.of(address(numLookups.incrementAndGet()));
+                })
+                .ttlFunction(host -> TTL)
+                .staleTimeout(Duration.ofMillis(50L))
+                .executor(executor)
+                .ticker(now::get)
+                .build();
+        final List<InetAddress> expected = dnsUnderTest.lookup(HOST);
+
+        isSlow.set(true);
+        now.addAndGet(TTL.toNanos());
+        final List<InetAddress> actual = dnsUnderTest.lookup(HOST);
+        release.countDown();
+
+        assertAll(
+                () -> assertSame(expected, actual),
+                () -> assertEquals(1L, dnsUnderTest.getStaleHitCount()));
+    }
+
+    @Test
+    public void lookup_withFailingResolverAndNoEntry_shouldThrowException() {
+        isFailing.set(true);
+        final CachingDns dnsUnderTest = newCachingDns(fakeDns()).build();
+
+        assertAll(
+                () -> assertThrows(UnknownHostException.class, () -> dnsUnderTest.lookup(HOST)),
+                () -> assertEquals(1L, dnsUnderTest.getFailureCount()),
+                () -> assertEquals(0, dnsUnderTest.size()));
+    }
+
+    @SneakyThrows
+    @Test
+    public void lookup_withConcurrentMisses_shouldResolveOnce() {
+        final CountDownLatch release = new CountDownLatch(1);
+        final CachingDns dnsUnderTest = CachingDns.builder()
+                .delegate(hostname -> {
+                    await(release);
+                    return List.of(address(numLookups.incrementAndGet()));
+                })
+                .executor(executor)
+                .build();
+
+        final Future<List<InetAddress>> first = executor.submit(() -> dnsUnderTest.lookup(HOST));
+        final Future<List<InetAddress>> second = executor.submit(() -> dnsUnderTest.lookup(HOST));
+        while (dnsUnderTest.getMissCount() < 2L) {
+            Thread.sleep(5L);
+        }
+        release.countDown();
+
+        assertAll(
+                () -> assertSame(first.get(), second.get()),
+                () -> assertEquals(1, numLookups.get()));
+    }
+
+    @SneakyThrows
+    @Test
+    public void lookup_racingWithCompletedResolution_shouldResolveAgain() {
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicReference<Throwable> racingResult = new AtomicReference<>();
+        final CachingDns dnsUnderTest = CachingDns.builder()
+                .delegate(hostname -> {
+                    if (numLookups.incrementAndGet() == 1) {
+                        await(release);
+                        throw new UnknownHostException(hostname);
+                    }
+                    return List.of(address(2));
+                })
+                .executor(executor)
+                .build();
+        final Future<List<InetAddress>> first = executor.submit(() -> dnsUnderTest.lookup(HOST));
+        while (dnsUnderTest.getResolution(HOST) == null) {
+            Thread.sleep(5L);
+        }
+        // Runs on the resolver thread as the resolution completes, i.e., racing with its cleanup
+        dnsUnderTest.getResolution(HOST).whenComplete((entry, ex) -> {
+            try {
+                assertEquals(List.of(address(2)), dnsUnderTest.lookup(HOST));
+            } catch (final Throwable t) {
+                racingResult.set(t);
+            }
+        });
+
+        release.countDown();
+
+        final ExecutionException thrown = assertThrows(ExecutionException.class, first::get);
+        assertAll(
+                () -> assertInstanceOf(UnknownHostException.class, thrown.getCause()),
+                () -> assertNull(racingResult.get()),
+                () -> assertEquals(2, numLookups.get()));
+    }
+
+    @Test
+    public void builder_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> CachingDns.builder().minTtl(Duration.ofSeconds(-1L)).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> CachingDns.builder()
+                                .minTtl(Duration.ofMinutes(2L))
+                                .maxTtl(Duration.ofMinutes(1L))
+                                .build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> CachingDns.builder().refreshHitThreshold(0).build()),
+                () -> assertThrows(NullPointerException.class, () -> CachingDns.builder().build().lookup(null)));
+    }
+
+    @Test
+    public void okHttpClientBuilder_withDns_shouldConfigureClient() {
+        final CachingDns dns = CachingDns.builder().build();
+
+        final OkHttpClient actual = new OkHttpClientBuilder().dns(dns).build();
+
+        assertAll(
+                () -> assertSame(dns, actual.dns()),
+                () -> assertSame(Dns.SYSTEM, new OkHttpClientBuilder().build().dns()));
+    }
+
+    private CachingDns.CachingDnsBuilder newCachingDns(final Dns delegate) {
+        return CachingDns.builder()
+                .delegate(delegate)
+                .ttlFunction(host -> TTL)
+                .executor(Runnable::run)
+                .ticker(now::get);
+    }
+
+    private Dns fakeDns() {
+        return hostname -> {
+            if (isFailing.get()) {
+                throw new UnknownHostException(hostname);
+            }
+            return List.of(address(numLookups.incrementAndGet()));
+        };
+    }
+
+    @SneakyThrows
+    private static void await(final CountDownLatch latch) {
+        latch.await(5L, TimeUnit.SECONDS);
+    }
+
+    @SneakyThrows
+    private static InetAddress address(final int lastOctet) {
+        return InetAddress.getByAddress(HOST, new byte[] {10, 0, 0, (byte) lastOctet});
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection.http;
+
+import com.amilesend.client.FunctionalTestBase;
+import lombok.SneakyThrows;
+import mockwebserver3.MockResponse;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.net.ssl.X509TrustManager;
+import java.nio.file.Path;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DerivedClientTest extends FunctionalTestBase {
+    @TempDir
+    private Path cacheDirectory;
+
+    @Test
+    public void build_withRootClient_shouldShareResourcesAndOverrideSettings() {
+        final Interceptor rootInterceptor = chain -> chain.proceed(chain.request());
+        final Interceptor derivedInterceptor = chain -> chain.proceed(chain.request());
+        final OkHttpClient root = new OkHttpClientBuilder()
+                .highThroughputPreset()
+                .cache(cacheDirectory, 1024L * 1024L)
+                .addInterceptor(rootInterceptor)
+                .build();
+
+        final OkHttpClient actual = new OkHttpClientBuilder()
+                .rootClient(root)
+                .readTimeout(Duration.ofSeconds(30L))
+                .addInterceptor(derivedInterceptor)
+                .build();
+
+        assertAll(
+                () -> assertSame(root.connectionPool(), actual.connectionPool()),
+                () -> assertSame(root.dispatcher(), actual.dispatcher()),
+                () -> assertSame(root.cache(), actual.cache()),
+                () -> assertSame(root.dns(), actual.dns()),
+                () -> assertSame(root.sslSocketFactory(), actual.sslSocketFactory()),
+                () -> assertEquals(30000, actual.readTimeoutMillis()),
+                () -> assertEquals(10000, root.readTimeoutMillis()),
+                () -> assertEquals(List.of(rootInterceptor, derivedInterceptor), actual.interceptors()),
+                () -> assertEquals(List.of(rootInterceptor), root.interceptors()));
+    }
+
+    @Test
+    public void build_withRootClientCustomTrustManager_shouldKeepRootTrust() {
+        final X509TrustManager rootTrustManager = mock(X509TrustManager.class);
+        when(rootTrustManager.getAcceptedIssuers()).thenReturn(new X509Certificate[0]);
+        final OkHttpClient root = new OkHttpClientBuilder().trustManager(rootTrustManager).build();
+
+        final OkHttpClient actual = new OkHttpClientBuilder().rootClient(root).build();
+        final OkHttpClient withSessionSettings = new OkHttpClientBuilder()
+                .rootClient(root)
+                .sslSessionCacheSize(100)
+                .build();
+
+        assertAll(
+                () -> assertSame(root.sslSocketFactory(), actual.sslSocketFactory()),
+                () -> assertSame(rootTrustManager, actual.x509TrustManager()),
+                () -> assertSame(rootTrustManager, withSessionSettings.x509TrustManager()),
+                () -> assertSame(root.connectionPool(), withSessionSettings.connectionPool()));
+    }
+
+    @Test
+    public void build_withRootClientAndExplicitDispatcher_shouldReplaceDispatcher() {
+        final OkHttpClient root = new OkHttpClientBuilder().build();
+
+        final OkHttpClient actual = new OkHttpClientBuilder()
+                .rootClient(root)
+                .maxRequestsPerHost(10)
+                .build();
+
+        assertAll(
+                () -> assertNotSame(root.dispatcher(), actual.dispatcher()),
+                () -> assertSame(root.connectionPool(), actual.connectionPool()),
+                () -> assertEquals(10, actual.dispatcher().getMaxRequestsPerHost()));
+    }
+
+    @Test
+    public void build_withForcedCacheAndRootClientCache_shouldReturnClient() {
+        final OkHttpClient root = new OkHttpClientBuilder().cache(cacheDirectory, 1024L * 1024L).build();
+
+        assertAll(
+                () -> assertDoesNotThrow(() -> new OkHttpClientBuilder()
+                        .rootClient(root)
+                        .forceCache(request -> true, Duration.ofMinutes(1L))
+                        .build()),
+                () -> assertThrows(IllegalArgumentException.class, () -> new OkHttpClientBuilder()
+                        .rootClient(new OkHttpClientBuilder().build())
+                        .forceCache(request -> true, Duration.ofMinutes(1L))
+                        .build()));
+    }
+
+    @SneakyThrows
+    @Test
+    public void execute_withDerivedClients_shouldReuseConnection() {
+        final OkHttpClient root = new OkHttpClientBuilder().isForTest(true).build();
+        final OkHttpClient first = new OkHttpClientBuilder().isForTest(true).rootClient(root).build();
+        final OkHttpClient second = new OkHttpClientBuilder()
+                .isForTest(true)
+                .rootClient(root)
+                .readTimeout(Duration.ofSeconds(5L))
+                .build();
+        getMockWebServer().enqueue(new MockResponse.Builder().code(SUCCESS_STATUS_CODE).body("first").build());
+        getMockWebServer().enqueue(new MockResponse.Builder().code(SUCCESS_STATUS_CODE).body("second").build());
+
+        final String firstBody = get(first);
+        final String secondBody = get(second);
+
+        assertAll(
+                () -> assertEquals("first", firstBody),
+                () -> assertEquals("second", secondBody),
+                () -> assertEquals(1, root.connectionPool().connectionCount()),
+                () -> assertEquals(0, getMockWebServer().takeRequest().getConnectionIndex()),
+                () -> assertEquals(0, getMockWebServer().takeRequest().getConnectionIndex()));
+    }
+
+    @SneakyThrows
+    private String get(final OkHttpClient client) {
+        try (final Response response = client.newCall(new Request.Builder().url(getMockWebServerUrl()).build())
+                .execute()) {
+            return response.body().string();
+        }
+    }
+}
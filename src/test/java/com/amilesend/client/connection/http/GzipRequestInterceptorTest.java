@@ -0,0 +1,135 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection.http;
+
+import com.amilesend.client.FunctionalTestBase;
+import lombok.SneakyThrows;
+import mockwebserver3.RecordedRequest;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okio.Buffer;
+import okio.GzipSource;
+import okio.Okio;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.amilesend.client.connection.Connection.JSON_MEDIA_TYPE;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GzipRequestInterceptorTest extends FunctionalTestBase {
+    private static final String LARGE_BODY = "{\"values\":[" + "\"value\",".repeat(1000) + "\"value\"]}";
+
+    private final AtomicLong uncompressedBytes = new AtomicLong();
+    private final AtomicLong compressedBytes = new AtomicLong();
+    private GzipRequestInterceptor interceptorUnderTest;
+    private OkHttpClient client;
+
+    @BeforeEach
+    public void setUp() {
+        interceptorUnderTest = GzipRequestInterceptor.builder()
+                .minSizeBytes(512L)
+                .listener((request, uncompressed, compressed) -> {
+                    uncompressedBytes.set(uncompressed);
+                    compressedBytes.set(compressed);
+                })
+                .build();
+        client = getHttpClient().newBuilder()
+                .addInterceptor(interceptorUnderTest)
+                .build();
+    }
+
+    @Test
+    @SneakyThrows
+    public void intercept_withLargeJsonBody_shouldCompressBody() {
+        final RecordedRequest actual = send(RequestBody.create(LARGE_BODY, JSON_MEDIA_TYPE));
+
+        assertAll(
+                () -> assertEquals("gzip", actual.getHeaders().get("Content-Encoding")),
+                () -> assertEquals(LARGE_BODY, gunzip(actual)),
+                () -> assertEquals(LARGE_BODY.length(), uncompressedBytes.get()),
+                () -> assertEquals(actual.getBodySize(), compressedBytes.get()),
+                () -> assertTrue(compressedBytes.get() < uncompressedBytes.get()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void intercept_withSmallOrNonTextBody_shouldNotCompressBody() {
+        final RecordedRequest small = send(RequestBody.create("{}", JSON_MEDIA_TYPE));
+        final RecordedRequest binary =
+                send(RequestBody.create(LARGE_BODY, MediaType.parse("application/octet-stream")));
+
+        assertAll(
+                () -> assertNull(small.getHeaders().get("Content-Encoding")),
+                () -> assertEquals("{}", small.getBody().utf8()),
+                () -> assertNull(binary.getHeaders().get("Content-Encoding")),
+                () -> assertEquals(LARGE_BODY, binary.getBody().utf8()),
+                () -> assertEquals(0L, uncompressedBytes.get()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void isCompressible_withRequest_shouldReturnExpectedResult() {
+        final Request.Builder builder = new Request.Builder().url("http://localhost/items");
+        final RequestBody largeBody = RequestBody.create(LARGE_BODY, JSON_MEDIA_TYPE);
+
+        assertAll(
+                () -> assertFalse(interceptorUnderTest.isCompressible(builder.get().build())),
+                () -> assertFalse(interceptorUnderTest.isCompressible(
+                        builder.post(largeBody).header("Content-Encoding", "br").build())),
+                () -> assertTrue(interceptorUnderTest.isCompressible(
+                        new Request.Builder()
+                                .url("http://localhost/items")
+                                .post(RequestBody.create(LARGE_BODY, MediaType.parse("text/plain")))
+                                .build())),
+                () -> assertFalse(GzipRequestInterceptor.builder()
+                        .isUnknownLengthCompressed(false)
+                        .build()
+                        .isCompressible(new Request.Builder()
+                                .url("http://localhost/items")
+                                .post(new GzipRequestInterceptor.GzipRequestBody(null, largeBody, null))
+                                .build())));
+    }
+
+    @SneakyThrows
+    private RecordedRequest send(final RequestBody body) {
+        setUpMockResponse(SUCCESS_STATUS_CODE, "{}");
+        final Request request = new Request.Builder()
+                .url(getMockWebServerUrl() + "/items")
+                .post(body)
+                .build();
+        try (final Response response = client.newCall(request).execute()) {
+            assertEquals(SUCCESS_STATUS_CODE, response.code());
+        }
+
+        return getMockWebServer().takeRequest();
+    }
+
+    @SneakyThrows
+    private static String gunzip(final RecordedRequest request) {
+        return Okio.buffer(new GzipSource(new Buffer().write(request.getBody()))).readUtf8();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection.http;
+
+import com.amilesend.client.FunctionalTestBase;
+import lombok.SneakyThrows;
+import mockwebserver3.MockResponse;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HttpCacheTest extends FunctionalTestBase {
+    @TempDir
+    private Path cacheDirectory;
+
+    @Test
+    public void build_withForcedCache_shouldServeMatchingResponsesFromCache() {
+        final OkHttpClient client = new OkHttpClientBuilder()
+                .isForTest(true)
+                .cache(cacheDirectory, 1024L * 1024L)
+                .forceCache(request -> request.url().encodedPath().startsWith("/immutable"), Duration.ofHours(1L))
+                .build();
+        getMockWebServer().enqueue(newResponse("immutable"));
+        getMockWebServer().enqueue(newResponse("mutable-1"));
+        getMockWebServer().enqueue(newResponse("mutable-2"));
+
+        final String first = get(client, "/immutable/1");
+        final String second = get(client, "/immutable/1");
+        final String mutableFirst = get(client, "/mutable/1");
+        final String mutableSecond = get(client, "/mutable/1");
+
+        final HttpCacheStats stats = HttpCacheStats.of(client).orElseThrow();
+        assertAll(
+                () -> assertEquals("immutable", first),
+                () -> assertEquals("immutable", second),
+                () -> assertEquals("mutable-1", mutableFirst),
+                () -> assertEquals("mutable-2", mutableSecond),
+                () -> assertEquals(3, getMockWebServer().getRequestCount()),
+                () -> assertEquals(4L, stats.getRequestCount()),
+                () -> assertEquals(1L, stats.getHitCount()),
+                () -> assertEquals(3L, stats.getNetworkCount()));
+    }
+
+    @Test
+    public void build_withServerValidators_shouldCountConditionalRequests() {
+        final OkHttpClient client = new OkHttpClientBuilder()
+                .isForTest(true)
+                .cache(cacheDirectory, 1024L * 1024L)
+                .build();
+        getMockWebServer().enqueue(new MockResponse.Builder()
+                .code(SUCCESS_STATUS_CODE)
+                .addHeader("Cache-Control", "no-cache")
+                .addHeader("ETag", "\"v1\"")
+                .body("cached")
+                .build());
+        getMockWebServer().enqueue(new MockResponse.Builder().code(304).build());
+
+        final String first = get(client, "/resource");
+        final String second = get(client, "/resource");
+
+        final HttpCacheStats stats = HttpCacheStats.of(client).orElseThrow();
+        assertAll(
+                () -> assertEquals("cached", first),
+                () -> assertEquals("cached", second),
+                () -> assertEquals(1L, stats.getConditionalCount()),
+                () -> assertEquals(1L, stats.getConditionalHitCount()),
+                () -> assertEquals(1L, stats.getHitCount()));
+    }
+
+    @Test
+    public void build_withInvalidCacheConfiguration_shouldThrowException() {
+        assertAll(
+                () -> assertTrue(HttpCacheStats.of(new OkHttpClientBuilder().build()).isEmpty()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> new OkHttpClientBuilder().cache(cacheDirectory, 0L)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> new OkHttpClientBuilder().forceCache(request -> true, Duration.ZERO)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> new OkHttpClientBuilder().forceCache(request -> true, Duration.ofMinutes(1L)).build()));
+    }
+
+    private static MockResponse newResponse(final String body) {
+        return new MockResponse.Builder()
+                .code(SUCCESS_STATUS_CODE)
+                .body(body)
+                .build();
+    }
+
+    @SneakyThrows
+    private String get(final OkHttpClient client, final String path) {
+        final Request request = new Request.Builder()
+                .url(getMockWebServerUrl() + path)
+                .build();
+        try (final Response response = client.newCall(request).execute()) {
+            return response.body().string();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection.http;
+
+import com.amilesend.client.FunctionalTestBase;
+import lombok.SneakyThrows;
+import mockwebserver3.MockResponse;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HttpClientGaugesTest extends FunctionalTestBase {
+    @SneakyThrows
+    @Test
+    public void gauges_withCompletedRequest_shouldReportIdleConnection() {
+        final OkHttpClient client = new OkHttpClientBuilder().isForTest(true).build();
+        final HttpClientGauges gauges = new HttpClientGauges(client);
+        getMockWebServer().enqueue(new MockResponse.Builder().code(SUCCESS_STATUS_CODE).body("body").build());
+
+        try (final Response response = client.newCall(newRequest()).execute()) {
+            response.body().string();
+        }
+
+        assertAll(
+                () -> assertEquals(1, gauges.getConnectionCount()),
+                () -> assertEquals(1, gauges.getIdleConnectionCount()),
+                () -> assertEquals(0, gauges.getActiveConnectionCount()),
+                () -> assertEquals(0, gauges.getRunningCallCount()),
+                () -> assertEquals(0, gauges.getQueuedCallCount()));
+    }
+
+    @SneakyThrows
+    @Test
+    public void gauges_withMaxRequestsPerHostReached_shouldReportQueuedCalls() {
+        final OkHttpClient client = new OkHttpClientBuilder()
+                .isForTest(true)
+                .maxRequestsPerHost(1)
+                .build();
+        final HttpClientGauges gauges = new HttpClientGauges(client);
+        getMockWebServer().enqueue(new MockResponse.Builder()
+                .code(SUCCESS_STATUS_CODE)
+                .headersDelay(500L, TimeUnit.MILLISECONDS)
+                .build());
+        getMockWebServer().enqueue(new MockResponse.Builder().code(SUCCESS_STATUS_CODE).build());
+        final CountDownLatch latch = new CountDownLatch(2);
+        final Callback callback = new Callback() {
+            @Override
+            public void onFailure(final Call call, final IOException ex) {
+                latch.countDown();
+            }
+
+            @Override
+            public void onResponse(final Call call, final Response response) {
+                response.close();
+                latch.countDown();
+            }
+        };
+
+        client.newCall(newRequest()).enqueue(callback);
+        client.newCall(newRequest()).enqueue(callback);
+        final int running = gauges.getRunningCallCount();
+        final int queued = gauges.getQueuedCallCount();
+
+        assertAll(
+                () -> assertEquals(1, running),
+                () -> assertEquals(1, queued),
+                () -> assertTrue(latch.await(5L, TimeUnit.SECONDS)),
+                () -> assertEquals(0, gauges.getQueuedCallCount()));
+    }
+
+    @Test
+    public void gauges_withNullClient_shouldThrowException() {
+        assertThrows(NullPointerException.class, () -> new HttpClientGauges(null));
+    }
+
+    private Request newRequest() {
+        return new Request.Builder().url(getMockWebServerUrl()).build();
+    }
+}
@@ -308,7 +308,7 @@ public class HttpJsonLoggingInterceptorTest {
         when(mockResponse.header(eq(CONTENT_ENCODING))).thenReturn("gzip");
         final BufferedSource mockBufferedSource = mock(BufferedSource.class);
         when(mockBufferedSource.readUtf8()).thenReturn("OriginalJsonFormattedBody");
-        doReturn(mockBufferedSource).when(interceptorUnderTest).newBufferedSource(any(ResponseBody.class));
+        doReturn(mockBufferedSource).when(interceptorUnderTest).newBufferedSource(any(ResponseBody.class), eq("gzip"));
         doReturn("JsonFormattedBody").when(interceptorUnderTest).gsonify(anyString());
         final Response mockWrappedResponse = mock(Response.class);
         final Response.Builder mockBuilder = configureMockResponseBuilder(mockWrappedResponse);
@@ -331,6 +331,19 @@ public class HttpJsonLoggingInterceptorTest {
         }
     }
 
+    @Test
+    @SneakyThrows
+    public void extractResponseBodyAsString_withUnsupportedContentEncoding_shouldReturnExpectedResponse() {
+        configureInterceptorForMethods();
+        configureNewResponseBody("application", "json");
+        when(mockResponse.header(eq(CONTENT_ENCODING))).thenReturn("br");
+        final Pair<String, Response> expected = Pair.of("[Unsupported content encoding: br]", mockResponse);
+
+        final Pair<String, Response> actual = interceptorUnderTest.extractResponseBodyAsString(mockResponse);
+
+        assertEquals(expected, actual);
+    }
+
     @Test
     @SneakyThrows
     public void extractResponseBodyAsString_withJsonFormattedBody_shouldReturnExpectedResposne() {
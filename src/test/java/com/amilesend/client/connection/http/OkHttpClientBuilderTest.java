@@ -18,6 +18,7 @@
 package com.amilesend.client.connection.http;
 
 import com.amilesend.client.connection.ConnectionException;
+import com.amilesend.client.util.VirtualThreads;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import okhttp3.Authenticator;
@@ -26,6 +27,7 @@ import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.Route;
+import okhttp3.TlsVersion;
 import okhttp3.internal.tls.OkHostnameVerifier;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
@@ -33,6 +35,7 @@ import org.mockito.MockedStatic;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSessionContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
 import java.net.InetSocketAddress;
@@ -43,14 +46,18 @@ import java.security.SecureRandom;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
 import java.time.Duration;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doThrow;
@@ -140,6 +147,71 @@ public class OkHttpClientBuilderTest {
                 () -> assertInstanceOf(OkHostnameVerifier.class, actual.hostnameVerifier()));
     }
 
+    @Test
+    public void builder_withSameTrustConfiguration_shouldShareSslContext() {
+        final X509TrustManager trustManager = new NoOpTrustManager();
+
+        final SSLContext first = SslContexts.getOrCreate(trustManager, null, null);
+        new OkHttpClientBuilder().trustManager(trustManager).build();
+        final OkHttpClient other = new OkHttpClientBuilder().trustManager(new NoOpTrustManager()).build();
+
+        assertAll(
+                () -> assertSame(first, SslContexts.getOrCreate(trustManager, null, null)),
+                () -> assertNotSame(
+                        SslContexts.getOrCreate(trustManager, null, null),
+                        SslContexts.getOrCreate(other.x509TrustManager(), null, null)),
+                () -> assertSame(
+                        SslContexts.getDefaultTrustManager(),
+                        new OkHttpClientBuilder().sslSessionCacheSize(100).build().x509TrustManager()),
+                () -> assertNotSame(
+                        SslContexts.getDefaultTrustManager(),
+                        new OkHttpClientBuilder().build().x509TrustManager()));
+    }
+
+    @Test
+    public void builder_withSslSessionSettings_shouldConfigureSessionCache() {
+        final X509TrustManager trustManager = new NoOpTrustManager();
+
+        new OkHttpClientBuilder()
+                .trustManager(trustManager)
+                .sslSessionCacheSize(500)
+                .sslSessionTimeout(Duration.ofMinutes(30L))
+                .build();
+
+        final SSLSessionContext actual =
+                SslContexts.getOrCreate(trustManager, 500, Duration.ofMinutes(30L)).getClientSessionContext();
+        assertAll(
+                () -> assertEquals(500, actual.getSessionCacheSize()),
+                () -> assertEquals(1800, actual.getSessionTimeout()),
+                () -> assertNotSame(
+                        SslContexts.getOrCreate(trustManager, null, null).getClientSessionContext(),
+                        actual));
+    }
+
+    @Test
+    public void builder_withInvalidSslSessionSettings_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> new OkHttpClientBuilder().sslSessionCacheSize(-1)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> new OkHttpClientBuilder().sslSessionTimeout(Duration.ofSeconds(-1L))),
+                () -> assertThrows(NullPointerException.class,
+                        () -> new OkHttpClientBuilder().sslSessionTimeout(null)));
+    }
+
+    @Test
+    public void builder_withTlsConnectionSpec_shouldConfigureClient() {
+        final OkHttpClient actual = new OkHttpClientBuilder()
+                .tlsConnectionSpec(OkHttpClientBuilder.TLS_1_3_FIRST)
+                .build();
+
+        assertAll(
+                () -> assertEquals(List.of(OkHttpClientBuilder.TLS_1_3_FIRST), actual.connectionSpecs()),
+                () -> assertEquals(TlsVersion.TLS_1_3, OkHttpClientBuilder.TLS_1_3_FIRST.tlsVersions().get(0)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> new OkHttpClientBuilder().tlsConnectionSpec(ConnectionSpec.CLEARTEXT)));
+    }
+
     ////////////////////
     // Proxy
     ////////////////////
@@ -306,6 +378,123 @@ public class OkHttpClientBuilderTest {
                 () -> assertEquals(10000, actual.writeTimeoutMillis()));
     }
 
+    ////////////////////
+    // Dispatcher
+    ////////////////////
+
+    @SneakyThrows
+    @Test
+    public void builder_withVirtualThreadDispatcherEnabled_shouldExecuteOnVirtualThreads() {
+        assumeTrue(VirtualThreads.isSupported());
+
+        final OkHttpClient actual = new OkHttpClientBuilder()
+                .isVirtualThreadDispatcherEnabled(true)
+                .build();
+
+        assertTrue(actual.dispatcher()
+                .executorService()
+                .submit(() -> VirtualThreads.isVirtual(Thread.currentThread()))
+                .get());
+    }
+
+    @SneakyThrows
+    @Test
+    public void builder_withVirtualThreadDispatcherDisabled_shouldExecuteOnPlatformThreads() {
+        final OkHttpClient actual = new OkHttpClientBuilder().build();
+
+        assertFalse(actual.dispatcher()
+                .executorService()
+                .submit(() -> VirtualThreads.isVirtual(Thread.currentThread()))
+                .get());
+    }
+
+    @Test
+    public void builder_withDispatcherLimits_shouldConfigureDispatcher() {
+        final OkHttpClient actual = new OkHttpClientBuilder()
+                .maxRequests(100)
+                .maxRequestsPerHost(20)
+                .build();
+
+        assertAll(
+                () -> assertEquals(100, actual.dispatcher().getMaxRequests()),
+                () -> assertEquals(20, actual.dispatcher().getMaxRequestsPerHost()));
+    }
+
+    @SneakyThrows
+    @Test
+    public void builder_withDispatcherLimitsAndVirtualThreads_shouldConfigureDispatcher() {
+        assumeTrue(VirtualThreads.isSupported());
+
+        final OkHttpClient actual = new OkHttpClientBuilder()
+                .isVirtualThreadDispatcherEnabled(true)
+                .maxRequestsPerHost(20)
+                .build();
+
+        assertAll(
+                () -> assertEquals(20, actual.dispatcher().getMaxRequestsPerHost()),
+                () -> assertTrue(actual.dispatcher()
+                        .executorService()
+                        .submit(() -> VirtualThreads.isVirtual(Thread.currentThread()))
+                        .get()));
+    }
+
+    @Test
+    public void builder_withInvalidDispatcherLimits_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> new OkHttpClientBuilder().maxRequests(0)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> new OkHttpClientBuilder().maxRequestsPerHost(0)));
+    }
+
+    ////////////////////
+    // Connection pool
+    ////////////////////
+
+    @Test
+    public void builder_withConnectionPoolAndKeepAlive_shouldConfigureClient() {
+        final OkHttpClient defaultClient = new OkHttpClientBuilder().build();
+        final OkHttpClient actual = new OkHttpClientBuilder()
+                .connectionPool(10, Duration.ofMinutes(1L))
+                .pingInterval(Duration.ofSeconds(15L))
+                .callTimeout(Duration.ofSeconds(30L))
+                .build();
+
+        assertAll(
+                () -> assertNotSame(defaultClient.connectionPool(), actual.connectionPool()),
+                () -> assertEquals(15000, actual.pingIntervalMillis()),
+                () -> assertEquals(30000, actual.callTimeoutMillis()),
+                () -> assertEquals(0, defaultClient.pingIntervalMillis()),
+                () -> assertEquals(0, defaultClient.callTimeoutMillis()));
+    }
+
+    @Test
+    public void builder_withInvalidConnectionPool_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> new OkHttpClientBuilder().connectionPool(-1, Duration.ofMinutes(1L))),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> new OkHttpClientBuilder().connectionPool(1, Duration.ZERO)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> new OkHttpClientBuilder().connectionPool(1, null)));
+    }
+
+    @Test
+    public void builder_withHighThroughputPreset_shouldConfigureClient() {
+        final OkHttpClient actual = new OkHttpClientBuilder()
+                .highThroughputPreset()
+                .maxRequestsPerHost(32)
+                .build();
+
+        assertAll(
+                () -> assertEquals(
+                        OkHttpClientBuilder.HIGH_THROUGHPUT_MAX_REQUESTS,
+                        actual.dispatcher().getMaxRequests()),
+                () -> assertEquals(32, actual.dispatcher().getMaxRequestsPerHost()),
+                () -> assertEquals(
+                        OkHttpClientBuilder.HIGH_THROUGHPUT_PING_INTERVAL.toMillis(),
+                        actual.pingIntervalMillis()));
+    }
+
     @RequiredArgsConstructor
     public static class DummyHostnameVerifier implements HostnameVerifier {
         private final boolean isVerified;
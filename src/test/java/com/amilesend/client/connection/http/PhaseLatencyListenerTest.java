@@ -0,0 +1,87 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection.http;
+
+import com.amilesend.client.FunctionalTestBase;
+import com.amilesend.client.util.LatencyHistogram;
+import lombok.SneakyThrows;
+import mockwebserver3.MockResponse;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PhaseLatencyListenerTest extends FunctionalTestBase {
+    @SneakyThrows
+    @Test
+    public void execute_withListener_shouldRecordPhaseLatencies() {
+        final PhaseLatencyListener listener = new PhaseLatencyListener();
+        final OkHttpClient client = new OkHttpClientBuilder()
+                .isForTest(true)
+                .eventListenerFactory(listener)
+                .build();
+        getMockWebServer().enqueue(new MockResponse.Builder()
+                .code(SUCCESS_STATUS_CODE)
+                .headersDelay(50L, TimeUnit.MILLISECONDS)
+                .body("body")
+                .build());
+        getMockWebServer().enqueue(new MockResponse.Builder().code(SUCCESS_STATUS_CODE).body("body").build());
+        final String host = getMockWebServer().getHostName();
+
+        execute(client);
+        execute(client);
+
+        final Map<PhaseLatencyListener.Tag, LatencyHistogram.Snapshot> actual = listener.snapshot();
+        assertAll(
+                () -> assertSame(listener, client.eventListenerFactory()),
+                () -> assertEquals(2L, count(actual, host, PhaseLatencyListener.Phase.CALL)),
+                () -> assertEquals(2L, count(actual, host, PhaseLatencyListener.Phase.TIME_TO_FIRST_BYTE)),
+                () -> assertEquals(2L, count(actual, host, PhaseLatencyListener.Phase.RESPONSE_BODY)),
+                () -> assertEquals(1L, count(actual, host, PhaseLatencyListener.Phase.CONNECT)),
+                () -> assertTrue(actual.get(new PhaseLatencyListener.Tag(
+                                host, "GET", PhaseLatencyListener.Phase.TIME_TO_FIRST_BYTE))
+                        .getMax()
+                        .toMillis() >= 50L),
+                () -> assertFalse(listener.getHistogram(host, "POST", PhaseLatencyListener.Phase.CALL).isPresent()),
+                () -> assertTrue(listener.getHistogram(host, "GET", PhaseLatencyListener.Phase.CALL).isPresent()));
+    }
+
+    @SneakyThrows
+    private void execute(final OkHttpClient client) {
+        try (final Response response = client.newCall(new Request.Builder().url(getMockWebServerUrl()).build())
+                .execute()) {
+            response.body().string();
+        }
+    }
+
+    private static long count(final Map<PhaseLatencyListener.Tag, LatencyHistogram.Snapshot> snapshots,
+                              final String host,
+                              final PhaseLatencyListener.Phase phase) {
+        final LatencyHistogram.Snapshot snapshot = snapshots.get(new PhaseLatencyListener.Tag(host, "GET", phase));
+        return snapshot == null ? 0L : snapshot.getCount();
+    }
+}
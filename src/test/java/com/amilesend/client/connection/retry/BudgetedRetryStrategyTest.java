@@ -0,0 +1,141 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection.retry;
+
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.ResponseException;
+import lombok.SneakyThrows;
+import okhttp3.Response;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BudgetedRetryStrategyTest {
+    @Mock
+    private Retriable mockCall;
+
+    @Test
+    @SneakyThrows
+    public void invoke_withSuccessAfterRetry_shouldWithdrawAndDeposit() {
+        final RetryBudget budget = RetryBudget.builder().depositRatio(0.5D).initialTokens(1).build();
+        final Response mockResponse = newMockResponse(200);
+        when(mockCall.call()).thenThrow(new IOException("reset")).thenReturn(mockResponse);
+
+        final RetriableCallResponse actual = newStrategy(budget).invoke(mockCall);
+
+        assertAll(
+                () -> assertTrue(actual.isSuccess()),
+                () -> assertEquals(2, actual.getAttempts()),
+                () -> assertEquals(0.5D, budget.getAvailableTokens()),
+                () -> verify(mockCall, times(2)).call());
+    }
+
+    @Test
+    @SneakyThrows
+    public void invoke_withExhaustedBudget_shouldFailFast() {
+        final RetryBudget budget = RetryBudget.builder().initialTokens(0).build();
+        when(mockCall.call()).thenThrow(new IOException("reset"));
+
+        final RetriableCallResponse actual = newStrategy(budget).invoke(mockCall);
+
+        assertAll(
+                () -> assertFalse(actual.isSuccess()),
+                () -> assertEquals(1, actual.getAttempts()),
+                () -> assertEquals(1L, budget.getDeniedCount()),
+                () -> verify(mockCall).onRetryDecision(1, actual.getExceptions().get(0), RetryStrategy.NO_RETRY));
+    }
+
+    @Test
+    @SneakyThrows
+    public void invoke_withSharedBudget_shouldLimitRetriesAcrossStrategies() {
+        final RetryBudget budget = RetryBudget.builder().initialTokens(1).build();
+        final Response mockResponse = newMockResponse(503);
+        when(mockCall.call()).thenReturn(mockResponse);
+
+        final RetriableCallResponse first = newStrategy(budget).invoke(mockCall);
+        final RetriableCallResponse second = newStrategy(budget).invoke(mockCall);
+
+        assertAll(
+                () -> assertEquals(2, first.getAttempts()),
+                () -> assertTrue(first.getExceptions().get(0) instanceof ResponseException),
+                () -> assertEquals(1, second.getAttempts()),
+                () -> assertEquals(1L, budget.getAcquiredCount()),
+                () -> assertEquals(1L, budget.getDeniedCount()));
+    }
+
+    @Test
+    public void nextRetryDelayMs_withNonRetriableException_shouldNotWithdraw() {
+        final RetryBudget budget = RetryBudget.builder().initialTokens(1).build();
+
+        final long actual = newStrategy(budget).nextRetryDelayMs(1, new RequestException("bad"), 0L);
+
+        assertAll(
+                () -> assertEquals(RetryStrategy.NO_RETRY, actual),
+                () -> assertEquals(1.0D, budget.getAvailableTokens()));
+    }
+
+    @Test
+    public void builder_withInvokeOnlyDelegate_shouldThrowException() {
+        final RetryStrategy invokeOnlyDelegate = retriable -> RetriableCallResponse.builder().build();
+        final RetryBudget budget = RetryBudget.builder().build();
+
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> BudgetedRetryStrategy.builder()
+                        .delegate(invokeOnlyDelegate)
+                        .budget(budget)
+                        .build()),
+                () -> assertThrows(NullPointerException.class, () -> BudgetedRetryStrategy.builder()
+                        .budget(budget)
+                        .build()));
+    }
+
+    private static BudgetedRetryStrategy newStrategy(final RetryBudget budget) {
+        return BudgetedRetryStrategy.builder()
+                .delegate(FixedDelayRetryStrategy.builder()
+                        .maxAttempts(2)
+                        .delayMs(1L)
+                        .maxJitterMs(1L)
+                        .build())
+                .budget(budget)
+                .build();
+    }
+
+    private static Response newMockResponse(final int code) {
+        final Response mockResponse = mock(Response.class);
+        final boolean isSuccessful = code / 100 == 2;
+        when(mockResponse.isSuccessful()).thenReturn(isSuccessful);
+        if (!isSuccessful) {
+            when(mockResponse.code()).thenReturn(code);
+        }
+        return mockResponse;
+    }
+}
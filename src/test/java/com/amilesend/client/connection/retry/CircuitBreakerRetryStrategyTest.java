@@ -0,0 +1,260 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection.retry;
+
+import com.amilesend.client.connection.CircuitOpenException;
+import com.amilesend.client.connection.ResponseException;
+import okhttp3.Request;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CircuitBreakerRetryStrategyTest {
+    private static final String HOST = "api.example.com";
+    private static final Request REQUEST = new Request.Builder().url("https://" + HOST + "/items").build();
+    private static final Request OTHER_HOST_REQUEST = new Request.Builder().url("https://other.example.com/").build();
+    private static final long FAST_NANOS = Duration.ofMillis(10L).toNanos();
+    private static final long SLOW_NANOS = Duration.ofSeconds(2L).toNanos();
+
+    private final AtomicLong ticker = new AtomicLong();
+    private final List<String> transitions = new ArrayList<>();
+    private CircuitBreakerRetryStrategy strategyUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        strategyUnderTest = CircuitBreakerRetryStrategy.builder()
+                .failureRateThreshold(0.5D)
+                .slowCallRateThreshold(0.5D)
+                .slowCallDuration(Duration.ofSeconds(1L))
+                .windowSize(10)
+                .minimumCalls(4)
+                .openDuration(Duration.ofSeconds(30L))
+                .halfOpenProbes(2)
+                .listener(new CircuitBreakerListener() {
+                    @Override
+                    public void onStateTransition(final String host, final CircuitState from, final CircuitState to) {
+                        transitions.add(host + ":" + from + "->" + to);
+                    }
+                })
+                .ticker(ticker::get)
+                .build();
+    }
+
+    @Test
+    public void beforeAttempt_withFailureRateReached_shouldOpenCircuitAndReject() {
+        recordAttempt(REQUEST, 200, FAST_NANOS);
+        recordAttempt(REQUEST, 503, FAST_NANOS);
+        recordAttempt(REQUEST, 200, FAST_NANOS);
+        final CircuitState beforeThreshold = strategyUnderTest.getState(HOST);
+        recordAttempt(REQUEST, 0, FAST_NANOS);
+
+        final CircuitOpenException thrown =
+                assertThrows(CircuitOpenException.class, () -> strategyUnderTest.beforeAttempt(REQUEST));
+        final CircuitBreakerRetryStrategy.CircuitStats stats = strategyUnderTest.getStats(HOST).orElseThrow();
+
+        assertAll(
+                () -> assertEquals(CircuitState.CLOSED, beforeThreshold),
+                () -> assertEquals(CircuitState.OPEN, strategyUnderTest.getState(HOST)),
+                () -> assertEquals(HOST, thrown.getHost()),
+                () -> assertEquals(0.5D, stats.getFailureRate()),
+                () -> assertEquals(1L, stats.getRejectedCallCount()),
+                () -> assertEquals(1L, stats.getOpenedCount()),
+                () -> assertEquals(List.of(HOST + ":CLOSED->OPEN"), transitions),
+                () -> assertDoesNotThrow(() -> strategyUnderTest.beforeAttempt(OTHER_HOST_REQUEST)));
+    }
+
+    @Test
+    public void beforeAttempt_withSlowCallRateReached_shouldOpenCircuit() {
+        IntStream.range(0, 2).forEach(i -> recordAttempt(REQUEST, 200, FAST_NANOS));
+        IntStream.range(0, 2).forEach(i -> recordAttempt(REQUEST, 200, SLOW_NANOS));
+
+        assertAll(
+                () -> assertEquals(CircuitState.OPEN, strategyUnderTest.getState(HOST)),
+                () -> assertEquals(0.5D, strategyUnderTest.getStats(HOST).orElseThrow().getSlowCallRate()));
+    }
+
+    @Test
+    public void beforeAttempt_withSuccessfulProbes_shouldCloseCircuit() {
+        openCircuit();
+        ticker.addAndGet(Duration.ofSeconds(30L).toNanos());
+
+        recordAttempt(REQUEST, 200, FAST_NANOS);
+        final Request probe = strategyUnderTest.beforeAttempt(REQUEST);
+        final CircuitState whileProbing = strategyUnderTest.getState(HOST);
+        final boolean isThirdProbeRejected = isRejected();
+        strategyUnderTest.afterAttempt(probe, 200, null, FAST_NANOS);
+
+        assertAll(
+                () -> assertEquals(CircuitState.HALF_OPEN, whileProbing),
+                () -> assertTrue(isThirdProbeRejected),
+                () -> assertEquals(CircuitState.CLOSED, strategyUnderTest.getState(HOST)),
+                () -> assertEquals(0, strategyUnderTest.getStats(HOST).orElseThrow().getBufferedCallCount()),
+                () -> assertEquals(
+                        List.of(HOST + ":CLOSED->OPEN", HOST + ":OPEN->HALF_OPEN", HOST + ":HALF_OPEN->CLOSED"),
+                        transitions));
+    }
+
+    @Test
+    public void beforeAttempt_withFailedProbes_shouldReopenCircuit() {
+        openCircuit();
+        ticker.addAndGet(Duration.ofSeconds(30L).toNanos());
+
+        recordAttempt(REQUEST, 200, FAST_NANOS);
+        recordAttempt(REQUEST, 0, FAST_NANOS);
+
+        assertAll(
+                () -> assertEquals(CircuitState.OPEN, strategyUnderTest.getState(HOST)),
+                () -> assertTrue(isRejected()),
+                () -> assertEquals(2L, strategyUnderTest.getStats(HOST).orElseThrow().getOpenedCount()));
+    }
+
+    @Test
+    public void beforeAttempt_withProbesNotCompletedInTime_shouldReopenCircuit() {
+        openCircuit();
+        ticker.addAndGet(Duration.ofSeconds(30L).toNanos());
+        strategyUnderTest.beforeAttempt(REQUEST);
+        strategyUnderTest.beforeAttempt(REQUEST);
+        final boolean isRejectedWhileProbing = isRejected();
+
+        ticker.addAndGet(Duration.ofSeconds(60L).toNanos());
+        final boolean isRejectedAfterDeadline = isRejected();
+        ticker.addAndGet(Duration.ofSeconds(30L).toNanos());
+
+        assertAll(
+                () -> assertTrue(isRejectedWhileProbing),
+                () -> assertTrue(isRejectedAfterDeadline),
+                () -> assertDoesNotThrow(() -> strategyUnderTest.beforeAttempt(REQUEST)),
+                () -> assertEquals(CircuitState.HALF_OPEN, strategyUnderTest.getState(HOST)),
+                () -> assertEquals(List.of(
+                        HOST + ":CLOSED->OPEN",
+                        HOST + ":OPEN->HALF_OPEN",
+                        HOST + ":HALF_OPEN->OPEN",
+                        HOST + ":OPEN->HALF_OPEN"), transitions));
+    }
+
+    @Test
+    public void afterAttempt_withCallsPermittedBeforeOpen_shouldOnlyCountProbes() {
+        final List<Request> staleCalls = List.of(
+                strategyUnderTest.beforeAttempt(REQUEST),
+                strategyUnderTest.beforeAttempt(REQUEST));
+        openCircuit();
+        ticker.addAndGet(Duration.ofSeconds(30L).toNanos());
+        final Request firstProbe = strategyUnderTest.beforeAttempt(REQUEST);
+        staleCalls.forEach(staleCall -> strategyUnderTest.afterAttempt(staleCall, 200, null, FAST_NANOS));
+        final CircuitState afterStaleOutcomes = strategyUnderTest.getState(HOST);
+        final Request secondProbe = strategyUnderTest.beforeAttempt(REQUEST);
+        strategyUnderTest.afterAttempt(firstProbe, 200, null, FAST_NANOS);
+        strategyUnderTest.afterAttempt(secondProbe, 200, null, FAST_NANOS);
+
+        assertAll(
+                () -> assertEquals(CircuitState.HALF_OPEN, afterStaleOutcomes),
+                () -> assertEquals(CircuitState.CLOSED, strategyUnderTest.getState(HOST)),
+                () -> assertEquals(0, strategyUnderTest.getStats(HOST).orElseThrow().getBufferedCallCount()));
+    }
+
+    @Test
+    public void onAttemptCanceled_withCanceledCall_shouldNotRecordOutcome() {
+        IntStream.range(0, 4)
+                .forEach(i -> strategyUnderTest.onAttemptCanceled(strategyUnderTest.beforeAttempt(REQUEST)));
+        final int numBufferedAfterCanceledCalls =
+                strategyUnderTest.getStats(HOST).orElseThrow().getBufferedCallCount();
+        openCircuit();
+        ticker.addAndGet(Duration.ofSeconds(30L).toNanos());
+        strategyUnderTest.beforeAttempt(REQUEST);
+        strategyUnderTest.onAttemptCanceled(strategyUnderTest.beforeAttempt(REQUEST));
+
+        assertAll(
+                () -> assertEquals(0, numBufferedAfterCanceledCalls),
+                () -> assertEquals(CircuitState.HALF_OPEN, strategyUnderTest.getState(HOST)),
+                () -> assertDoesNotThrow(() -> strategyUnderTest.beforeAttempt(REQUEST)),
+                () -> assertEquals(1L, strategyUnderTest.getStats(HOST).orElseThrow().getOpenedCount()));
+    }
+
+    @Test
+    public void afterAttempt_withRequestNotAdmitted_shouldNotRecordOutcome() {
+        strategyUnderTest.beforeAttempt(REQUEST);
+        IntStream.range(0, 4).forEach(i -> strategyUnderTest.afterAttempt(REQUEST, 503, null, FAST_NANOS));
+
+        assertAll(
+                () -> assertEquals(CircuitState.CLOSED, strategyUnderTest.getState(HOST)),
+                () -> assertEquals(0, strategyUnderTest.getStats(HOST).orElseThrow().getBufferedCallCount()));
+    }
+
+    @Test
+    public void nextRetryDelayMs_withCircuitOpenException_shouldNotRetry() {
+        final CircuitBreakerRetryStrategy strategy = CircuitBreakerRetryStrategy.builder()
+                .delegate(FixedDelayRetryStrategy.builder().delayMs(1L).maxJitterMs(1L).build())
+                .build();
+
+        assertAll(
+                () -> assertEquals(RetryStrategy.NO_RETRY,
+                        strategy.nextRetryDelayMs(1, new CircuitOpenException("open", HOST), 0L)),
+                () -> assertFalse(strategy.isRetriable(new CircuitOpenException("open", HOST))),
+                () -> assertTrue(strategy.nextRetryDelayMs(1, new ResponseException("error"), 0L) >= 1L));
+    }
+
+    @Test
+    public void builder_withInvalidAttributes_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> CircuitBreakerRetryStrategy.builder().failureRateThreshold(0D).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> CircuitBreakerRetryStrategy.builder().slowCallDuration(Duration.ZERO).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> CircuitBreakerRetryStrategy.builder().windowSize(5).minimumCalls(6).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> CircuitBreakerRetryStrategy.builder().halfOpenProbes(0).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> CircuitBreakerRetryStrategy.builder().maxHalfOpenDuration(Duration.ZERO).build()));
+    }
+
+    private void openCircuit() {
+        IntStream.range(0, 4).forEach(i -> recordAttempt(REQUEST, 503, FAST_NANOS));
+        assertEquals(CircuitState.OPEN, strategyUnderTest.getState(HOST));
+    }
+
+    private void recordAttempt(final Request request, final int statusCode, final long elapsedNanos) {
+        strategyUnderTest.afterAttempt(
+                strategyUnderTest.beforeAttempt(request),
+                statusCode,
+                statusCode == 0 ? new IOException("reset") : null,
+                elapsedNanos);
+    }
+
+    private boolean isRejected() {
+        try {
+            strategyUnderTest.beforeAttempt(REQUEST);
+            return false;
+        } catch (final CircuitOpenException ex) {
+            return true;
+        }
+    }
+}
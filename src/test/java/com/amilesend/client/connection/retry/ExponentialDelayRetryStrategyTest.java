@@ -27,6 +27,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
 
@@ -195,6 +196,37 @@ public class ExponentialDelayRetryStrategyTest {
                 () -> verify(mockCall, times(2)).call());
     }
 
+    @Test
+    public void nextRetryDelayMs_withRetriableException_shouldReturnDelay() {
+        strategyUnderTest = ExponentialDelayRetryStrategy.builder()
+                .baseDelayMs(5L)
+                .maxJitterMs(0L)
+                .maxTotalDelayMs(1000L)
+                .build();
+
+        assertAll(
+                () -> assertEquals(10L, strategyUnderTest.nextRetryDelayMs(1, new IOException("Exception"), 0L)),
+                () -> assertEquals(100L,
+                        strategyUnderTest.nextRetryDelayMs(2, new ResponseException("Exception"), 10L)));
+    }
+
+    @Test
+    public void nextRetryDelayMs_withExceededLimitsOrNonRetriableException_shouldReturnNoRetry() {
+        strategyUnderTest = ExponentialDelayRetryStrategy.builder()
+                .baseDelayMs(5L)
+                .maxJitterMs(0L)
+                .maxTotalDelayMs(15L)
+                .build();
+
+        assertAll(
+                () -> assertEquals(RetryStrategy.NO_RETRY,
+                        strategyUnderTest.nextRetryDelayMs(3, new ResponseException("Exception"), 0L)),
+                () -> assertEquals(RetryStrategy.NO_RETRY,
+                        strategyUnderTest.nextRetryDelayMs(2, new ResponseException("Exception"), 10L)),
+                () -> assertEquals(RetryStrategy.NO_RETRY,
+                        strategyUnderTest.nextRetryDelayMs(1, new RequestException("Exception"), 0L)));
+    }
+
     @Test
     @SneakyThrows
     public void invoke_withNullRetriable_shouldThrowException() {
@@ -27,6 +27,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
 
@@ -119,6 +120,28 @@ public class FixedDelayRetryStrategyTest {
                 () -> verify(mockCall, times(3)).call());
     }
 
+    @Test
+    @SneakyThrows
+    public void invoke_withInterruptedRetryDelay_shouldReturnEachExceptionOnce() {
+        final IOException first = new IOException("Exception1");
+        when(mockCall.call()).thenThrow(first);
+        Thread.currentThread().interrupt();
+
+        final RetriableCallResponse actual;
+        try {
+            actual = strategyUnderTest.invoke(mockCall);
+        } finally {
+            assertTrue(Thread.interrupted());
+        }
+
+        assertAll(
+                () -> assertEquals(1, actual.getAttempts()),
+                () -> assertEquals(2, actual.getExceptions().size()),
+                () -> assertEquals(first, actual.getExceptions().get(0)),
+                () -> assertTrue(actual.getExceptions().get(1) instanceof InterruptedException),
+                () -> assertFalse(actual.isSuccess()));
+    }
+
     @Test
     @SneakyThrows
     public void invoke_withRequestException_shouldReturnResponse() {
@@ -162,6 +185,25 @@ public class FixedDelayRetryStrategyTest {
                 () -> verify(mockCall, times(2)).call());
     }
 
+    @Test
+    public void nextRetryDelayMs_withRetriableException_shouldReturnDelay() {
+        strategyUnderTest = FixedDelayRetryStrategy.builder().delayMs(10L).maxJitterMs(0L).build();
+
+        assertAll(
+                () -> assertEquals(10L, strategyUnderTest.nextRetryDelayMs(1, new IOException("Exception"), 0L)),
+                () -> assertEquals(2000L,
+                        strategyUnderTest.nextRetryDelayMs(2, new ThrottledException("Exception", 2L), 0L)));
+    }
+
+    @Test
+    public void nextRetryDelayMs_withMaxAttemptsOrNonRetriableException_shouldReturnNoRetry() {
+        assertAll(
+                () -> assertEquals(RetryStrategy.NO_RETRY,
+                        strategyUnderTest.nextRetryDelayMs(3, new ResponseException("Exception"), 0L)),
+                () -> assertEquals(RetryStrategy.NO_RETRY,
+                        strategyUnderTest.nextRetryDelayMs(1, new RequestException("Exception"), 0L)));
+    }
+
     @Test
     @SneakyThrows
     public void invoke_withNullRetriable_shouldThrowException() {
@@ -0,0 +1,85 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection.retry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RetryBudgetTest {
+    @Test
+    public void tryAcquire_withInitialTokens_shouldDenyOnceExhausted() {
+        final RetryBudget budgetUnderTest = RetryBudget.builder().initialTokens(2).build();
+
+        assertAll(
+                () -> assertTrue(budgetUnderTest.tryAcquire()),
+                () -> assertTrue(budgetUnderTest.tryAcquire()),
+                () -> assertFalse(budgetUnderTest.tryAcquire()),
+                () -> assertEquals(2L, budgetUnderTest.getAcquiredCount()),
+                () -> assertEquals(1L, budgetUnderTest.getDeniedCount()));
+    }
+
+    @Test
+    public void onSuccess_withDepositRatio_shouldRefillFractionOfToken() {
+        final RetryBudget budgetUnderTest = RetryBudget.builder()
+                .depositRatio(0.25D)
+                .initialTokens(0)
+                .build();
+
+        IntStream.range(0, 3).forEach(i -> budgetUnderTest.onSuccess());
+        final boolean deniedBeforeRefill = budgetUnderTest.tryAcquire();
+        budgetUnderTest.onSuccess();
+
+        assertAll(
+                () -> assertFalse(deniedBeforeRefill),
+                () -> assertEquals(1.0D, budgetUnderTest.getAvailableTokens()),
+                () -> assertTrue(budgetUnderTest.tryAcquire()),
+                () -> assertEquals(0.0D, budgetUnderTest.getAvailableTokens()));
+    }
+
+    @Test
+    public void onSuccess_withFullBudget_shouldCapAtMaxTokens() {
+        final RetryBudget budgetUnderTest = RetryBudget.builder()
+                .depositRatio(1.0D)
+                .maxTokens(2)
+                .build();
+
+        IntStream.range(0, 5).forEach(i -> budgetUnderTest.onSuccess());
+
+        assertEquals(2.0D, budgetUnderTest.getAvailableTokens());
+    }
+
+    @Test
+    public void builder_withInvalidAttributes_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> RetryBudget.builder().depositRatio(0D).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> RetryBudget.builder().depositRatio(1.5D).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> RetryBudget.builder().maxTokens(0).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> RetryBudget.builder().maxTokens(5).initialTokens(6).build()));
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.connection.retry;
+
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.client.connection.ThrottledException;
+import com.amilesend.client.connection.retry.RetryMetrics.RetryStats;
+import okhttp3.Request;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class RetryMetricsTest {
+    private static final Request FIRST_HOST_REQUEST =
+            new Request.Builder().url("https://first.example.com/a").build();
+    private static final Request SECOND_HOST_REQUEST =
+            new Request.Builder().url("https://second.example.com/b").build();
+
+    private final RetryMetrics metricsUnderTest = new RetryMetrics();
+
+    @Test
+    public void onAttemptFailed_withRetriesAndOutcomes_shouldTrackPerHost() {
+        metricsUnderTest.onAttemptFailed(FIRST_HOST_REQUEST, 1, new IOException("reset"), 100L);
+        metricsUnderTest.onAttemptFailed(FIRST_HOST_REQUEST, 2, new ThrottledException("throttled", 1L), 1000L);
+        metricsUnderTest.onComplete(FIRST_HOST_REQUEST, 3, 1100L, null);
+        metricsUnderTest.onAttemptFailed(
+                SECOND_HOST_REQUEST, 1, new RequestException("bad"), RetryStrategy.NO_RETRY);
+        metricsUnderTest.onComplete(SECOND_HOST_REQUEST, 1, 0L, new RequestException("bad"));
+
+        final Map<String, RetryStats> actual = metricsUnderTest.snapshot();
+
+        final RetryStats first = actual.get("first.example.com");
+        final RetryStats second = actual.get("second.example.com");
+        assertAll(
+                () -> assertEquals(2, actual.size()),
+                () -> assertEquals(1L, first.getRequestCount()),
+                () -> assertEquals(3L, first.getAttemptCount()),
+                () -> assertEquals(2L, first.getRetryCount()),
+                () -> assertEquals(1L, first.getSuccessCount()),
+                () -> assertEquals(1L, first.getFailedAttemptCounts().get(RetryReason.IO)),
+                () -> assertEquals(1L, first.getFailedAttemptCounts().get(RetryReason.THROTTLED)),
+                () -> assertEquals(Duration.ofMillis(1100L), first.getTotalDelay()),
+                () -> assertEquals(2L, first.getDelays().getCount()),
+                () -> assertEquals(1L, second.getRequestCount()),
+                () -> assertEquals(0L, second.getRetryCount()),
+                () -> assertEquals(1L, second.getFailureCount()),
+                () -> assertEquals(1L, second.getFailedAttemptCounts().get(RetryReason.CLIENT_ERROR)),
+                () -> assertEquals(0L, second.getDelays().getCount()));
+    }
+
+    @Test
+    public void getStats_withUnknownHost_shouldReturnEmpty() {
+        assertFalse(metricsUnderTest.getStats("unknown.example.com").isPresent());
+    }
+
+    @Test
+    public void of_withExceptions_shouldClassifyReason() {
+        assertAll(
+                () -> assertEquals(RetryReason.IO, RetryReason.of(new IOException("reset"))),
+                () -> assertEquals(RetryReason.THROTTLED, RetryReason.of(new ThrottledException("throttled", 1L))),
+                () -> assertEquals(RetryReason.SERVER_ERROR, RetryReason.of(new ResponseException("error"))),
+                () -> assertEquals(RetryReason.CLIENT_ERROR, RetryReason.of(new RequestException("bad"))),
+                () -> assertEquals(RetryReason.OTHER, RetryReason.of(new IllegalStateException("other"))));
+    }
+}
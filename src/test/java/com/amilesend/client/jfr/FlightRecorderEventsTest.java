@@ -0,0 +1,177 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.jfr;
+
+import com.amilesend.client.FunctionalTestBase;
+import com.amilesend.client.connection.Connection;
+import com.amilesend.client.connection.file.LogProgressCallback;
+import com.amilesend.client.connection.file.TransferFileWriter;
+import com.amilesend.client.connection.retry.FixedDelayRetryStrategy;
+import com.amilesend.client.crypto.CryptoHelper;
+import com.amilesend.client.crypto.EncryptedEnvelope;
+import com.amilesend.client.parse.GsonFactoryBase;
+import com.amilesend.client.parse.parser.BasicParser;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.Data;
+import okhttp3.Request;
+import okio.Buffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FlightRecorderEventsTest extends FunctionalTestBase {
+    private static final List<String> EVENT_NAMES = List.of(
+            ExecuteEvent.NAME,
+            RetryAttemptEvent.NAME,
+            RetryDelayEvent.NAME,
+            ParseEvent.NAME,
+            TransferEvent.NAME,
+            CryptoEvent.NAME);
+
+    @TempDir
+    private Path tempDirectory;
+    private Recording recording;
+
+    @BeforeEach
+    public void startRecording() {
+        recording = new Recording();
+        EVENT_NAMES.forEach(name -> recording.enable(name).withThreshold(Duration.ZERO));
+        recording.start();
+    }
+
+    @AfterEach
+    public void closeRecording() {
+        recording.close();
+    }
+
+    @Test
+    public void execute_withRetry_shouldRecordExecuteAttemptDelayAndParseEvents() throws Exception {
+        final Connection<GsonFactoryBase> connection = newConnection(FixedDelayRetryStrategy.builder()
+                .delayMs(10L)
+                .maxJitterMs(0L)
+                .build());
+        setUpMockResponse(SERVICE_ERROR_CODE);
+        setUpMockResponse(SUCCESS_STATUS_CODE, "{\"value\":\"one\"}");
+
+        final TestResponse response = connection.execute(
+                new Request.Builder().url(getMockWebServerUrl() + "/items?secret=value").build(),
+                new BasicParser<>(TestResponse.class));
+
+        final Map<String, List<RecordedEvent>> actual = stopAndRead();
+        final RecordedEvent execute = actual.get(ExecuteEvent.NAME).get(0);
+        final List<RecordedEvent> attempts = actual.get(RetryAttemptEvent.NAME);
+        final RecordedEvent delay = actual.get(RetryDelayEvent.NAME).get(0);
+        final RecordedEvent parse = actual.get(ParseEvent.NAME).get(0);
+        assertAll(
+                () -> assertEquals("one", response.getValue()),
+                () -> assertEquals("GET", execute.getString("method")),
+                () -> assertEquals(getMockWebServerUrl() + "/items", execute.getString("url")),
+                () -> assertEquals(SUCCESS_STATUS_CODE, execute.getInt("statusCode")),
+                () -> assertEquals(2, execute.getInt("attempts")),
+                () -> assertTrue(execute.getBoolean("success")),
+                () -> assertEquals(2, attempts.size()),
+                () -> assertEquals(SERVICE_ERROR_CODE, attempts.get(0).getInt("statusCode")),
+                () -> assertEquals(SUCCESS_STATUS_CODE, attempts.get(1).getInt("statusCode")),
+                () -> assertEquals(1, delay.getInt("attempt")),
+                () -> assertEquals(Duration.ofMillis(10L), delay.getDuration("plannedDelay")),
+                () -> assertTrue(delay.getDuration().toMillis() >= 10L),
+                () -> assertEquals("com.amilesend.client.connection.ResponseException", delay.getString("cause")),
+                () -> assertEquals(BasicParser.class.getName(), parse.getClass("parser").getName()),
+                () -> assertEquals(15L, parse.getLong("bytes")),
+                () -> assertTrue(parse.getBoolean("success")));
+    }
+
+    @Test
+    public void transfer_withDownload_shouldRecordTransferEvent() throws Exception {
+        final byte[] content = "downloaded content".getBytes(StandardCharsets.UTF_8);
+
+        TransferFileWriter.builder()
+                .output(tempDirectory.resolve("download"))
+                .callback(LogProgressCallback.builder().build())
+                .build()
+                .write(new Buffer().write(content), content.length);
+
+        final RecordedEvent actual = stopAndRead().get(TransferEvent.NAME).get(0);
+        assertAll(
+                () -> assertEquals("DOWNLOAD", actual.getString("direction")),
+                () -> assertEquals(content.length, actual.getLong("bytes")),
+                () -> assertEquals(content.length, actual.getLong("totalBytes")),
+                () -> assertTrue(actual.getLong("throughput") > 0L),
+                () -> assertTrue(actual.getBoolean("success")));
+    }
+
+    @Test
+    public void crypto_withEncryptAndDecrypt_shouldRecordCryptoEvents() throws Exception {
+        final CryptoHelper helper = new CryptoHelper("AES/CBC/PKCS5Padding", new SecretKeySpec(new byte[16], "AES"));
+
+        final EncryptedEnvelope envelope = helper.encrypt(new byte[100], "content");
+        helper.decrypt(envelope);
+
+        final List<RecordedEvent> actual = stopAndRead().get(CryptoEvent.NAME);
+        assertAll(
+                () -> assertEquals(2, actual.size()),
+                () -> assertEquals("ENCRYPT", actual.get(0).getString("operation")),
+                () -> assertEquals(100L, actual.get(0).getLong("bytes")),
+                () -> assertEquals("AES/CBC/PKCS5Padding", actual.get(0).getString("algorithm")),
+                () -> assertEquals("DECRYPT", actual.get(1).getString("operation")),
+                () -> assertEquals(112L, actual.get(1).getLong("bytes")),
+                () -> assertTrue(actual.get(1).getBoolean("success")));
+    }
+
+    @Test
+    public void event_withRecordingDisabled_shouldNotCommit() throws Exception {
+        recording.stop();
+        final ExecuteEvent event = ExecuteEvent.start(new Request.Builder().url(getMockWebServerUrl()).build());
+
+        event.finish(SUCCESS_STATUS_CODE, 1, true);
+
+        assertAll(
+                () -> assertFalse(event.isEnabled()),
+                () -> assertNull(event.method));
+    }
+
+    private Map<String, List<RecordedEvent>> stopAndRead() throws Exception {
+        recording.stop();
+        final Path dump = tempDirectory.resolve("recording.jfr");
+        recording.dump(dump);
+        return RecordingFile.readAllEvents(dump).stream()
+                .collect(Collectors.groupingBy(event -> event.getEventType().getName()));
+    }
+
+    @Data
+    public static class TestResponse {
+        private String value;
+    }
+}
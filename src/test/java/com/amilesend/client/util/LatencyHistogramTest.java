@@ -0,0 +1,114 @@
+/*
+ * okhttp-client-extensions - A set of helpful extensions to support okhttp clients
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.client.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LatencyHistogramTest {
+    private final LatencyHistogram histogramUnderTest = new LatencyHistogram();
+
+    @Test
+    public void snapshot_withUniformLatencies_shouldReportPercentilesWithinError() {
+        LongStream.rangeClosed(1L, 1000L).forEach(i -> histogramUnderTest.record(Duration.ofMillis(i)));
+
+        final LatencyHistogram.Snapshot actual = histogramUnderTest.snapshot();
+
+        assertAll(
+                () -> assertEquals(1000L, actual.getCount()),
+                () -> assertWithinError(Duration.ofMillis(500L), actual.getP50()),
+                () -> assertWithinError(Duration.ofMillis(990L), actual.getP99()),
+                () -> assertWithinError(Duration.ofMillis(999L), actual.getP999()),
+                () -> assertEquals(Duration.ofMillis(1000L), actual.getMax()),
+                () -> assertEquals(Duration.ofNanos(500_500_000L), actual.getMean()));
+    }
+
+    @Test
+    public void snapshot_withSmallValues_shouldBeExact() {
+        histogramUnderTest.record(3L);
+        histogramUnderTest.record(-1L);
+        histogramUnderTest.record(63L);
+
+        final LatencyHistogram.Snapshot actual = histogramUnderTest.snapshot();
+
+        assertAll(
+                () -> assertEquals(Duration.ZERO, actual.getValueAtPercentile(0D)),
+                () -> assertEquals(Duration.ofNanos(3L), actual.getP50()),
+                () -> assertEquals(Duration.ofNanos(63L), actual.getValueAtPercentile(100D)));
+    }
+
+    @Test
+    public void snapshot_withValueBeyondTrackableRange_shouldReportMax() {
+        histogramUnderTest.record(Duration.ofHours(1L));
+
+        final LatencyHistogram.Snapshot actual = histogramUnderTest.snapshot();
+
+        assertAll(
+                () -> assertEquals(Duration.ofHours(1L), actual.getMax()),
+                () -> assertTrue(actual.getP50().compareTo(Duration.ofMinutes(15L)) > 0));
+    }
+
+    @Test
+    public void snapshot_withNoLatencies_shouldReturnZero() {
+        final LatencyHistogram.Snapshot actual = histogramUnderTest.snapshot();
+
+        assertAll(
+                () -> assertEquals(0L, actual.getCount()),
+                () -> assertEquals(Duration.ZERO, actual.getP99()),
+                () -> assertEquals(Duration.ZERO, actual.getMean()),
+                () -> assertThrows(IllegalArgumentException.class, () -> actual.getValueAtPercentile(101D)));
+    }
+
+    @Test
+    public void record_withConcurrentRecorders_shouldCountAllLatencies() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; ++i) {
+                futures.add(executor.submit(() -> LongStream.range(0L, 10_000L).forEach(histogramUnderTest::record)));
+            }
+            for (final Future<?> future : futures) {
+                future.get(10L, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertAll(
+                () -> assertEquals(40_000L, histogramUnderTest.getCount()),
+                () -> assertEquals(40_000L, histogramUnderTest.snapshot().getCount()));
+    }
+
+    private static void assertWithinError(final Duration expected, final Duration actual) {
+        final double error = Math.abs(actual.toNanos() - expected.toNanos()) / (double) expected.toNanos();
+        assertTrue(error <= 0.03D, () -> "Expected " + expected + " but was " + actual);
+    }
+}